@@ -0,0 +1,106 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Releases the resources held on behalf of owners that are dropped without being closed.
+ * 
+ * <p>The resources of an owner that has been garbage-collected are released the next time an
+ * owner is watched, which is when a resource is about to be needed again. Owners that are closed
+ * properly should be {@link #watch(Object, Runnable) forgotten}, so that their release action is 
+ * not run. {@link Leaks} is built on this same tracking, with an action that reports the leak 
+ * instead.</p>
+ * 
+ * <p>The release action must not refer to its owner, or the owner will never be collected.</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+final class Abandoned {
+  private final ReferenceQueue<Object> queue;
+  private final Set<Watch> live;
+
+  /**
+   * Ctor.
+   * 
+   * @since 1.1.0
+   */
+  Abandoned() {
+    this.queue = new ReferenceQueue<>();
+    this.live = ConcurrentHashMap.newKeySet();
+  }
+
+  /**
+   * Watches the given owner, and releases the resources of the owners collected so far.
+   * 
+   * @param owner the owner of the resources
+   * @param release releases the owner's resources; run once the owner has been collected
+   * @return forgets about the owner, so that {@code release} is never run; to be run once the 
+   *     owner has released its resources itself
+   * @since 1.1.0
+   */
+  Runnable watch(Object owner, Runnable release) {
+    this.releaseAbandoned();
+    final Watch watch = new Watch(owner, release, this.queue);
+    this.live.add(watch);
+    return () -> {
+      this.live.remove(watch);
+      watch.clear();
+    };
+  }
+
+  /**
+   * Releases the resources of every owner that has been garbage-collected.
+   * 
+   * @since 1.1.0
+   */
+  private void releaseAbandoned() {
+    for (Reference<?> ref = this.queue.poll(); ref != null; ref = this.queue.poll()) {
+      if (this.live.remove(ref)) {
+        ((Watch) ref).release.run();
+      }
+    }
+  }
+
+  /**
+   * The release action of a watched owner.
+   * 
+   * @since 1.1.0
+   */
+  private static final class Watch extends PhantomReference<Object> {
+    private final Runnable release;
+
+    /**
+     * Ctor.
+     * 
+     * @param owner the watched owner
+     * @param release releases the owner's resources
+     * @param queue the queue to which the watch is added once the owner is collected
+     * @since 1.1.0
+     */
+    Watch(Object owner, Runnable release, ReferenceQueue<Object> queue) {
+      super(owner, queue);
+      this.release = release;
+    }
+  }
+}
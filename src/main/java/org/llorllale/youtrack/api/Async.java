@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs blocking calls to the YouTrack server in the background, exposing their outcome as a
+ * {@link CompletableFuture}.
+ * 
+ * <p>Issues, comments, time tracking, attachments and users have non-blocking counterparts that
+ * hold no thread while waiting for the server (see {@link AsyncIssues}); this class is for the
+ * remaining operations, eg.:</p>
+ * <pre>
+ * final Async async = new Async(50);
+ * async.call(() -&gt; issue.update().summary("Deployed to production"))
+ *   .thenCompose(i -&gt; async.call(() -&gt; i.update().description("Released in 1.1.0")));
+ * </pre>
+ * 
+ * <p>Futures of failed calls complete exceptionally with the call's {@link IOException} (eg. 
+ * {@link org.llorllale.youtrack.api.session.UnauthorizedException}) as cause.</p>
+ * 
+ * <p>Note: calls still block one of the executor's threads while waiting for the server, so the
+ * number of calls in flight is bounded by the executor's threads, and by the size of the http
+ * client's connection pool (see {@link org.llorllale.youtrack.api.http.Pooled}). Requests can 
+ * be rate-limited with {@link org.llorllale.youtrack.api.http.Throttled}; with zero patience, 
+ * calls over the rate fail fast instead of holding on to a thread, with a 
+ * {@link org.llorllale.youtrack.api.http.ThrottledException} as cause.</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+public final class Async {
+  private final Executor executor;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param executor the executor on which the calls are run
+   * @since 1.1.0
+   */
+  public Async(Executor executor) {
+    this.executor = executor;
+  }
+
+  /**
+   * Calls are run on a pool of daemon threads, started as needed and discarded once idle.
+   * 
+   * @param threads the maximum number of calls in flight
+   * @since 1.1.0
+   */
+  public Async(int threads) {
+    this(new DaemonPool("youtrack-async", threads));
+  }
+
+  /**
+   * Runs the given call in the background.
+   * 
+   * @param <T> the call's result type
+   * @param call the call
+   * @return the call's eventual result
+   * @since 1.1.0
+   */
+  public <T> CompletableFuture<T> call(Call<T> call) {
+    return CompletableFuture.supplyAsync(
+      () -> {
+        try {
+          return call.get();
+        } catch (IOException e) {
+          throw new CompletionException(e);
+        }
+      },
+      this.executor
+    );
+  }
+
+  /**
+   * A blocking call to the YouTrack server.
+   * 
+   * @param <T> the call's result type
+   * @since 1.1.0
+   */
+  @FunctionalInterface
+  public interface Call<T> {
+    /**
+     * Makes the call.
+     * 
+     * @return the call's result
+     * @throws IOException if the server is unavailable, or if the user is not authorized
+     * @since 1.1.0
+     */
+    T get() throws IOException;
+  }
+}
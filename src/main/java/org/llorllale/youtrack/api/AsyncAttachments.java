@@ -0,0 +1,126 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.InputStream;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.mime.MultipartEntityBuilder;
+import org.llorllale.youtrack.api.http.AsyncTransport;
+import org.llorllale.youtrack.api.session.Login;
+
+/**
+ * Non-blocking counterpart of {@link Attachments}.
+ * 
+ * <p>The {@link Attachment attachments}' contents are downloaded on the same transport, 
+ * {@link org.llorllale.youtrack.api.http.Blocking waiting} for it.</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see AsyncIssues
+ * @since 1.1.0
+ */
+public final class AsyncAttachments {
+  private static final String ATTACHMENTS_PATH = "/issue/%s/attachment";
+  private final Issue issue;
+  private final Login login;
+  private final AsyncClient client;
+
+  /**
+   * Ctor.
+   * 
+   * @param issue owning issue
+   * @param login the user's {@link Login}
+   * @param transport the transport the requests are sent on
+   * @since 1.1.0
+   */
+  public AsyncAttachments(Issue issue, Login login, AsyncTransport transport) {
+    this(issue, login, new AsyncClient(login, transport));
+  }
+
+  /**
+   * Primary ctor.
+   * 
+   * @param issue owning issue
+   * @param login the user's {@link Login}
+   * @param client the client
+   * @since 1.1.0
+   */
+  AsyncAttachments(Issue issue, Login login, AsyncClient client) {
+    this.issue = issue;
+    this.login = login;
+    this.client = client;
+  }
+
+  /**
+   * See {@link Issue#attachments()}.
+   * 
+   * @return the issue's attachments
+   * @since 1.1.0
+   */
+  public CompletableFuture<Stream<Attachment>> stream() {
+    return this.client.execute(
+      session -> new Authenticated(
+        session,
+        new HttpGet(
+          session.baseUrl().toString().concat(String.format(ATTACHMENTS_PATH, this.issue.id()))
+        )
+      ),
+      resp -> new StreamOf<>(
+        new MappedCollection<>(
+          xml -> new XmlAttachment(xml, this.issue, this.login, this.client.blocking()),
+          new XmlsOf("/fileUrls/fileUrl", resp)
+        )
+      )
+    );
+  }
+
+  /**
+   * See {@link Attachments#create(String, String, InputStream)}.
+   * 
+   * @param filename the file's name
+   * @param type the file's MIME type
+   * @param contents the file's contents
+   * @return this object, once the file is attached
+   * @since 1.1.0
+   */
+  public CompletableFuture<AsyncAttachments> create(
+      String filename, String type, InputStream contents
+  ) {
+    return this.client.execute(
+      session -> new Loaded(
+        MultipartEntityBuilder.create()
+          .setBoundary(UUID.randomUUID().toString())
+          .addBinaryBody(filename, contents, ContentType.create(type), filename)
+          .build(),
+        new Authenticated(
+          session,
+          new HttpPost(
+            session.baseUrl().toString().concat(String.format(ATTACHMENTS_PATH, this.issue.id()))
+          )
+        )
+      ),
+      resp -> {
+        resp.released();
+        return this;
+      }
+    );
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.llorllale.youtrack.api.http.AsyncTransport;
+import org.llorllale.youtrack.api.http.Blocking;
+import org.llorllale.youtrack.api.http.Reply;
+import org.llorllale.youtrack.api.session.Login;
+import org.llorllale.youtrack.api.session.Session;
+
+/**
+ * Executes the API's requests on an {@link AsyncTransport}, without blocking the calling thread.
+ * 
+ * <p>Requests are built as Apache requests, and replies are read as {@link Response responses}, 
+ * exactly as the blocking API does; error statuses are reported the same way (eg. 
+ * {@link org.llorllale.youtrack.api.session.UnauthorizedException}), as the cause of the 
+ * future's failure.</p>
+ * 
+ * <p>The user's {@link Session} is obtained from the {@link Login} before each request; logins 
+ * that authenticate on every call should be {@link CachedLogin cached}.</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+final class AsyncClient {
+  private final Login login;
+  private final AsyncTransport transport;
+  private final Supplier<CloseableHttpClient> blocking;
+
+  /**
+   * Ctor.
+   * 
+   * @param login the user's {@link Login}
+   * @param transport the transport
+   * @since 1.1.0
+   */
+  AsyncClient(Login login, AsyncTransport transport) {
+    this.login = login;
+    this.transport = transport;
+    this.blocking = new Memoized<>(() -> new TransportClient(new Blocking(transport)));
+  }
+
+  /**
+   * Executes a request.
+   * 
+   * @param <T> the result's type
+   * @param request builds the request, given the user's session
+   * @param reader reads the result off the response
+   * @return the eventual result
+   * @since 1.1.0
+   */
+  <T> CompletableFuture<T> execute(
+      ExceptionalFunction<Session, HttpUriRequest, IOException> request,
+      ExceptionalFunction<Response, T, IOException> reader
+  ) {
+    return this.send(request).thenApply(
+      reply -> {
+        try {
+          return reader.apply(new HttpResponseAsResponse(new TransportClient.Replied(reply)));
+        } catch (IOException e) {
+          throw new CompletionException(e);
+        } catch (UncheckedIOException e) {
+          throw new CompletionException(e.getCause());
+        }
+      }
+    );
+  }
+
+  /**
+   * The blocking client for the objects handed out by the non-blocking API (eg. an 
+   * {@link Issue}'s own operations), waiting on the same transport.
+   * 
+   * @return the blocking client
+   * @since 1.1.0
+   */
+  Supplier<CloseableHttpClient> blocking() {
+    return this.blocking;
+  }
+
+  /**
+   * Sends a request.
+   * 
+   * @param request builds the request, given the user's session
+   * @return the eventual reply, or a failed future if the request couldn't be built
+   * @since 1.1.0
+   */
+  private CompletableFuture<Reply> send(
+      ExceptionalFunction<Session, HttpUriRequest, IOException> request
+  ) {
+    CompletableFuture<Reply> reply;
+    try {
+      reply = this.transport.execute(
+        TransportClient.request(null, request.apply(this.login.session()))
+      );
+    } catch (IOException e) {
+      reply = new CompletableFuture<>();
+      reply.completeExceptionally(e);
+    }
+    return reply;
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.llorllale.youtrack.api.http.AsyncTransport;
+import org.llorllale.youtrack.api.session.Login;
+
+/**
+ * Non-blocking counterpart of {@link Comments}.
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see AsyncIssues
+ * @since 1.1.0
+ */
+public final class AsyncComments {
+  private static final String BASE_PATH = "/issue/";
+  private final Issue issue;
+  private final Login login;
+  private final AsyncClient client;
+
+  /**
+   * Ctor.
+   * 
+   * @param issue the {@link Issue} on which the comments are attached to
+   * @param login the user's {@link Login}
+   * @param transport the transport the requests are sent on
+   * @since 1.1.0
+   */
+  public AsyncComments(Issue issue, Login login, AsyncTransport transport) {
+    this(issue, login, new AsyncClient(login, transport));
+  }
+
+  /**
+   * Primary ctor.
+   * 
+   * @param issue the {@link Issue} on which the comments are attached to
+   * @param login the user's {@link Login}
+   * @param client the client
+   * @since 1.1.0
+   */
+  AsyncComments(Issue issue, Login login, AsyncClient client) {
+    this.issue = issue;
+    this.login = login;
+    this.client = client;
+  }
+
+  /**
+   * See {@link Comments#stream()}.
+   * 
+   * @return the issue's comments
+   * @since 1.1.0
+   */
+  public CompletableFuture<Stream<Comment>> stream() {
+    return this.client.execute(
+      session -> new Authenticated(
+        session,
+        new HttpGet(
+          session.baseUrl().toString()
+            .concat(BASE_PATH)
+            .concat(this.issue.id())
+            .concat("/comment")
+        )
+      ),
+      resp -> new StreamOf<>(
+        new MappedCollection<>(
+          xml -> new XmlComment(this.issue, this.login, xml, this.client.blocking()),
+          new XmlsOf("//comment", resp)
+        )
+      )
+    );
+  }
+
+  /**
+   * See {@link Comments#post(String)}.
+   * 
+   * @param text the comment's text
+   * @return this object, once the comment is posted
+   * @since 1.1.0
+   */
+  public CompletableFuture<AsyncComments> post(String text) {
+    return this.client.execute(
+      session -> new Authenticated(
+        session,
+        new Loaded(
+          new StringEntity("comment=".concat(text), ContentType.APPLICATION_FORM_URLENCODED),
+          new HttpPost(
+            session.baseUrl().toString()
+              .concat(BASE_PATH)
+              .concat(this.issue.id())
+              .concat("/execute")
+          )
+        )
+      ),
+      resp -> {
+        resp.released();
+        return this;
+      }
+    );
+  }
+
+  /**
+   * See {@link Comments#issue()}.
+   * 
+   * @return the issue
+   * @since 1.1.0
+   */
+  public Issue issue() {
+    return this.issue;
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.client.methods.HttpGet;
+import org.llorllale.youtrack.api.query.All;
+import org.llorllale.youtrack.api.query.Is;
+
+/**
+ * Non-blocking counterpart of {@link IssueCount}.
+ * 
+ * <p>The server is polled until the count is ready, as {@link IssueCount} does, but the pauses 
+ * between attempts are scheduled on a single timer thread shared by all counts, instead of 
+ * holding on to a thread each.</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+final class AsyncCount {
+  private static final int ATTEMPTS = 60;
+  private static final Duration INTERVAL = Duration.ofMillis(500);
+  private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(
+    task -> {
+      final Thread thread = new Thread(task, "youtrack-async-count");
+      thread.setDaemon(true);
+      return thread;
+    }
+  );
+  private final AsyncClient client;
+  private final Query query;
+
+  /**
+   * Ctor.
+   * 
+   * @param project the project whose issues are counted
+   * @param client the client
+   * @param query the issues to count
+   * @since 1.1.0
+   */
+  AsyncCount(Project project, AsyncClient client, Query query) {
+    this.client = client;
+    this.query = new All(new Is("project", project.id()), query);
+  }
+
+  /**
+   * The number of issues matching the query.
+   * 
+   * @return the eventual number of issues matching the query; fails with an 
+   *     {@link IOException} if the count is still not ready after all attempts
+   * @since 1.1.0
+   */
+  CompletableFuture<Long> value() {
+    return this.attempt(1);
+  }
+
+  /**
+   * Asks the server for the count, and again later while it isn't ready.
+   * 
+   * @param attempt the attempt's number
+   * @return the eventual count
+   * @since 1.1.0
+   */
+  private CompletableFuture<Long> attempt(int attempt) {
+    return this.poll().thenCompose(
+      count -> {
+        CompletableFuture<Long> next = CompletableFuture.completedFuture(count);
+        if (count < 0) {
+          next = this.later(attempt + 1);
+        }
+        return next;
+      }
+    );
+  }
+
+  /**
+   * Asks the server for the count again, after a pause.
+   * 
+   * @param attempt the attempt's number
+   * @return the eventual count, or a failed future if no attempts are left
+   * @since 1.1.0
+   */
+  private CompletableFuture<Long> later(int attempt) {
+    final CompletableFuture<Void> pause = new CompletableFuture<>();
+    if (attempt > ATTEMPTS) {
+      pause.completeExceptionally(
+        new IOException(
+          String.format("Issue count still not ready after %d attempts", ATTEMPTS)
+        )
+      );
+    } else {
+      TIMER.schedule(() -> pause.complete(null), INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+    return pause.thenCompose(ready -> this.attempt(attempt));
+  }
+
+  /**
+   * Asks the server for the count.
+   * 
+   * @return the eventual count, or a negative number if it isn't ready yet
+   * @since 1.1.0
+   */
+  private CompletableFuture<Long> poll() {
+    return this.client.execute(
+      session -> new Authenticated(
+        session,
+        new HttpGet(
+          new UncheckedUriBuilder(
+            session.baseUrl().toString().concat("/issue/count")
+          ).param("filter", this.query.asString())
+            .build()
+        )
+      ),
+      resp -> Long.parseLong(new XmlOf(resp).textOf("/int").get().trim())
+    );
+  }
+}
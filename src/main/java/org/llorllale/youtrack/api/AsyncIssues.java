@@ -0,0 +1,205 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPut;
+import org.llorllale.youtrack.api.http.AsyncTransport;
+import org.llorllale.youtrack.api.query.Ids;
+import org.llorllale.youtrack.api.session.Login;
+
+/**
+ * Non-blocking counterpart of {@link Issues}.
+ * 
+ * <p>Requests are sent on an {@link AsyncTransport}, so no thread waits on the server while they
+ * are in flight, eg.:</p>
+ * <pre>
+ * final AsyncApache transport = new AsyncApache();
+ * new AsyncIssues(project, login, transport).get("TP-1")
+ *   .thenCompose(issue -&gt; new AsyncComments(issue.get(), login, transport).post("Deployed"));
+ * </pre>
+ * 
+ * <p>Futures complete exceptionally with the {@link java.io.IOException} thrown by the blocking 
+ * counterpart, if any, as cause. The {@link Issue issues} handed out run their own operations 
+ * on the same transport, {@link org.llorllale.youtrack.api.http.Blocking waiting} for it.</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see AsyncComments
+ * @see AsyncTimeTracking
+ * @see AsyncAttachments
+ * @see AsyncUsers
+ * @since 1.1.0
+ */
+public final class AsyncIssues {
+  private static final int CHUNK = 50;
+  private final Project project;
+  private final Login login;
+  private final AsyncClient client;
+
+  /**
+   * Ctor.
+   * 
+   * @param project the parent {@link Project}
+   * @param login the user's {@link Login}
+   * @param transport the transport the requests are sent on
+   * @since 1.1.0
+   */
+  public AsyncIssues(Project project, Login login, AsyncTransport transport) {
+    this.project = project;
+    this.login = login;
+    this.client = new AsyncClient(login, transport);
+  }
+
+  /**
+   * The parent {@link Project}.
+   * 
+   * @return the project
+   * @since 1.1.0
+   */
+  public Project project() {
+    return this.project;
+  }
+
+  /**
+   * See {@link Issues#get(String)}.
+   * 
+   * @param id the issue's id
+   * @return the {@link Issue} with the given id, if it exists
+   * @since 1.1.0
+   */
+  public CompletableFuture<Optional<Issue>> get(String id) {
+    return this.client.execute(
+      session -> new Authenticated(
+        session,
+        new HttpGet(session.baseUrl().toString().concat("/issue/").concat(id))
+      ),
+      resp -> Optional.of(new XmlOf(resp))
+        .filter(x -> !x.child("//error").isPresent())
+        .map(this::issue)
+    );
+  }
+
+  /**
+   * See {@link Issues#get(Collection)}.
+   * 
+   * <p>Chunks of up to 50 ids are searched for concurrently, each with a single request.</p>
+   * 
+   * @param ids the issues' ids
+   * @return every id mapped to its {@link Issue}, or to an empty optional if it doesn't exist
+   * @since 1.1.0
+   */
+  public CompletableFuture<Map<String, Optional<Issue>>> get(Collection<String> ids) {
+    final List<String> unique = new ArrayList<>(new LinkedHashSet<>(ids));
+    final List<CompletableFuture<List<Issue>>> pending = new ArrayList<>();
+    for (int from = 0; from < unique.size(); from += CHUNK) {
+      pending.add(this.search(unique.subList(from, Math.min(from + CHUNK, unique.size()))));
+    }
+    return CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0])).thenApply(
+      done -> {
+        final Map<String, Issue> fetched = new HashMap<>();
+        pending.forEach(chunk -> chunk.join().forEach(issue -> fetched.put(issue.id(), issue)));
+        final Map<String, Optional<Issue>> result = new LinkedHashMap<>();
+        unique.forEach(id -> result.put(id, Optional.ofNullable(fetched.get(id))));
+        return result;
+      }
+    );
+  }
+
+  /**
+   * See {@link Issues#count(Query)}.
+   * 
+   * @param query the search query
+   * @return the number of matching issues
+   * @since 1.1.0
+   */
+  public CompletableFuture<Long> count(Query query) {
+    return new AsyncCount(this.project, this.client, query).value();
+  }
+
+  /**
+   * See {@link Issues#create(String, String)}.
+   * 
+   * @param summary the issue's summary
+   * @param description the issue's description
+   * @return the newly-created {@link Issue}
+   * @since 1.1.0
+   */
+  public CompletableFuture<Issue> create(String summary, String description) {
+    return this.client.execute(
+      session -> new Authenticated(
+        session,
+        new HttpPut(
+          new UncheckedUriBuilder(session.baseUrl().toString().concat("/issue"))
+            .param("project", this.project.id())
+            .param("summary", summary)
+            .paramIfPresent("description", Optional.ofNullable(description))
+            .build()
+        )
+      ),
+      resp -> new SubstringAfterLast(
+        resp.released().getFirstHeader("Location").getValue(), "/"
+      ).get()
+    ).thenCompose(this::get).thenApply(Optional::get);
+  }
+
+  /**
+   * Searches for the issues with the given ids.
+   * 
+   * @param ids the ids
+   * @return the issues found
+   * @since 1.1.0
+   */
+  private CompletableFuture<List<Issue>> search(List<String> ids) {
+    return this.client.execute(
+      session -> new Authenticated(
+        session,
+        new HttpGet(
+          new UncheckedUriBuilder(
+            session.baseUrl().toString().concat("/issue/byproject/").concat(this.project.id())
+          ).param("filter", new Ids(ids).asString())
+            .param("after", "0")
+            .param("max", String.valueOf(ids.size()))
+            .build()
+        )
+      ),
+      resp -> new XmlsOf("/issues/issue", resp).stream()
+        .map(this::issue)
+        .collect(Collectors.toList())
+    );
+  }
+
+  /**
+   * The issue, as received from the server.
+   * 
+   * @param xml the issue's xml
+   * @return the issue
+   * @since 1.1.0
+   */
+  private Issue issue(Xml xml) {
+    return new XmlIssue(this.project, this.login, xml, this.client.blocking());
+  }
+}
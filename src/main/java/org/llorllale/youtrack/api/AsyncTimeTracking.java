@@ -0,0 +1,145 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.llorllale.youtrack.api.http.AsyncTransport;
+import org.llorllale.youtrack.api.session.Login;
+
+/**
+ * Non-blocking counterpart of {@link IssueTimeTracking}.
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see AsyncIssues
+ * @since 1.1.0
+ */
+public final class AsyncTimeTracking {
+  private static final String PATH_TEMPLATE = "/issue/%s/timetracking/workitem";
+  private final Issue issue;
+  private final AsyncClient client;
+
+  /**
+   * Ctor.
+   * 
+   * @param issue the {@link Issue} to which the entries are attached to
+   * @param login the user's {@link Login}
+   * @param transport the transport the requests are sent on
+   * @since 1.1.0
+   */
+  public AsyncTimeTracking(Issue issue, Login login, AsyncTransport transport) {
+    this(issue, new AsyncClient(login, transport));
+  }
+
+  /**
+   * Primary ctor.
+   * 
+   * @param issue the {@link Issue} to which the entries are attached to
+   * @param client the client
+   * @since 1.1.0
+   */
+  AsyncTimeTracking(Issue issue, AsyncClient client) {
+    this.issue = issue;
+    this.client = client;
+  }
+
+  /**
+   * See {@link IssueTimeTracking#stream()}.
+   * 
+   * @return the issue's entries
+   * @since 1.1.0
+   */
+  public CompletableFuture<Stream<TimeTrackEntry>> stream() {
+    return this.client.execute(
+      session -> new Authenticated(
+        session,
+        new HttpGet(
+          session.baseUrl().toString().concat(String.format(PATH_TEMPLATE, this.issue.id()))
+        )
+      ),
+      resp -> new StreamOf<>(
+        new MappedCollection<>(
+          xml -> new XmlTimeTrackEntry(this.issue, xml),
+          new XmlsOf("/workItems/workItem", resp)
+        )
+      )
+    );
+  }
+
+  /**
+   * See {@link IssueTimeTracking#create(Duration)}.
+   * 
+   * @param duration the entry's duration
+   * @return this object, once the entry is created
+   * @since 1.1.0
+   */
+  public CompletableFuture<AsyncTimeTracking> create(Duration duration) {
+    return this.create(LocalDate.now(), duration, null, null);
+  }
+
+  /**
+   * See {@link IssueTimeTracking#create(LocalDate, Duration, String, TimeTrackEntryType)}.
+   * 
+   * @param date the entry's date
+   * @param duration the entry's duration
+   * @param description the entry's description, or {@code null} for none
+   * @param type the entry's type, or {@code null} for none
+   * @return this object, once the entry is created
+   * @since 1.1.0
+   */
+  public CompletableFuture<AsyncTimeTracking> create(
+      LocalDate date,
+      Duration duration,
+      String description,
+      TimeTrackEntryType type
+  ) {
+    return this.client.execute(
+      session -> new Authenticated(
+        session,
+        new Loaded(
+          new StringEntity(
+            DefaultIssueTimeTracking.toXmlString(date, duration, description, type),
+            ContentType.APPLICATION_XML
+          ),
+          new HttpPost(
+            session.baseUrl().toString().concat(String.format(PATH_TEMPLATE, this.issue.id()))
+          )
+        )
+      ),
+      resp -> {
+        resp.released();
+        return this;
+      }
+    );
+  }
+
+  /**
+   * The {@link Issue} to which the entries are attached to.
+   * 
+   * @return the issue
+   * @since 1.1.0
+   */
+  public Issue issue() {
+    return this.issue;
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.http.client.methods.HttpGet;
+import org.llorllale.youtrack.api.http.AsyncTransport;
+import org.llorllale.youtrack.api.session.Login;
+
+/**
+ * Non-blocking counterpart of {@link UsersOfProject}.
+ * 
+ * <p>The project's assignees are fetched concurrently, rather than one after the other.</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see AsyncIssues
+ * @since 1.1.0
+ */
+public final class AsyncUsers {
+  private final Project project;
+  private final AsyncClient client;
+
+  /**
+   * Ctor.
+   * 
+   * @param project the {@link Project} in scope
+   * @param login the user's {@link Login}
+   * @param transport the transport the requests are sent on
+   * @since 1.1.0
+   */
+  public AsyncUsers(Project project, Login login, AsyncTransport transport) {
+    this(project, new AsyncClient(login, transport));
+  }
+
+  /**
+   * Primary ctor.
+   * 
+   * @param project the {@link Project} in scope
+   * @param client the client
+   * @since 1.1.0
+   */
+  AsyncUsers(Project project, AsyncClient client) {
+    this.project = project;
+    this.client = client;
+  }
+
+  /**
+   * See {@link UsersOfProject#project()}.
+   * 
+   * @return the project
+   * @since 1.1.0
+   */
+  public Project project() {
+    return this.project;
+  }
+
+  /**
+   * See {@link UsersOfProject#user(String)}.
+   * 
+   * @param login the user's login
+   * @return the user
+   * @since 1.1.0
+   */
+  public CompletableFuture<User> user(String login) {
+    return this.client.execute(
+      session -> new Authenticated(
+        session,
+        new HttpGet(session.baseUrl().toString().concat("/user/").concat(login))
+      ),
+      resp -> new XmlUser(new XmlsOf("/user", resp).stream().findAny().get())
+    );
+  }
+
+  /**
+   * See {@link UsersOfProject#assignees()}.
+   * 
+   * @return the users that can be assigned to the project's issues
+   * @since 1.1.0
+   */
+  public CompletableFuture<Stream<User>> assignees() {
+    return this.client.execute(
+      session -> new Authenticated(
+        session,
+        new HttpGet(
+          session.baseUrl().toString().concat("/admin/project/").concat(this.project.id())
+        )
+      ),
+      resp -> new XmlOf(resp).children("//assigneesLogin/sub").stream()
+        .map(xml -> this.user(xml.textOf("@value").get()))
+        .collect(Collectors.toList())
+    ).thenCompose(
+      users -> CompletableFuture.allOf(users.toArray(new CompletableFuture<?>[0]))
+        .thenApply(done -> users.stream().map(CompletableFuture::join))
+    );
+  }
+}
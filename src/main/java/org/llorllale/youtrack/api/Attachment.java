@@ -46,6 +46,8 @@ public interface Attachment {
 
   /**
    * The contents of this attachment.
+   * 
+   * <p>The connection to the server is held until the stream is closed.</p>
    * @return the contents
    * @throws IOException if the server is unavailable
    * @since 1.1.0
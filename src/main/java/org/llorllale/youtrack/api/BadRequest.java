@@ -52,4 +52,9 @@ final class BadRequest implements Response {
 
     return this.response.httpResponse();
   }
+
+  @Override
+  public void close() throws IOException {
+    this.response.close();
+  }
 }
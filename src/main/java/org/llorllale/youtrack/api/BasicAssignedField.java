@@ -16,30 +16,31 @@
 
 package org.llorllale.youtrack.api;
 
+import java.util.Optional;
+
 /**
- * Combines and adapts a given {@link Field} and a given 
- * {@link org.llorllale.youtrack.api.jaxb.Field} into an {@link AssignedField}.
+ * Combines a given {@link Field} and its value into an {@link AssignedField}.
  *
  * @author George Aristy (george.aristy@gmail.com)
- * @since 0.8.0
+ * @since 1.1.0
  */
-final class XmlAssignedField implements AssignedField {
+final class BasicAssignedField implements AssignedField {
   private final Field field;
   private final Issue issue;
-  private final Xml xml;
+  private final Optional<String> value;
 
   /**
    * Ctor.
    * 
    * @param field the {@link Field} to adapt
    * @param issue the parent {@link Issue}
-   * @param xml the jaxb instance
-   * @since 0.8.0
+   * @param value the field's value, if it has one
+   * @since 1.1.0
    */
-  XmlAssignedField(Field field, Issue issue, Xml xml) {
+  BasicAssignedField(Field field, Issue issue, Optional<String> value) {
     this.field = field;
     this.issue = issue;
-    this.xml = xml;
+    this.value = value;
   }
 
   @Override
@@ -47,9 +48,15 @@ final class XmlAssignedField implements AssignedField {
     return this.issue;
   }
 
+  /**
+   * {@inheritDoc}
+   * 
+   * @throws java.util.NoSuchElementException if the field has a {@code valueId} but no 
+   *     {@code value}
+   */
   @Override
   public FieldValue value() {
-    return new XmlFieldValue(this.xml.child("value").get(), this);
+    return new BasicFieldValue(this.value.get(), this);
   }
 
   @Override
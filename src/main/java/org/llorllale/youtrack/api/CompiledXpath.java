@@ -0,0 +1,59 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+
+/**
+ * Compiles xpath expressions, caching the results.
+ * 
+ * <p>The entities in this API evaluate the same handful of expressions (eg. {@code @id}) over and 
+ * over again. Looking up an {@link XPathFactory} and compiling those expressions each time is 
+ * far more expensive than evaluating them, so compiled expressions are kept in a bounded, 
+ * least-recently-used cache.</p>
+ * 
+ * <p>Neither {@link XPath} nor {@link XPathExpression} are thread-safe, therefore each thread 
+ * gets its own {@link XPath} and its own cache.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+final class CompiledXpath 
+    implements ExceptionalFunction<String, XPathExpression, XPathExpressionException> {
+  private static final int CAPACITY = 256;
+  private static final ThreadLocal<XPath> XPATH = 
+      ThreadLocal.withInitial(() -> XPathFactory.newInstance().newXPath());
+  private static final ThreadLocal<Map<String, XPathExpression>> CACHE = 
+      ThreadLocal.withInitial(() -> new LinkedHashMap<>(CAPACITY, 1, true));
+
+  @Override
+  public XPathExpression apply(String xpath) throws XPathExpressionException {
+    final Map<String, XPathExpression> cache = CACHE.get();
+    if (!cache.containsKey(xpath)) {
+      if (cache.size() == CAPACITY) {
+        cache.remove(cache.keySet().iterator().next());
+      }
+      cache.put(xpath, XPATH.get().compile(xpath));
+    }
+    return cache.get(xpath);
+  }
+}
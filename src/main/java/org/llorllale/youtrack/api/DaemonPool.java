@@ -0,0 +1,60 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A pool of daemon threads on which requests are executed in the background.
+ * 
+ * <p>No threads are started until needed, and threads are discarded as soon as they fall idle,
+ * so that pools that are no longer used don't hold on to them.</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+final class DaemonPool implements Executor {
+  private static final long KEEPALIVE = 1L;
+  private final ThreadPoolExecutor threads;
+
+  /**
+   * Ctor.
+   * 
+   * @param name the name given to the pool's threads
+   * @param size the maximum number of threads
+   * @since 1.1.0
+   */
+  DaemonPool(String name, int size) {
+    this.threads = new ThreadPoolExecutor(
+      size, size, KEEPALIVE, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+      task -> {
+        final Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        return thread;
+      }
+    );
+    this.threads.allowCoreThreadTimeOut(true);
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    this.threads.execute(command);
+  }
+}
@@ -98,7 +98,7 @@ final class DefaultAttachments extends StreamEnvelope<Attachment> implements Att
           )
         )
       )
-    ).httpResponse();
+    ).released();
     return new DefaultAttachments(this.issue, this.login, this.client);
   }
 }
@@ -101,7 +101,7 @@ final class DefaultComments implements Comments {
           )
         )
       )
-    ).httpResponse();
+    ).released();
     return new DefaultComments(this.login, this.issue(), this.httpClient);
   }
 
@@ -131,7 +131,7 @@ final class DefaultIssueTimeTracking implements IssueTimeTracking {
           this.login.session(),
           new Loaded(
             new StringEntity(
-              this.toXmlString(date, duration, description, type),
+              toXmlString(date, duration, description, type),
               ContentType.APPLICATION_XML
             ),
             new HttpPost(
@@ -141,7 +141,7 @@ final class DefaultIssueTimeTracking implements IssueTimeTracking {
           )
         )
       )
-    ).httpResponse();
+    ).released();
     return new DefaultIssueTimeTracking(this.login, this.issue, this.httpClient);
   }
 
@@ -154,7 +154,7 @@ final class DefaultIssueTimeTracking implements IssueTimeTracking {
    * @param type the entry's type
    * @return the XML payload to be set as the HTTP request's entity
    */
-  private String toXmlString(
+  static String toXmlString(
       LocalDate date, 
       Duration duration, 
       String description, 
@@ -27,7 +27,9 @@ import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPut;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.llorllale.youtrack.api.paging.Fixed;
 import org.llorllale.youtrack.api.session.Login;
+import org.llorllale.youtrack.api.session.Session;
 
 import org.llorllale.youtrack.api.session.UnauthorizedException;
 
@@ -38,21 +40,44 @@ import org.llorllale.youtrack.api.session.UnauthorizedException;
  * @since 0.4.0
  */
 final class DefaultIssues implements Issues {
+  private static final Query EVERYTHING = () -> "";
   private final Project project;
   private final Login login;
   private final Supplier<CloseableHttpClient> httpClient;
+  private final Paging paging;
 
   /**
    * Primary ctor.
    * @param project the parent {@link Project}
    * @param login the user's {@link Login}
    * @param httpClient the {@link HttpClient} to use
-   * @since 0.4.0
+   * @param paging the default {@link Paging} for {@link #stream()}
+   * @since 1.1.0
    */
-  DefaultIssues(Project project, Login login, Supplier<CloseableHttpClient> httpClient) {
+  DefaultIssues(
+      Project project, 
+      Login login, 
+      Supplier<CloseableHttpClient> httpClient, 
+      Paging paging
+  ) {
     this.project = project;
     this.login = login;
     this.httpClient = httpClient;
+    this.paging = paging;
+  }
+
+  /**
+   * Ctor.
+   * 
+   * <p>Issues are {@link #stream() streamed} in {@link Fixed fixed} pages of 10 issues.</p>
+   * 
+   * @param project the parent {@link Project}
+   * @param login the user's {@link Login}
+   * @param httpClient the {@link HttpClient} to use
+   * @since 0.4.0
+   */
+  DefaultIssues(Project project, Login login, Supplier<CloseableHttpClient> httpClient) {
+    this(project, login, httpClient, new Fixed());
   }
 
   @Override
@@ -62,35 +87,66 @@ final class DefaultIssues implements Issues {
 
   @Override
   public Stream<Issue> stream() throws IOException, UnauthorizedException {
-    final int size = 10;
-    return new StreamOf<>(
-      new Pages<>(
-        size,
-        new UncheckedIoFunction<>(n ->
-          new Authenticated(
-            this.login.session(), 
-            new HttpGet(
-              new UncheckedUriBuilder(
-                this.login.session().baseUrl().toString()
-                  .concat("/issue/byproject/")
-                  .concat(this.project().id())
-              ).param("after", String.valueOf(n))
-                .build()
-            )
-          )
-        ),
-        resp -> 
-          new MappedCollection<>(
-            new UncheckedIoFunction<>(
-              xml -> new XmlIssue(this.project(), this.login, xml, this.httpClient)
+    return this.stream(this.paging);
+  }
+
+  @Override
+  public Stream<Issue> stream(Paging pages) throws IOException, UnauthorizedException {
+    return this.stream(EVERYTHING, pages);
+  }
+
+  @Override
+  public Stream<Issue> stream(Query query) throws IOException, UnauthorizedException {
+    return this.stream(query, this.paging);
+  }
+
+  @Override
+  public Stream<Issue> stream(Query query, Paging pages) 
+      throws IOException, UnauthorizedException {
+    final Session session = this.login.session();
+    final Optional<String> filter = Optional.of(query.asString()).filter(q -> !q.isEmpty());
+    return new PagedStream<>(
+      sizes -> 
+        new Pages<>(
+          sizes,
+          (offset, size) ->
+            new Authenticated(
+              session, 
+              new HttpGet(
+                new UncheckedUriBuilder(
+                  session.baseUrl().toString()
+                    .concat("/issue/byproject/")
+                    .concat(this.project().id())
+                ).paramIfPresent("filter", filter)
+                  .param("after", String.valueOf(offset))
+                  .param("max", String.valueOf(size))
+                  .build()
+              )
             ),
-            new XmlsOf("/issues/issue", resp)
-          ),
-        this.httpClient
-      )
+          resp -> 
+            new MappedIterator<>(
+              new UncheckedIoFunction<>(
+                xml -> new XmlIssue(this.project(), this.login, xml, this.httpClient)
+              ),
+              new StreamedXmls("/issues/issue", resp)
+            ),
+          this.httpClient
+        ),
+      pages,
+      () -> new IssueCount(this.project(), this.login, this.httpClient, query).known()
     );
   }
 
+  @Override
+  public long count() throws IOException, UnauthorizedException {
+    return this.count(EVERYTHING);
+  }
+
+  @Override
+  public long count(Query query) throws IOException, UnauthorizedException {
+    return new IssueCount(this.project(), this.login, this.httpClient, query).value();
+  }
+
   @Override
   public Optional<Issue> get(String issueId) throws IOException, UnauthorizedException {
     return Optional.of(
@@ -137,7 +193,7 @@ final class DefaultIssues implements Issues {
               )
             )
           )
-        ).httpResponse().getFirstHeader("Location").getValue(),
+        ).released().getFirstHeader("Location").getValue(),
         "/"
       ).get()
     ).get().update().fields(fields);
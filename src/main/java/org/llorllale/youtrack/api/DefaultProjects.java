@@ -25,6 +25,7 @@ import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPut;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.llorllale.youtrack.api.paging.Fixed;
 import org.llorllale.youtrack.api.session.Login;
 
 import org.llorllale.youtrack.api.session.UnauthorizedException;
@@ -40,25 +41,44 @@ final class DefaultProjects implements Projects {
   private final YouTrack youtrack;
   private final Login login;
   private final Supplier<CloseableHttpClient> httpClient;
+  private final Paging paging;
 
   /**
    * Primary ctor.
    * @param youtrack the parent {@link YouTrack}
    * @param login the user's {@link Login}
    * @param httpClient the {@link HttpClient} to use
-   * @since 0.4.0
+   * @param paging the default {@link Paging} for the projects' {@link Project#issues() issues}
+   * @since 1.1.0
    */
-  DefaultProjects(YouTrack youtrack, Login login, Supplier<CloseableHttpClient> httpClient) {
+  DefaultProjects(
+      YouTrack youtrack, 
+      Login login, 
+      Supplier<CloseableHttpClient> httpClient, 
+      Paging paging
+  ) {
     this.youtrack = youtrack;
     this.login = login;
     this.httpClient = httpClient;
+    this.paging = paging;
+  }
+
+  /**
+   * Ctor.
+   * @param youtrack the parent {@link YouTrack}
+   * @param login the user's {@link Login}
+   * @param httpClient the {@link HttpClient} to use
+   * @since 0.4.0
+   */
+  DefaultProjects(YouTrack youtrack, Login login, Supplier<CloseableHttpClient> httpClient) {
+    this(youtrack, login, httpClient, new Fixed());
   }
 
   @Override
   public Stream<Project> stream() throws IOException, UnauthorizedException {
     return new StreamOf<>(
       new MappedCollection<>(
-        xml -> new XmlProject(this.youtrack, this.login, xml, this.httpClient),
+        xml -> new XmlProject(this.youtrack, this.login, xml, this.httpClient, this.paging),
         new XmlsOf(
           "/projects/project",
           new HttpResponseAsResponse(
@@ -79,7 +99,7 @@ final class DefaultProjects implements Projects {
   @Override
   public Optional<Project> get(String id) throws IOException, UnauthorizedException {
     return new MappedCollection<Xml, Project>(
-      xml -> new XmlProject(this.youtrack, this.login, xml, this.httpClient),
+      xml -> new XmlProject(this.youtrack, this.login, xml, this.httpClient, this.paging),
       new XmlsOf(
         "/project",
         new HttpResponseAsResponse(
@@ -119,7 +139,7 @@ final class DefaultProjects implements Projects {
               )
             )
           )
-        ).httpResponse().getFirstHeader("Location").getValue(),
+        ).released().getFirstHeader("Location").getValue(),
         "/"
       ).get()
     ).get();
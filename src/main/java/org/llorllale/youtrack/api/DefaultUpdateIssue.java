@@ -115,7 +115,7 @@ final class DefaultUpdateIssue implements UpdateIssue {
           )
         )
       )
-    ).httpResponse();
+    ).released();
     return this.issue.refresh();
   }
 
@@ -143,7 +143,7 @@ final class DefaultUpdateIssue implements UpdateIssue {
           )
         )
       )
-    ).httpResponse();
+    ).released();
     return this.issue.refresh();
   }
 }
@@ -20,7 +20,12 @@ import java.util.function.Supplier;
 import org.apache.http.client.HttpClient;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.llorllale.youtrack.api.http.Apache;
 import org.llorllale.youtrack.api.http.Client;
+import org.llorllale.youtrack.api.http.Pool;
+import org.llorllale.youtrack.api.http.Telemetry;
+import org.llorllale.youtrack.api.http.Transport;
+import org.llorllale.youtrack.api.paging.Fixed;
 import org.llorllale.youtrack.api.session.Login;
 
 /**
@@ -31,6 +36,8 @@ import org.llorllale.youtrack.api.session.Login;
 public final class DefaultYouTrack implements YouTrack {
   private final Login login;
   private final Supplier<CloseableHttpClient> client;
+  private final Paging paging;
+  private final Telemetry telemetry;
 
   /**
    * Ctor.
@@ -45,15 +52,106 @@ public final class DefaultYouTrack implements YouTrack {
    * Ctor.
    * @param login the user's {@link Login}
    * @param httpClient the {@link HttpClient} to use
+   * @param paging the default {@link Paging} used to {@link Issues#stream() stream issues}
    * @since 1.1.0
    */
-  public DefaultYouTrack(Login login, Supplier<HttpClientBuilder> httpClient) {
+  public DefaultYouTrack(Login login, Supplier<HttpClientBuilder> httpClient, Paging paging) {
+    this(login, new Apache(httpClient), paging);
+  }
+
+  /**
+   * Ctor.
+   * 
+   * <p>The pool's {@link #telemetry() telemetry} is exposed.</p>
+   * 
+   * @param login the user's {@link Login}
+   * @param pool the connection {@link Pool}
+   * @param paging the default {@link Paging} used to {@link Issues#stream() stream issues}
+   * @since 1.1.0
+   */
+  public DefaultYouTrack(Login login, Pool pool, Paging paging) {
+    this(login, new Apache(pool), paging, pool.telemetry());
+  }
+
+  /**
+   * Ctor.
+   * 
+   * <p>Issues are streamed in {@link Fixed fixed} pages of 10 issues, and the pool's 
+   * {@link #telemetry() telemetry} is exposed.</p>
+   * 
+   * @param login the user's {@link Login}
+   * @param pool the connection {@link Pool}
+   * @since 1.1.0
+   */
+  public DefaultYouTrack(Login login, Pool pool) {
+    this(login, pool, new Fixed());
+  }
+
+  /**
+   * Ctor.
+   * 
+   * @param login the user's {@link Login}
+   * @param transport the {@link Transport} that carries the requests to the server
+   * @param paging the default {@link Paging} used to {@link Issues#stream() stream issues}
+   * @since 1.1.0
+   */
+  public DefaultYouTrack(Login login, Transport transport, Paging paging) {
+    this(login, transport, paging, new Telemetry());
+  }
+
+  /**
+   * Primary ctor.
+   * 
+   * <p>Use this when the {@link Pool} is wrapped by other transports, to expose its 
+   * {@link Pool#telemetry() telemetry}:</p>
+   * <pre>
+   * final Pool pool = new Pool(new Client());
+   * new DefaultYouTrack(login, new Retrying(new Apache(pool)), new Fixed(), pool.telemetry());
+   * </pre>
+   * 
+   * @param login the user's {@link Login}
+   * @param transport the {@link Transport} that carries the requests to the server
+   * @param paging the default {@link Paging} used to {@link Issues#stream() stream issues}
+   * @param telemetry the telemetry of the pool behind {@code transport}
+   * @since 1.1.0
+   */
+  public DefaultYouTrack(Login login, Transport transport, Paging paging, Telemetry telemetry) {
+    final CloseableHttpClient adapted = new TransportClient(transport);
     this.login = login;
-    this.client = new Cached(httpClient);
+    this.client = () -> adapted;
+    this.paging = paging;
+    this.telemetry = telemetry;
+  }
+
+  /**
+   * Ctor.
+   * 
+   * <p>Issues are streamed in {@link Fixed fixed} pages of 10 issues.</p>
+   * 
+   * @param login the user's {@link Login}
+   * @param httpClient the {@link HttpClient} to use
+   * @since 1.1.0
+   */
+  public DefaultYouTrack(Login login, Supplier<HttpClientBuilder> httpClient) {
+    this(login, httpClient, new Fixed());
+  }
+
+  /**
+   * The connection pool's telemetry.
+   * 
+   * <p>Only instances {@link #DefaultYouTrack(Login, Pool) built with a Pool}, or 
+   * {@link #DefaultYouTrack(Login, Transport, Paging, Telemetry) given its telemetry}, report on 
+   * their connection pool; the stats of all others are zeroes.</p>
+   * 
+   * @return the connection pool's telemetry
+   * @since 1.1.0
+   */
+  public Telemetry telemetry() {
+    return this.telemetry;
   }
 
   @Override
   public Projects projects() {
-    return new DefaultProjects(this, this.login, this.client);
+    return new DefaultProjects(this, this.login, this.client, this.paging);
   }
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Compact, immutable copy of an issue's fields, built in a single pass over the issue's xml.
+ * 
+ * <p>Looking fields up with {@code //field[@name = '...']} scans the whole issue tree on every
+ * call. This index walks the issue's {@code field} elements once, copies what it needs and then 
+ * answers every lookup from memory. No reference to the xml is kept, so the (much larger) DOM 
+ * tree can be collected as soon as the index is built.</p>
+ * 
+ * <p>To keep the footprint small when holding many issues in memory: field names, which repeat 
+ * across every issue, are {@link String#intern() interned}; values are held in plain arrays, 
+ * keyed by field name; and the creation date is kept as a primitive.</p>
+ * 
+ * <p>Instances are immutable and therefore safe to share between threads.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+@SuppressWarnings("checkstyle:MethodCount")
+final class FieldIndex {
+  private static final long NO_DATE = Long.MIN_VALUE;
+  private final String id;
+  private final long created;
+  private final Map<String, String[]> values;
+  private final Map<String, Optional<String>> custom;
+
+  /**
+   * Ctor.
+   * 
+   * @param xml the issue's xml as received from YouTrack
+   * @since 1.1.0
+   */
+  FieldIndex(Xml xml) {
+    final Map<String, String[]> all = new HashMap<>();
+    final Map<String, Optional<String>> customs = new LinkedHashMap<>();
+    for (Element field : this.children(xml.node(), "field")) {
+      final String name = field.getAttribute("name").intern();
+      final String[] texts = this.texts(field);
+      if (texts.length > 0) {
+        all.putIfAbsent(name, texts);
+      }
+      if (!this.children(field, "valueId").isEmpty()) {
+        customs.putIfAbsent(name, Arrays.stream(texts).findFirst());
+      }
+    }
+    this.id = xml.textOf("@id").get();
+    this.values = Collections.unmodifiableMap(all);
+    this.custom = Collections.unmodifiableMap(customs);
+    this.created = this.value("created").map(Long::parseLong).orElse(NO_DATE);
+  }
+
+  /**
+   * The issue's id.
+   * 
+   * @return the issue's id
+   * @since 1.1.0
+   */
+  String id() {
+    return this.id;
+  }
+
+  /**
+   * The issue's creation date, in milliseconds since the epoch.
+   * 
+   * @return the issue's creation date, or an empty optional if the issue doesn't have one
+   * @since 1.1.0
+   */
+  OptionalLong created() {
+    final OptionalLong date;
+    if (this.created == NO_DATE) {
+      date = OptionalLong.empty();
+    } else {
+      date = OptionalLong.of(this.created);
+    }
+    return date;
+  }
+
+  /**
+   * The first value of the field with the given {@code name}, if any.
+   * 
+   * @param name the field's name
+   * @return the field's first value, or an empty optional if the field doesn't exist or has no
+   *     values
+   * @since 1.1.0
+   */
+  Optional<String> value(String name) {
+    return Optional.ofNullable(this.values.get(name)).map(texts -> texts[0]);
+  }
+
+  /**
+   * The first values of the issue's custom fields (fields that have a {@code valueId}), keyed by 
+   * name, in the order found in the xml. Custom fields that have a {@code valueId} but no 
+   * {@code value} are included with an empty value.
+   * 
+   * @return the custom fields' values keyed by name (unmodifiable)
+   * @since 1.1.0
+   */
+  Map<String, Optional<String>> custom() {
+    return this.custom;
+  }
+
+  /**
+   * The texts of the {@code value} elements of {@code field}.
+   * 
+   * @param field the field element
+   * @return the texts of the field's values, in document order
+   * @since 1.1.0
+   */
+  private String[] texts(Element field) {
+    return this.children(field, "value").stream()
+        .map(Element::getTextContent)
+        .toArray(String[]::new);
+  }
+
+  /**
+   * The child elements of {@code parent} with the given {@code name}.
+   * 
+   * @param parent the parent node
+   * @param name the name of the child elements
+   * @return the child elements of {@code parent} with the given {@code name}, in document order
+   * @since 1.1.0
+   */
+  private List<Element> children(Node parent, String name) {
+    final List<Element> elements = new ArrayList<>();
+    final NodeList nodes = parent.getChildNodes();
+    for (int idx = 0; idx < nodes.getLength(); idx++) {
+      final Node node = nodes.item(idx);
+      if (node instanceof Element && name.equals(node.getNodeName())) {
+        elements.add((Element) node);
+      }
+    }
+    return elements;
+  }
+}
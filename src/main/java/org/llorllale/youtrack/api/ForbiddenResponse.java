@@ -52,4 +52,9 @@ final class ForbiddenResponse implements Response {
       return this.base.httpResponse();
     }
   }
+
+  @Override
+  public void close() throws IOException {
+    this.base.close();
+  }
 }
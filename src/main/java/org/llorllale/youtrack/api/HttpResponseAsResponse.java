@@ -17,6 +17,7 @@
 package org.llorllale.youtrack.api;
 
 import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.CloseableHttpResponse;
 
@@ -31,11 +32,19 @@ import org.llorllale.youtrack.api.session.UnauthorizedException;
  * Client code should only have to rely on this implementation of 
  * {@link Response}.
  * </p>
+ * 
+ * <p>
+ * Responses with an error status are released as soon as the error is detected. Responses that
+ * are never released are reported by the {@link Leaks leak detector}, when enabled.
+ * </p>
  * @author George Aristy (george.aristy@gmail.com)
  * @since 0.1.0
  */
 final class HttpResponseAsResponse implements Response {
+  private static final Leaks LEAKS = new Leaks();
   private final Response base;
+  private final Runnable trace;
+  private final AtomicBoolean released;
 
   /**
    * Adapts the given {@code httpResponse} into a {@link Response}.
@@ -55,10 +64,25 @@ final class HttpResponseAsResponse implements Response {
                 )
             )
         );
+    this.trace = LEAKS.track(this);
+    this.released = new AtomicBoolean(false);
   }
 
   @Override
   public CloseableHttpResponse httpResponse() throws UnauthorizedException, IOException {
-    return this.base.httpResponse();
+    try {
+      return this.base.httpResponse();
+    } catch (IOException e) {
+      this.close();
+      throw e;
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (this.released.compareAndSet(false, true)) {
+      this.trace.run();
+      this.base.close();
+    }
   }
 }
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.function.Supplier;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.llorllale.youtrack.api.query.All;
+import org.llorllale.youtrack.api.query.Is;
+import org.llorllale.youtrack.api.session.Login;
+import org.llorllale.youtrack.api.session.UnauthorizedException;
+
+/**
+ * The number of issues in a {@link Project} matching a {@link Query}, as counted by the server.
+ * 
+ * <p>YouTrack computes counts in the background: until the count is ready, the server responds 
+ * with {@code -1}. The count is therefore polled until it is ready, or until the given number of
+ * attempts is exhausted.</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+final class IssueCount {
+  private static final int ATTEMPTS = 60;
+  private static final Duration INTERVAL = Duration.ofMillis(500);
+  private final Login login;
+  private final Supplier<CloseableHttpClient> httpClient;
+  private final Query query;
+
+  /**
+   * Ctor.
+   * 
+   * <p>The count is polled every half second, for up to 30 seconds.</p>
+   * 
+   * @param project the project whose issues are counted
+   * @param login the user's {@link Login}
+   * @param httpClient the {@link HttpClient} to use
+   * @param query the issues to count
+   * @since 1.1.0
+   */
+  IssueCount(
+      Project project,
+      Login login, 
+      Supplier<CloseableHttpClient> httpClient, 
+      Query query
+  ) {
+    this.login = login;
+    this.httpClient = httpClient;
+    this.query = new All(new Is("project", project.id()), query);
+  }
+
+  /**
+   * The number of issues matching the query.
+   * 
+   * @return the number of issues matching the query
+   * @throws IOException if the server is unavailable, if the count is still not ready after all
+   *     attempts, or if the thread is interrupted while waiting for it
+   * @throws UnauthorizedException if the user's {@link Login} is not authorized to access this
+   *     resource
+   * @since 1.1.0
+   */
+  long value() throws IOException, UnauthorizedException {
+    long count = this.poll();
+    for (int attempt = 1; count < 0 && attempt < ATTEMPTS; attempt++) {
+      this.pause();
+      count = this.poll();
+    }
+    return this.ready(count);
+  }
+
+  /**
+   * The number of issues matching the query, if the server has it ready; it is not waited for.
+   * 
+   * @return the number of issues matching the query, or an empty optional if it isn't ready
+   * @throws UncheckedIOException if the server is unavailable, or if the user's {@link Login} is
+   *     not authorized to access this resource
+   * @since 1.1.0
+   */
+  OptionalLong known() {
+    final long count;
+    try {
+      count = this.poll();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    OptionalLong known = OptionalLong.empty();
+    if (count >= 0) {
+      known = OptionalLong.of(count);
+    }
+    return known;
+  }
+
+  /**
+   * Checks that the count is ready.
+   * 
+   * @param count the count received from the server
+   * @return {@code count}
+   * @throws IOException if the count isn't ready
+   * @since 1.1.0
+   */
+  private long ready(long count) throws IOException {
+    if (count < 0) {
+      throw new IOException(
+        String.format("Issue count still not ready after %d attempts", ATTEMPTS)
+      );
+    }
+    return count;
+  }
+
+  /**
+   * Asks the server for the count.
+   * 
+   * @return the count, or a negative number if it isn't ready yet
+   * @throws IOException if the server is unavailable
+   * @throws UnauthorizedException if the user's {@link Login} is not authorized to access this
+   *     resource
+   * @since 1.1.0
+   */
+  private long poll() throws IOException, UnauthorizedException {
+    return Long.parseLong(
+      new XmlOf(
+        new HttpResponseAsResponse(
+          this.httpClient.get().execute(
+            new Authenticated(
+              this.login.session(),
+              new HttpGet(
+                new UncheckedUriBuilder(
+                  this.login.session().baseUrl().toString().concat("/issue/count")
+                ).param("filter", this.query.asString())
+                  .build()
+              )
+            )
+          )
+        )
+      ).textOf("/int").get().trim()
+    );
+  }
+
+  /**
+   * Waits for the server to compute the count.
+   * 
+   * @throws IOException if interrupted while waiting
+   * @since 1.1.0
+   */
+  private void pause() throws IOException {
+    try {
+      Thread.sleep(INTERVAL.toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(e.getMessage(), e);
+    }
+  }
+}
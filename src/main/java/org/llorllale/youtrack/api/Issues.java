@@ -17,19 +17,41 @@
 package org.llorllale.youtrack.api;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
+import org.llorllale.youtrack.api.query.Text;
 import org.llorllale.youtrack.api.session.Login;
 import org.llorllale.youtrack.api.session.UnauthorizedException;
 
 /**
  * Issues API.
  * 
+ * <p>Issues are streamed in pages, and each page holds on to a pooled connection until it has
+ * been read to the end. Streams that may not be read to the end (eg. with 
+ * {@link Stream#findFirst()} or {@link Stream#anyMatch(java.util.function.Predicate)}) must be
+ * {@link Stream#close() closed} to release their connections, preferably with 
+ * try-with-resources:</p>
+ * <pre>
+ * try (Stream&lt;Issue&gt; issues = project.issues().stream()) {
+ *   return issues.filter(i -&gt; i.summary().contains("crash")).findFirst();
+ * }
+ * </pre>
+ * 
+ * <p>{@link Stream#parallel() Parallel} streams ask the server for the number of issues once,
+ * and split the pages between the threads of the common 
+ * {@link java.util.concurrent.ForkJoinPool}. A page is only requested by the thread that reads
+ * it, so each thread holds at most one connection (plus one per page 
+ * {@link Paging#prefetch() prefetched}); a pool with fewer connections than threads (see 
+ * {@link org.llorllale.youtrack.api.http.Pool#perRoute(int)}) limits how many pages are 
+ * fetched at once, but does not block the stream.</p>
+ * 
  * @author George Aristy (george.aristy@gmail.com)
  * @since 0.4.0
  */
+@SuppressWarnings("checkstyle:MethodCount")
 public interface Issues {
   /**
    * This {@link Issues}' {@link Project}.
@@ -50,6 +72,110 @@ public interface Issues {
    */
   Stream<Issue> stream() throws IOException, UnauthorizedException;
 
+  /**
+   * A {@link Stream} with all {@link Issue issues} created for this {@link Project}, fetched from
+   * the server in pages sized by the given {@link Paging}.
+   * 
+   * @param paging decides the number of issues fetched with each request
+   * @return a {@link Stream} with all {@link Issue issues} for this {@link #project() project}
+   * @throws IOException if the server is unavailable
+   * @throws UnauthorizedException if the user's {@link Login} is not authorized to access this
+   *     resource
+   * @see org.llorllale.youtrack.api.paging.Fixed
+   * @see org.llorllale.youtrack.api.paging.Adaptive
+   * @since 1.1.0
+   */
+  Stream<Issue> stream(Paging paging) throws IOException, UnauthorizedException;
+
+  /**
+   * A {@link Stream} with the {@link Issue issues} of this {@link Project} that match the given 
+   * {@code query}.
+   * 
+   * <p>The query is evaluated by the server, so only matching issues are transferred.</p>
+   * 
+   * @param query the search query
+   * @return a {@link Stream} with the matching {@link Issue issues}
+   * @throws IOException if the server is unavailable
+   * @throws UnauthorizedException if the user's {@link Login} is not authorized to access this
+   *     resource
+   * @see org.llorllale.youtrack.api.query
+   * @since 1.1.0
+   */
+  Stream<Issue> stream(Query query) throws IOException, UnauthorizedException;
+
+  /**
+   * A {@link Stream} with the {@link Issue issues} of this {@link Project} that match the given 
+   * {@code query}, fetched from the server in pages sized by the given {@link Paging}.
+   * 
+   * @param query the search query
+   * @param paging decides the number of issues fetched with each request
+   * @return a {@link Stream} with the matching {@link Issue issues}
+   * @throws IOException if the server is unavailable
+   * @throws UnauthorizedException if the user's {@link Login} is not authorized to access this
+   *     resource
+   * @since 1.1.0
+   */
+  Stream<Issue> stream(Query query, Paging paging) throws IOException, UnauthorizedException;
+
+  /**
+   * A {@link Stream} with the {@link Issue issues} of this {@link Project} that match the given 
+   * {@code query}, expressed in YouTrack's search syntax.
+   * 
+   * @param query the search query, eg. {@code "State: Open Assignee: me"}
+   * @return a {@link Stream} with the matching {@link Issue issues}
+   * @throws IOException if the server is unavailable
+   * @throws UnauthorizedException if the user's {@link Login} is not authorized to access this
+   *     resource
+   * @see #stream(Query)
+   * @since 1.1.0
+   */
+  default Stream<Issue> stream(String query) throws IOException, UnauthorizedException {
+    return this.stream(new Text(query));
+  }
+
+  /**
+   * The number of {@link Issue issues} in this {@link Project}, as counted by the server.
+   * 
+   * @return the number of issues in this project
+   * @throws IOException if the server is unavailable, or if the server fails to compute the 
+   *     count in time
+   * @throws UnauthorizedException if the user's {@link Login} is not authorized to access this
+   *     resource
+   * @since 1.1.0
+   */
+  long count() throws IOException, UnauthorizedException;
+
+  /**
+   * The number of {@link Issue issues} in this {@link Project} that match the given 
+   * {@code query}, as counted by the server.
+   * 
+   * @param query the search query
+   * @return the number of matching issues
+   * @throws IOException if the server is unavailable, or if the server fails to compute the 
+   *     count in time
+   * @throws UnauthorizedException if the user's {@link Login} is not authorized to access this
+   *     resource
+   * @since 1.1.0
+   */
+  long count(Query query) throws IOException, UnauthorizedException;
+
+  /**
+   * The number of {@link Issue issues} in this {@link Project} that match the given 
+   * {@code query}, expressed in YouTrack's search syntax, as counted by the server.
+   * 
+   * @param query the search query, eg. {@code "State: Open"}
+   * @return the number of matching issues
+   * @throws IOException if the server is unavailable, or if the server fails to compute the 
+   *     count in time
+   * @throws UnauthorizedException if the user's {@link Login} is not authorized to access this
+   *     resource
+   * @see #count(Query)
+   * @since 1.1.0
+   */
+  default long count(String query) throws IOException, UnauthorizedException {
+    return this.count(new Text(query));
+  }
+
   /**
    * The {@link Issue} with the given {@code id}, if it exists.
    * 
@@ -62,6 +188,44 @@ public interface Issues {
    */
   Optional<Issue> get(String id) throws IOException, UnauthorizedException;
 
+  /**
+   * The {@link Issue issues} with the given {@code ids}, searched for in chunks of 50 ids.
+   * 
+   * @param ids the {@link Issue#id() issues' ids}
+   * @return every id mapped to its {@link Issue}, or to an empty optional if it doesn't exist
+   * @throws IOException if the server is unavailable
+   * @throws UnauthorizedException if the user's {@link Login} is unauthorized to perform this
+   *     operation
+   * @see #get(Collection, int)
+   * @since 1.1.0
+   */
+  default Map<String, Optional<Issue>> get(Collection<String> ids) 
+      throws IOException, UnauthorizedException {
+    return new IssuesById(this, ids).value();
+  }
+
+  /**
+   * The {@link Issue issues} with the given {@code ids}.
+   * 
+   * <p>The ids are split in chunks of at most {@code chunk} ids, and each chunk is 
+   * {@link #stream(Query, Paging) searched for} with a single request. Chunks are fetched 
+   * concurrently.</p>
+   * 
+   * @param ids the {@link Issue#id() issues' ids}
+   * @param chunk the maximum number of ids searched for with each request; at least 1
+   * @return every id, in the order given, mapped to its {@link Issue}, or to an empty optional if
+   *     it doesn't exist
+   * @throws IOException if the server is unavailable
+   * @throws UnauthorizedException if the user's {@link Login} is unauthorized to perform this
+   *     operation
+   * @throws IllegalArgumentException if {@code chunk} is less than 1
+   * @since 1.1.0
+   */
+  default Map<String, Optional<Issue>> get(Collection<String> ids, int chunk) 
+      throws IOException, UnauthorizedException, IllegalArgumentException {
+    return new IssuesById(this, ids, chunk).value();
+  }
+
   /**
    * Creates an {@link Issue issue} with the given {@code summary} and {@code description}.
    * 
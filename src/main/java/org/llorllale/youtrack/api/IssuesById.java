@@ -0,0 +1,167 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.llorllale.youtrack.api.paging.Fixed;
+import org.llorllale.youtrack.api.query.Ids;
+import org.llorllale.youtrack.api.session.Login;
+import org.llorllale.youtrack.api.session.UnauthorizedException;
+
+/**
+ * The {@link Issue issues} with the given ids, fetched in chunks.
+ * 
+ * <p>Each chunk of ids is searched for with a single request (eg. 
+ * {@code issue id: TP-1, TP-2, ...}), and chunks are fetched concurrently on a 
+ * {@link DaemonPool}, so resolving many ids costs a few concurrent requests instead of one 
+ * request per id.</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+final class IssuesById {
+  private static final int CHUNK = 50;
+  private final Issues issues;
+  private final List<String> ids;
+  private final int chunk;
+
+  /**
+   * Ctor.
+   * 
+   * @param issues the issues searched
+   * @param ids the ids of the issues to fetch
+   * @param chunk the maximum number of ids searched for with each request; at least 1
+   * @throws IllegalArgumentException if {@code chunk} is less than 1
+   * @since 1.1.0
+   */
+  IssuesById(Issues issues, Collection<String> ids, int chunk) throws IllegalArgumentException {
+    if (chunk < 1) {
+      throw new IllegalArgumentException(
+        String.format("Chunks must hold at least one id (chunk: %d)", chunk)
+      );
+    }
+    this.issues = issues;
+    this.ids = new ArrayList<>(new LinkedHashSet<>(ids));
+    this.chunk = chunk;
+  }
+
+  /**
+   * Ids searched for in chunks of 50.
+   * 
+   * @param issues the issues searched
+   * @param ids the ids of the issues to fetch
+   * @since 1.1.0
+   */
+  IssuesById(Issues issues, Collection<String> ids) {
+    this(issues, ids, CHUNK);
+  }
+
+  /**
+   * The issues, by id.
+   * 
+   * @return every id, in the order given, mapped to its issue, or to an empty optional if the
+   *     server did not return it
+   * @throws IOException if the server is unavailable
+   * @throws UnauthorizedException if the user's {@link Login} is not authorized to access this
+   *     resource
+   * @since 1.1.0
+   */
+  Map<String, Optional<Issue>> value() throws IOException, UnauthorizedException {
+    final List<List<String>> chunks = this.chunks();
+    final Executor pool = new DaemonPool(
+      "youtrack-issues",
+      Math.max(1, Math.min(chunks.size(), ForkJoinPool.getCommonPoolParallelism()))
+    );
+    final List<CompletableFuture<List<Issue>>> pending = new ArrayList<>(chunks.size());
+    for (final List<String> group : chunks) {
+      final Stream<Issue> found = this.issues.stream(new Ids(group), new Fixed(group.size()));
+      pending.add(CompletableFuture.supplyAsync(() -> collect(found, group.size()), pool));
+    }
+    final Map<String, Issue> fetched = new HashMap<>();
+    for (final CompletableFuture<List<Issue>> next : pending) {
+      this.await(next).forEach(issue -> fetched.put(issue.id(), issue));
+    }
+    final Map<String, Optional<Issue>> result = new LinkedHashMap<>();
+    this.ids.forEach(id -> result.put(id, Optional.ofNullable(fetched.get(id))));
+    return result;
+  }
+
+  /**
+   * Collects up to {@code max} issues from the stream, and releases its pages.
+   * 
+   * @param found the stream
+   * @param max the maximum number of issues
+   * @return the issues
+   * @since 1.1.0
+   */
+  private static List<Issue> collect(Stream<Issue> found, int max) {
+    final Stream<Issue> limited = found.limit(max);
+    try {
+      return limited.collect(Collectors.toList());
+    } finally {
+      limited.close();
+    }
+  }
+
+  /**
+   * The ids, split in chunks.
+   * 
+   * @return the ids, in chunks of at most {@link #chunk} ids
+   * @since 1.1.0
+   */
+  private List<List<String>> chunks() {
+    final List<List<String>> chunks = new ArrayList<>();
+    for (int from = 0; from < this.ids.size(); from += this.chunk) {
+      chunks.add(this.ids.subList(from, Math.min(from + this.chunk, this.ids.size())));
+    }
+    return chunks;
+  }
+
+  /**
+   * Waits for a chunk to be fetched.
+   * 
+   * @param next the chunk
+   * @return the issues found for the chunk
+   * @throws IOException if the chunk could not be fetched
+   * @since 1.1.0
+   */
+  private List<Issue> await(CompletableFuture<List<Issue>> next) throws IOException {
+    try {
+      return next.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof UncheckedIOException) {
+        throw ((UncheckedIOException) e.getCause()).getCause();
+      }
+      throw new IOException(e.getCause().getMessage(), e.getCause());
+    }
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link Paging} for a single page, that detects whether it was the last page of the resource.
+ * 
+ * <p>A page that is read with fewer items than were requested for it must be the last one: 
+ * the resource is then flagged as exhausted, so that no further (necessarily empty) pages are
+ * requested.</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+final class LastPage implements Paging {
+  private final int size;
+  private final Paging origin;
+  private final AtomicBoolean ended;
+
+  /**
+   * Ctor.
+   * 
+   * @param size the number of items requested for the page
+   * @param origin the resource's {@link Paging}, to which feedback is forwarded
+   * @param ended flag to set if the page is the last one
+   * @since 1.1.0
+   */
+  LastPage(int size, Paging origin, AtomicBoolean ended) {
+    this.size = size;
+    this.origin = origin;
+    this.ended = ended;
+  }
+
+  @Override
+  public int size() {
+    return this.size;
+  }
+
+  @Override
+  public void fetched(int items, long bytes, Duration elapsed) {
+    if (items < this.size) {
+      this.ended.set(true);
+    }
+    this.origin.fetched(items, bytes, elapsed);
+  }
+
+  @Override
+  public int prefetch() {
+    return this.origin.prefetch();
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Debug-mode detector of resources that are never released.
+ * 
+ * <p>While enabled, the call site of every tracked resource is recorded. Resources that are 
+ * garbage-collected without having been released are reported, along with their call site, the 
+ * next time a resource is tracked. While disabled, tracking costs nothing.</p>
+ * 
+ * <p>The default detector is enabled with the {@code org.llorllale.youtrack.api.leaks} system
+ * property (eg. {@code -Dorg.llorllale.youtrack.api.leaks=true}), and reports leaks as warnings 
+ * logged with {@link java.util.logging}.</p>
+ * 
+ * <p>Resources are tracked with {@link Abandoned}: a leaked resource is an abandoned one whose
+ * "release" is to report its call site.</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+final class Leaks {
+  private static final String PROPERTY = "org.llorllale.youtrack.api.leaks";
+  private final boolean enabled;
+  private final Consumer<Throwable> report;
+  private final Abandoned abandoned;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param enabled whether resources are tracked at all
+   * @param report receives the call site of each leaked resource
+   * @since 1.1.0
+   */
+  Leaks(boolean enabled, Consumer<Throwable> report) {
+    this.enabled = enabled;
+    this.report = report;
+    this.abandoned = new Abandoned();
+  }
+
+  /**
+   * Detector enabled by the {@code org.llorllale.youtrack.api.leaks} system property, reporting
+   * leaks to the log.
+   * 
+   * @since 1.1.0
+   */
+  Leaks() {
+    this(
+      Boolean.getBoolean(PROPERTY),
+      site -> Logger.getLogger(Leaks.class.getName()).log(
+        Level.WARNING, "Response was garbage-collected without having been released", site
+      )
+    );
+  }
+
+  /**
+   * Tracks the given resource, and reports the resources found to have leaked so far.
+   * 
+   * @param resource the resource to track
+   * @return to be run once the resource has been released
+   * @since 1.1.0
+   */
+  Runnable track(Object resource) {
+    Runnable release = () -> { };
+    if (this.enabled) {
+      final Throwable site = new Exception("Leaked resource created here");
+      release = this.abandoned.watch(resource, () -> this.report.accept(site));
+    }
+    return release;
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.util.Iterator;
+import java.util.function.Function;
+
+/**
+ * Lazily maps an {@link Iterator} of type {@code I} into one of type {@code O}: each element is
+ * mapped only when it's requested with {@link #next()}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @param <I> input iterator's generic type
+ * @param <O> this iterator's generic type
+ * @see MappedCollection
+ * @since 1.1.0
+ */
+final class MappedIterator<I, O> implements Iterator<O> {
+  private final Function<I, O> function;
+  private final Iterator<I> origin;
+
+  /**
+   * Ctor.
+   * 
+   * @param function the mapping function
+   * @param origin the iterator to map
+   * @since 1.1.0
+   */
+  MappedIterator(Function<I, O> function, Iterator<I> origin) {
+    this.function = function;
+    this.origin = origin;
+  }
+
+  @Override
+  public boolean hasNext() {
+    return this.origin.hasNext();
+  }
+
+  @Override
+  public O next() {
+    return this.function.apply(this.origin.next());
+  }
+}
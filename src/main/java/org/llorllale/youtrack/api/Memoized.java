@@ -16,37 +16,38 @@
 
 package org.llorllale.youtrack.api;
 
+import java.util.Optional;
 import java.util.function.Supplier;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClientBuilder;
 
 /**
- * Cached supplier of clients.
+ * A {@link Supplier} that asks its origin only once, the first time it's needed, and hands out
+ * the same value from then on.
+ *
  * @author George Aristy (george.aristy@gmail.com)
+ * @param <T> the supplied type
  * @since 1.1.0
  */
-final class Cached implements Supplier<CloseableHttpClient> {
-  private final Supplier<HttpClientBuilder> source;
-  private volatile CloseableHttpClient cached;
+final class Memoized<T> implements Supplier<T> {
+  private final Supplier<T> origin;
+  private Optional<T> value;
 
   /**
    * Ctor.
-   * @param source source
+   * 
+   * @param origin supplies the value the first time it's needed
    * @since 1.1.0
    */
-  Cached(Supplier<HttpClientBuilder> source) {
-    this.source = source;
+  Memoized(Supplier<T> origin) {
+    this.origin = origin;
+    this.value = Optional.empty();
   }
 
   @Override
-  public CloseableHttpClient get() {
-    if (this.cached == null) {
-      synchronized(this.source) {
-        if (this.cached == null) {
-          this.cached = this.source.get().build();
-        }
-      }
+  public synchronized T get() {
+    if (!this.value.isPresent()) {
+      this.value = Optional.of(this.origin.get());
     }
-    return this.cached;
+
+    return this.value.get();
   }
 }
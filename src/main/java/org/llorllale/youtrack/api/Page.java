@@ -18,20 +18,42 @@ package org.llorllale.youtrack.api;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
-import java.util.ArrayDeque;
-import java.util.Collection;
-import java.util.Deque;
+import java.time.Duration;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import org.apache.http.client.HttpClient;
 
+import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.llorllale.youtrack.api.http.Counted;
+import org.llorllale.youtrack.api.http.Waited;
 
 /**
  * An {@link Iterator} that holds the contents of a single page of results from the YouTrack server.
  * 
+ * <p>The page's contents are consumed as they are produced by the mapper: a mapper that decodes
+ * the response lazily (eg. {@link StreamedXmls}) allows the page to be traversed without ever
+ * holding all of its contents in memory.</p>
+ * 
+ * <p>Once all of its contents have been read, the page informs its {@link Paging} of how many
+ * items it contained, the size of its payload, and how long the server took to send it. The 
+ * payload's size is the number of bytes actually read from it, after any decompression. The time
+ * runs from the request being sent until the body has been read to the end: it leaves out the 
+ * time spent waiting on the client's side before the request is sent (see {@link Waited}), and
+ * the time spent by the caller between items.</p>
+ * 
+ * <p>If reading the page's contents fails midway (eg. the connection is reset while the body is
+ * being read), the page is requested again, with the same offset and size, and the items already
+ * returned are skipped; this is attempted up to {@value #RESUMES} times per page. The retries of
+ * the {@link org.llorllale.youtrack.api.http.Transport} only cover the request up to the 
+ * response's headers. Items added or removed on the server in the meantime may shift the page's
+ * contents, as with any other page requested later.</p>
+ * 
  * <p>Note: the {@link #hasNext()} and {@link #next()} methods wrap checked exceptions inside
  * {@link UncheckedIOException}.</p>
  * 
@@ -40,50 +62,233 @@ import org.apache.http.impl.client.CloseableHttpClient;
  * @see Pagination
  * @since 0.7.0
  */
+@SuppressWarnings("checkstyle:MethodCount")
 final class Page<T> implements Iterator<T> {
-  private final Deque<T> contents;
+  private static final int RESUMES = 3;
+  private final HttpUriRequest request;
+  private final ExceptionalFunction<Response, Iterator<T>, IOException> mapper;
+  private final Supplier<CloseableHttpClient> httpClient;
+  private final Paging paging;
+  private final LongAdder bytes;
+  private long elapsed;
+  private Response response;
+  private Optional<Iterator<T>> contents;
+  private int items;
+  private int resumes;
 
   /**
    * Ctor.
    * 
    * @param request the {@link HttpUriRequest} for the page
-   * @param mapper the mapping function to transform the results from YouTrack into types T
+   * @param mapper the mapping function to transform the results from YouTrack into types T; it
+   *     must release the response once the contents have been read (as {@link StreamedXmls} does)
    * @param httpClient the {@link HttpClient} to use
+   * @param paging the {@link Paging} to inform once the page has been read
    * @throws UncheckedIOException wrapping any IOException thrown when fetching this page's contents
-   * @since 0.7.0
+   * @since 1.1.0
    */
   Page(
       HttpUriRequest request, 
-      ExceptionalFunction<Response, Collection<T>, IOException> mapper,
-      Supplier<CloseableHttpClient> httpClient
+      ExceptionalFunction<Response, Iterator<T>, IOException> mapper,
+      Supplier<CloseableHttpClient> httpClient,
+      Paging paging
   ) throws UncheckedIOException {
+    this.request = request;
+    this.mapper = mapper;
+    this.httpClient = httpClient;
+    this.paging = paging;
+    this.bytes = new LongAdder();
     try {
-      this.contents = new ArrayDeque<>(
-          mapper.apply(
-              new HttpResponseAsResponse(
-                  httpClient.get().execute(request)
-              )
-          )
-      );
+      this.response = this.fetch();
     } catch (IOException e) {
       throw new UncheckedIOException(e);
     }
+    this.contents = Optional.empty();
+    this.read(Function.identity());
   }
 
   @Override
   public boolean hasNext() {
-    return !this.contents.isEmpty();
+    final boolean more = this.read(Iterator::hasNext);
+    if (!more && this.items > 0) {
+      this.paging.fetched(this.items, this.bytes.sum(), Duration.ofNanos(this.elapsed));
+      this.items = 0;
+    }
+    return more;
   }
 
   @Override
   public T next() {
     if (this.hasNext()) {
-      return this.contents.pop();
+      final T item = this.read(Iterator::next);
+      this.items++;
+      return item;
     }
 
     throw new NoSuchElementException();
   }
 
+  /**
+   * Releases the page's response, whether or not its contents have been read.
+   * 
+   * <p>Pages that are read to the end are released by their mapper; this releases pages that
+   * are abandoned midway or never read at all.</p>
+   * 
+   * @throws UncheckedIOException if the response can't be released
+   * @since 1.1.0
+   */
+  void close() throws UncheckedIOException {
+    try {
+      this.response.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Reads from the page's contents, resuming the page if reading fails.
+   * 
+   * @param <R> the result's type
+   * @param reader reads from the contents
+   * @return the result of {@code reader}
+   * @throws UncheckedIOException if reading fails and the page can't be resumed
+   * @since 1.1.0
+   */
+  private <R> R read(Function<Iterator<T>, R> reader) throws UncheckedIOException {
+    try {
+      return this.timed(reader);
+    } catch (UncheckedIOException e) {
+      this.resume(e);
+      return this.read(reader);
+    }
+  }
+
+  /**
+   * Reads from the page's contents, adding the time it takes to the page's elapsed time.
+   * 
+   * @param <R> the result's type
+   * @param reader reads from the contents
+   * @return the result of {@code reader}
+   * @throws UncheckedIOException if reading fails
+   * @since 1.1.0
+   */
+  private <R> R timed(Function<Iterator<T>, R> reader) throws UncheckedIOException {
+    final long start = System.nanoTime();
+    try {
+      return reader.apply(this.contents());
+    } finally {
+      this.elapsed += System.nanoTime() - start;
+    }
+  }
+
+  /**
+   * The page's contents, mapped from the current response once, past the items already 
+   * returned.
+   * 
+   * @return the page's contents
+   * @throws UncheckedIOException if the contents can't be mapped
+   * @since 1.1.0
+   */
+  private Iterator<T> contents() throws UncheckedIOException {
+    if (!this.contents.isPresent()) {
+      final Iterator<T> mapped = this.mapped();
+      for (int skipped = 0; skipped < this.items; skipped++) {
+        mapped.next();
+      }
+      this.contents = Optional.of(mapped);
+    }
+    return this.contents.get();
+  }
+
+  /**
+   * Maps the current response to the page's contents.
+   * 
+   * @return the page's contents, from the first item on
+   * @throws UncheckedIOException if the contents can't be mapped
+   * @since 1.1.0
+   */
+  private Iterator<T> mapped() throws UncheckedIOException {
+    try {
+      return this.mapper.apply(this.response);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Requests the page again after reading it failed.
+   * 
+   * @param error the error that interrupted the reading of the page
+   * @throws UncheckedIOException {@code error}, if the page has been resumed too many times 
+   *     already, or if the page can't be requested again
+   * @since 1.1.0
+   */
+  private void resume(UncheckedIOException error) throws UncheckedIOException {
+    if (this.resumes >= RESUMES) {
+      throw error;
+    }
+    this.resumes++;
+    this.discard(error);
+    this.response = this.refetched(error);
+    this.contents = Optional.empty();
+  }
+
+  /**
+   * Executes the page's request again.
+   * 
+   * @param error the error that interrupted the reading of the page
+   * @return the new response
+   * @throws UncheckedIOException if the request fails
+   * @since 1.1.0
+   */
+  private Response refetched(UncheckedIOException error) throws UncheckedIOException {
+    try {
+      return this.fetch();
+    } catch (IOException e) {
+      e.addSuppressed(error);
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Drops the broken response, along with its connection.
+   * 
+   * @param error the error that interrupted the reading of the page
+   * @since 1.1.0
+   */
+  private void discard(UncheckedIOException error) {
+    try {
+      this.response.httpResponse().close();
+    } catch (IOException e) {
+      error.addSuppressed(e);
+    }
+  }
+
+  /**
+   * Executes the page's request, counting the bytes read from the response, and adding the time
+   * it took (without the time waited on the client's side) to the page's elapsed time.
+   * 
+   * @return the response
+   * @throws IOException if the request fails
+   * @since 1.1.0
+   */
+  private Response fetch() throws IOException {
+    final Waited waited = new Waited();
+    final long before = waited.nanos();
+    final long start = System.nanoTime();
+    final Response resp;
+    try {
+      resp = new HttpResponseAsResponse(this.httpClient.get().execute(this.request));
+    } finally {
+      this.elapsed += System.nanoTime() - start - (waited.nanos() - before);
+    }
+    final CloseableHttpResponse http = resp.httpResponse();
+    Optional.ofNullable(http.getEntity())
+        .map(entity -> new Counted(entity, this.bytes::add))
+        .ifPresent(http::setEntity);
+    return resp;
+  }
+
   /**
    * Special {@link Page} that always returns {@code false} from {@link #hasNext()} and throws a
    * {@link NoSuchElementException} from {@link #next()}.
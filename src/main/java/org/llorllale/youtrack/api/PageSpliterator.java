@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.util.OptionalLong;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Spliterator} over a paginated resource that splits on page boundaries.
+ * 
+ * <p>Splitting hands over whole pages (see {@link Pages#split(OptionalLong)}), which are only
+ * requested by the thread that reads them. When used in a parallel stream, pages are therefore
+ * fetched concurrently, and their contents are parsed and processed by the threads that consume
+ * them.</p>
+ * 
+ * <p>The total number of items is asked for the first time the spliterator is split or its
+ * size estimated (which parallel streams do, and sequential streams don't). If it is known, 
+ * the spliterators split off are {@link #SIZED} and {@link #SUBSIZED}. This spliterator is never
+ * {@link #SIZED} itself, since that would cost every stream a request for the total.</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @param <T> the resource's type
+ * @since 1.1.0
+ */
+final class PageSpliterator<T> implements Spliterator<T> {
+  private final Pages<T> pages;
+  private final Supplier<OptionalLong> total;
+
+  /**
+   * Ctor.
+   * 
+   * @param pages the paginated resource
+   * @param total the number of items in the resource, if known
+   * @since 1.1.0
+   */
+  PageSpliterator(Pages<T> pages, Supplier<OptionalLong> total) {
+    this.pages = pages;
+    this.total = new Memoized<>(total);
+  }
+
+  /**
+   * Ctor.
+   * 
+   * <p>The number of items is unknown.</p>
+   * 
+   * @param pages the paginated resource
+   * @since 1.1.0
+   */
+  PageSpliterator(Pages<T> pages) {
+    this(pages, OptionalLong::empty);
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super T> action) {
+    final boolean more = this.pages.hasNext();
+    if (more) {
+      action.accept(this.pages.next());
+    }
+    return more;
+  }
+
+  @Override
+  public Spliterator<T> trySplit() {
+    return this.pages.split(this.total.get())
+      .<Spliterator<T>>map(split -> new PageSpliterator<>(split, this.total))
+      .orElse(null);
+  }
+
+  @Override
+  public long estimateSize() {
+    return this.pages.estimate(this.total.get());
+  }
+
+  @Override
+  public int characteristics() {
+    int flags = DISTINCT;
+    if (this.pages.sized()) {
+      flags |= SIZED | SUBSIZED;
+    }
+    return flags;
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.util.OptionalLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.llorllale.youtrack.api.paging.Limited;
+
+/**
+ * A {@link Stream} over a paginated resource.
+ * 
+ * <p>{@link #limit(long) Limits} are pushed down to the server: the pages are sized so that no
+ * more items than the limit are requested (see {@link Limited}). A "top N" stream therefore costs
+ * a single request for N items, provided the paging's page size is at least N.</p>
+ * 
+ * <p>Each page holds on to its connection until it's read to the end. Closing the stream 
+ * releases the pages that have been requested but not read to the end, so streams that may
+ * stop early (eg. {@link #findFirst()}, {@link #anyMatch(java.util.function.Predicate)}) should
+ * be closed, preferably with try-with-resources. Streams dropped without being closed have their
+ * pages released only after they are garbage-collected, which may be too late for a small pool.
+ * </p>
+ * 
+ * <p>The pages are only built when the stream is first used, so a {@link #limit(long) limited}
+ * stream doesn't build (and then discard) the unlimited one.</p>
+ * 
+ * <p>Parallel streams ask for the total number of items once, when they first split the 
+ * pages, so that the splits are sized.</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @param <T> the resource's type
+ * @see PageSpliterator
+ * @since 1.1.0
+ */
+final class PagedStream<T> extends StreamEnvelope<T> {
+  private final Function<Paging, Pages<T>> pages;
+  private final Paging paging;
+  private final Supplier<OptionalLong> total;
+
+  /**
+   * Ctor.
+   * 
+   * @param pages builds the resource's pages with the given {@link Paging}
+   * @param paging decides the size of each page
+   * @param total the number of items in the resource, if known
+   * @since 1.1.0
+   */
+  PagedStream(
+      Function<Paging, Pages<T>> pages, Paging paging, Supplier<OptionalLong> total
+  ) {
+    super(new Memoized<>(() -> closeable(pages.apply(paging), total)));
+    this.pages = pages;
+    this.paging = paging;
+    this.total = total;
+  }
+
+  /**
+   * Ctor.
+   * 
+   * <p>The number of items is unknown.</p>
+   * 
+   * @param pages builds the resource's pages with the given {@link Paging}
+   * @param paging decides the size of each page
+   * @since 1.1.0
+   */
+  PagedStream(Function<Paging, Pages<T>> pages, Paging paging) {
+    this(pages, paging, OptionalLong::empty);
+  }
+
+  @Override
+  public Stream<T> limit(long maxSize) {
+    return closeable(
+      this.pages.apply(new Limited(maxSize, this.paging)),
+      () -> {
+        final OptionalLong all = this.total.get();
+        OptionalLong limited = all;
+        if (all.isPresent()) {
+          limited = OptionalLong.of(Math.min(all.getAsLong(), maxSize));
+        }
+        return limited;
+      }
+    ).limit(maxSize);
+  }
+
+  /**
+   * A stream over the pages that releases them when closed.
+   * 
+   * @param <T> the resource's type
+   * @param pages the pages
+   * @param total the number of items in the pages, if known
+   * @return the stream
+   * @since 1.1.0
+   */
+  private static <T> Stream<T> closeable(Pages<T> pages, Supplier<OptionalLong> total) {
+    return StreamSupport.stream(new PageSpliterator<>(pages, total), false)
+      .onClose(pages::close);
+  }
+}
@@ -17,10 +17,21 @@
 package org.llorllale.youtrack.api;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
-import java.util.function.Function;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
 import java.util.function.Supplier;
 import org.apache.http.client.HttpClient;
 
@@ -30,6 +41,25 @@ import org.apache.http.impl.client.CloseableHttpClient;
 /**
  * An {@link Iterator} that encapsulates a paginated resource from the YouTrack server.
  * 
+ * <p>The size of each page is decided by a {@link Paging}, which is consulted right before each
+ * page is requested and is informed of how each page performed once it has been read. The
+ * resource is exhausted as soon as a page is read with fewer items than were requested for it, an
+ * empty page is received, or the paging decides that no more pages should be requested; no more 
+ * pages are requested after that.</p>
+ * 
+ * <p>If the {@link Paging#prefetch() paging prefetches}, the following pages are requested in
+ * the background while the current one is being read. Each {@link Pages} has its own 
+ * {@link DaemonPool} for this, so abandoned iterators don't hold on to threads.</p>
+ * 
+ * <p>Pages hold on to their connection until they are read to the end, so iterations that stop
+ * early must be {@link #close() closed}. The pages of iterators that are dropped without being 
+ * closed are released once the iterator and its splits are garbage-collected, the next time a
+ * {@link Pages} is created.</p>
+ * 
+ * <p>Pages that have not been read yet can be {@link #split(OptionalLong) split} off into a 
+ * separate {@link Pages}, so that they can be read by another thread (see 
+ * {@link PageSpliterator}).</p>
+ * 
  * <p>Note: the {@link #hasNext()} and {@link #next()} methods wrap checked exceptions inside
  * {@link UncheckedException}.</p>
  * 
@@ -38,57 +68,99 @@ import org.apache.http.impl.client.CloseableHttpClient;
  * @see Page
  * @since 0.7.0
  */
-final class Pages<T> implements Iterator<T> {
-  private final Supplier<HttpUriRequest> pageRequest;
-  private final ExceptionalFunction<Response, Collection<T>, IOException> mapper;
+@SuppressWarnings("checkstyle:MethodCount")
+final class Pages<T> implements Iterator<T>, AutoCloseable {
+  private static final Abandoned ABANDONED = new Abandoned();
+  private final Paging paging;
+  private final BiFunction<Integer, Integer, HttpUriRequest> request;
+  private final ExceptionalFunction<Response, Iterator<T>, IOException> mapper;
   private final Supplier<CloseableHttpClient> httpClient;
+  private final Deque<Reserved<T>> ahead;
+  private final Collection<CompletableFuture<Page<T>>> open;
+  private final Object owner;
+  private final AtomicBoolean ended;
+  private final int threads;
+  private final Executor pool;
+  private final Executor executor;
+  private final boolean sized;
 
   private Iterator<T> page;
+  private Optional<CompletableFuture<Page<T>>> current;
+  private int offset;
+  private CompletableFuture<Page<T>> last;
+  private long bound;
+  private long used;
 
   /**
    * Ctor.
    * 
-   * @param pageRequest the supplier for each {@link Page page's} uri
-   * @param mapper maps each page's URI into its corresponding contents
+   * @param paging decides the size of each page, and how many pages to request ahead
+   * @param request maps the offset of a page (the number of items requested so far) and its size
+   *     to the http request for that page
+   * @param mapper the function that maps each page's response to its contents
    * @param httpClient the {@link HttpClient} to use to execute the requests
-   * @since 0.7.0
+   * @since 1.1.0
    */
   Pages(
-      Supplier<HttpUriRequest> pageRequest,
-      ExceptionalFunction<Response, Collection<T>, IOException> mapper,
+      Paging paging,
+      BiFunction<Integer, Integer, HttpUriRequest> request,
+      ExceptionalFunction<Response, Iterator<T>, IOException> mapper,
       Supplier<CloseableHttpClient> httpClient
   ) {
-    this.pageRequest = pageRequest;
+    this.paging = paging;
+    this.request = request;
     this.mapper = mapper;
-    this.page = new Page.Empty<>();
     this.httpClient = httpClient;
+    this.ahead = new ArrayDeque<>();
+    final Collection<CompletableFuture<Page<T>>> requested = ConcurrentHashMap.newKeySet();
+    this.open = requested;
+    this.owner = new Object();
+    ABANDONED.watch(this.owner, () -> release(requested));
+    this.ended = new AtomicBoolean(false);
+    this.threads = Math.max(
+      2, Math.max(paging.prefetch(), ForkJoinPool.getCommonPoolParallelism())
+    );
+    this.pool = new DaemonPool("youtrack-pages", this.threads);
+    this.executor = this.executor(paging.prefetch());
+    this.sized = false;
+    this.page = new Page.Empty<>();
+    this.current = Optional.empty();
+    this.bound = Long.MAX_VALUE;
   }
 
   /**
-   * Constructs a {@link PageUri} by providing: a) a {@link Counter} with values 0 and 
-   * {@code pageSize}, and the {@code combiner}.
+   * Pages split off from {@code origin}.
    * 
-   * @param pageSize the page size
-   * @param combiner the function that maps page numbers to http requests
-   * @param mapper the function that maps the resources to collections
-   * @param httpClient the {@link HttpClient} to use to execute the requests
-   * @see #Pagination(PageUri, ExceptionalFunction) 
-   * @see PageUri
-   * @since 1.0.0
+   * @param origin the {@link Pages} the pages were split from
+   * @param taken the pages split off from {@code origin}, in the order they were reserved
+   * @param sized whether the pages hold exactly as many items as were reserved for them
+   * @since 1.1.0
    */
-  Pages(
-      int pageSize,
-      Function<Integer, HttpUriRequest> combiner, 
-      ExceptionalFunction<Response, Collection<T>, IOException> mapper,
-      Supplier<CloseableHttpClient> httpClient
-  ) {
-    this(new PageUri(new Counter(0, pageSize), combiner), mapper, httpClient);
+  private Pages(Pages<T> origin, Deque<Reserved<T>> taken, boolean sized) {
+    this.paging = origin.paging;
+    this.request = origin.request;
+    this.mapper = origin.mapper;
+    this.httpClient = origin.httpClient;
+    this.ahead = taken;
+    this.open = origin.open;
+    this.owner = origin.owner;
+    this.ended = new AtomicBoolean(true);
+    this.threads = origin.threads;
+    this.pool = origin.pool;
+    this.executor = origin.executor;
+    this.sized = sized;
+    this.page = new Page.Empty<>();
+    this.current = Optional.empty();
+    this.bound = Long.MAX_VALUE;
+    if (sized) {
+      this.bound = taken.stream().mapToLong(Reserved::size).sum();
+    }
   }
 
   @Override
   public boolean hasNext() {
     if (!this.page.hasNext()) {
-      this.page = new Page<>(this.pageRequest.get(), this.mapper, this.httpClient);
+      this.page = this.following();
     }
 
     return this.page.hasNext();
@@ -97,9 +169,305 @@ final class Pages<T> implements Iterator<T> {
   @Override
   public T next() {
     if (this.hasNext()) {
+      this.used++;
       return this.page.next();
     }
 
     throw new NoSuchElementException();
   }
+
+  /**
+   * Releases every page requested so far that hasn't been read to the end, including those 
+   * split off and those still being fetched (they are released once fetched), and stops 
+   * requesting pages.
+   * 
+   * <p>Pages hold on to their connection until they are read to the end, so iterations that 
+   * stop early must be closed to give the connections back to the pool.</p>
+   * 
+   * @since 1.1.0
+   */
+  @Override
+  public void close() {
+    this.ended.set(true);
+    release(this.open);
+  }
+
+  /**
+   * Splits off half of the pages that have not been read yet.
+   * 
+   * <p>Pages split off are only reserved: they are requested by the thread that reads them, 
+   * once it gets to them, so that no page holds a connection while it waits for a thread. The 
+   * HTTP client's pool therefore needs no more connections than there are threads reading 
+   * (times the {@link Paging#prefetch() prefetch} depth, plus one).</p>
+   * 
+   * <p>If the {@code total} number of items is known, every remaining page is reserved up to
+   * that total, and the pages split off hold exactly as many items as were reserved for them
+   * (see {@link #sized()}). Otherwise, enough pages are reserved to keep as many threads busy as 
+   * there are in the common {@link ForkJoinPool}; more pages are only reserved once the last 
+   * page reserved has been read without reaching the end of the resource, so that pages beyond 
+   * the end are not reserved indefinitely.</p>
+   * 
+   * <p>The current page is never split off.</p>
+   * 
+   * @param total the number of items in the resource, if known
+   * @return the pages split off, or an empty optional if there aren't enough pages left to split
+   * @since 1.1.0
+   */
+  Optional<Pages<T>> split(OptionalLong total) {
+    this.reserve(total);
+    final Deque<Reserved<T>> taken = new ArrayDeque<>();
+    final int half = this.ahead.size() / 2;
+    while (taken.size() < half) {
+      taken.add(this.ahead.poll());
+    }
+    final Optional<Pages<T>> split = Optional.of(taken)
+      .filter(t -> !t.isEmpty())
+      .map(t -> new Pages<>(this, t, total.isPresent()));
+    split.filter(Pages::sized).ifPresent(pages -> this.used += pages.bound);
+    return split;
+  }
+
+  /**
+   * Whether these pages were split off a resource of known size, and therefore hold exactly as
+   * many items as were reserved for them.
+   * 
+   * @return whether the number of items is known
+   * @since 1.1.0
+   */
+  boolean sized() {
+    return this.sized;
+  }
+
+  /**
+   * The number of items left, if the {@code total} number of items in the resource is known.
+   * 
+   * @param total the number of items in the resource, if known; only consulted by the 
+   *     {@link Pages} that weren't split off
+   * @return the number of items left, or {@link Long#MAX_VALUE} if unknown
+   * @since 1.1.0
+   */
+  long estimate(OptionalLong total) {
+    if (!this.sized) {
+      total.ifPresent(count -> this.bound = count);
+    }
+    long left = Long.MAX_VALUE;
+    if (this.bound < Long.MAX_VALUE) {
+      left = Math.max(0L, this.bound - this.used);
+    }
+    return left;
+  }
+
+  /**
+   * Requests as many pages as needed to keep {@link Paging#prefetch()} pages ahead, and waits for
+   * the first one.
+   * 
+   * @return the next page, or an empty page if the resource has been exhausted
+   * @throws UncheckedIOException if the page could not be fetched
+   * @since 1.1.0
+   */
+  private Iterator<T> following() {
+    this.current.ifPresent(this::release);
+    final int depth = this.paging.prefetch() + 1;
+    this.fill(depth);
+    this.ahead.stream().limit(depth).forEach(Reserved::get);
+    this.current = Optional.ofNullable(this.ahead.poll()).map(Reserved::get);
+    return this.current
+      .<Iterator<T>>map(this::await)
+      .orElseGet(Page.Empty::new);
+  }
+
+  /**
+   * Releases the page once it's been fetched, and forgets about it.
+   * 
+   * @param requested the page
+   * @since 1.1.0
+   */
+  private void release(CompletableFuture<Page<T>> requested) {
+    requested.thenAccept(Page::close);
+    this.open.remove(requested);
+  }
+
+  /**
+   * Releases each of the pages once it's been fetched, and forgets about them.
+   * 
+   * @param <T> the pages' type
+   * @param requested the pages
+   * @since 1.1.0
+   */
+  private static <T> void release(Collection<CompletableFuture<Page<T>>> requested) {
+    requested.forEach(page -> page.thenAccept(Page::close));
+    requested.clear();
+  }
+
+  /**
+   * Reserves pages until {@code count} pages are ahead, or the resource is known to have been
+   * exhausted.
+   * 
+   * @param count the number of pages to have ahead
+   * @since 1.1.0
+   */
+  private void fill(int count) {
+    while (!this.ended.get() && this.ahead.size() < count) {
+      this.request(this.paging.size());
+    }
+  }
+
+  /**
+   * Reserves the pages to split: all of them if the {@code total} is known, or else enough to 
+   * keep the threads busy if the last page reserved has been fetched.
+   * 
+   * @param total the number of items in the resource, if known
+   * @since 1.1.0
+   */
+  private void reserve(OptionalLong total) {
+    if (total.isPresent()) {
+      this.reserve(total.getAsLong());
+    } else if (this.last == null || this.last.isDone()) {
+      this.fill(this.threads);
+    }
+  }
+
+  /**
+   * Reserves the pages left up to {@code total} items, after which the resource is exhausted.
+   * 
+   * @param total the number of items in the resource
+   * @since 1.1.0
+   */
+  private void reserve(long total) {
+    while (!this.ended.get() && this.offset < total) {
+      this.request((int) Math.min(this.paging.size(), total - this.offset));
+    }
+    this.ended.set(true);
+  }
+
+  /**
+   * Waits for the given page to be fetched.
+   * 
+   * @param next the page
+   * @return the page, once fetched
+   * @throws UncheckedIOException if the page could not be fetched
+   * @since 1.1.0
+   */
+  private Iterator<T> await(CompletableFuture<Page<T>> next) {
+    try {
+      return next.join();
+    } catch (CompletionException e) {
+      throw this.unwrapped(e);
+    }
+  }
+
+  /**
+   * Reserves the page following the last one reserved, unless {@code size} is zero.
+   * 
+   * @param size the number of items to request; zero flags the resource as exhausted
+   * @since 1.1.0
+   */
+  private void request(int size) {
+    if (size < 1) {
+      this.ended.set(true);
+    } else {
+      final HttpUriRequest req = this.request.apply(this.offset, size);
+      this.offset += size;
+      final Reserved<T> reserved = new Reserved<>(
+        size,
+        () -> {
+          final Page<T> fetched = new Page<>(
+            req, this.mapper, this.httpClient, new LastPage(size, this.paging, this.ended)
+          );
+          if (!fetched.hasNext()) {
+            this.ended.set(true);
+          }
+          return fetched;
+        },
+        this.executor
+      );
+      this.last = reserved.page;
+      this.ahead.add(reserved);
+      this.open.add(this.last);
+    }
+  }
+
+  /**
+   * The exception that caused a page to fail.
+   * 
+   * @param error the page's failure
+   * @return the cause of {@code error}, as an {@link UncheckedIOException}
+   * @since 1.1.0
+   */
+  private UncheckedIOException unwrapped(CompletionException error) {
+    final UncheckedIOException cause;
+    if (error.getCause() instanceof UncheckedIOException) {
+      cause = (UncheckedIOException) error.getCause();
+    } else {
+      cause = new UncheckedIOException(
+        new IOException(error.getCause().getMessage(), error.getCause())
+      );
+    }
+    return cause;
+  }
+
+  /**
+   * The executor on which pages are requested.
+   * 
+   * @param depth the number of pages to request ahead of the one being read
+   * @return an executor that runs in the thread that starts the page if {@code depth} is zero, 
+   *     or else {@link #pool}
+   * @since 1.1.0
+   */
+  private Executor executor(int depth) {
+    Executor exec = Runnable::run;
+    if (depth > 0) {
+      exec = this.pool;
+    }
+    return exec;
+  }
+
+  /**
+   * A page whose offset and size have been decided, but that is only requested once it is
+   * {@link #get() started}.
+   * 
+   * @param <T> the page's type
+   * @since 1.1.0
+   */
+  private static final class Reserved<T> implements Supplier<CompletableFuture<Page<T>>> {
+    private final int size;
+    private final CompletableFuture<Void> start;
+    private final CompletableFuture<Page<T>> page;
+
+    /**
+     * Ctor.
+     * 
+     * @param size the number of items requested for the page
+     * @param fetch fetches the page
+     * @param exec the executor on which the page is fetched once started
+     * @since 1.1.0
+     */
+    Reserved(int size, Supplier<Page<T>> fetch, Executor exec) {
+      this.size = size;
+      this.start = new CompletableFuture<>();
+      this.page = this.start.thenApplyAsync(nothing -> fetch.get(), exec);
+    }
+
+    /**
+     * Requests the page, unless it has already been started.
+     * 
+     * @return the page
+     * @since 1.1.0
+     */
+    @Override
+    public CompletableFuture<Page<T>> get() {
+      this.start.complete(null);
+      return this.page;
+    }
+
+    /**
+     * The number of items requested for the page.
+     * 
+     * @return the page's size
+     * @since 1.1.0
+     */
+    int size() {
+      return this.size;
+    }
+  }
 }
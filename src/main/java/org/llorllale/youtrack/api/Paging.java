@@ -0,0 +1,72 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.time.Duration;
+
+/**
+ * Decides how many items to request with each page of a paginated resource (eg. 
+ * {@link Issues#stream(Paging)}).
+ * 
+ * <p>Implementations are consulted for the size of each page right before it is requested, and
+ * are then informed of how that page performed. They may be shared between several streams at
+ * once and must therefore be thread-safe.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see org.llorllale.youtrack.api.paging.Fixed
+ * @see org.llorllale.youtrack.api.paging.Adaptive
+ * @see org.llorllale.youtrack.api.paging.Metered
+ * @see org.llorllale.youtrack.api.paging.Limited
+ * @since 1.1.0
+ */
+public interface Paging {
+  /**
+   * The number of items to request with the next page.
+   * 
+   * <p>This is consulted exactly once for each page requested. A page that comes back with 
+   * fewer items than requested is taken to be the last one.</p>
+   * 
+   * @return the number of items to request with the next page, or zero if no more pages should 
+   *     be requested
+   * @since 1.1.0
+   */
+  int size();
+
+  /**
+   * Feedback on a page that has been fully read.
+   * 
+   * @param items the number of items the page contained
+   * @param bytes the size of the page's payload in bytes, or a negative number if unknown
+   * @param elapsed the time it took for the server to send the page, from the request being sent
+   *     until its body was read, without the time spent waiting on the client's side
+   * @since 1.1.0
+   */
+  void fetched(int items, long bytes, Duration elapsed);
+
+  /**
+   * The number of pages to request ahead of the one being read.
+   * 
+   * <p>With a positive value, pages are requested in the background while the current page is 
+   * being consumed, so that network latency overlaps with the processing of the results. Zero 
+   * disables prefetching: each page is requested only after the previous one has been read.</p>
+   * 
+   * @return the number of pages to request ahead of the one being read
+   * @see org.llorllale.youtrack.api.paging.Prefetched
+   * @since 1.1.0
+   */
+  int prefetch();
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+/**
+ * Supplies a {@link DocumentBuilder} that is reused across parses.
+ * 
+ * <p>Looking up a {@link DocumentBuilderFactory} and creating a new parser for every response 
+ * costs more than parsing a typical response. Parsers are not thread-safe, so each thread keeps
+ * its own, which is {@link DocumentBuilder#reset() reset} every time it's handed out.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+final class PooledDocumentBuilder implements Supplier<DocumentBuilder> {
+  private static final ThreadLocal<DocumentBuilder> BUILDER = ThreadLocal.withInitial(() -> {
+    try {
+      return DocumentBuilderFactory.newInstance().newDocumentBuilder();
+    } catch (ParserConfigurationException e) {
+      throw new UncheckedIOException(new IOException(e.getMessage(), e));
+    }
+  });
+
+  /**
+   * {@inheritDoc}
+   * 
+   * @throws UncheckedIOException wrapping any {@link ParserConfigurationException} thrown by java
+   *     while creating this thread's parser
+   */
+  @Override
+  public DocumentBuilder get() throws UncheckedIOException {
+    final DocumentBuilder builder = BUILDER.get();
+    builder.reset();
+    return builder;
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerFactory;
+
+/**
+ * Supplies an identity {@link Transformer} that is reused across transformations.
+ * 
+ * <p>{@link StreamedXmls} copies every element it iterates over into its own document: creating
+ * a {@link TransformerFactory} and a {@link Transformer} for each of those copies would cost more 
+ * than the copy itself. Transformers are not thread-safe, so each thread keeps its own, which is 
+ * {@link Transformer#reset() reset} every time it's handed out.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+final class PooledTransformer implements Supplier<Transformer> {
+  private static final ThreadLocal<Transformer> TRANSFORMER = ThreadLocal.withInitial(() -> {
+    try {
+      return TransformerFactory.newInstance().newTransformer();
+    } catch (TransformerConfigurationException e) {
+      throw new UncheckedIOException(new IOException(e.getMessage(), e));
+    }
+  });
+
+  /**
+   * {@inheritDoc}
+   * 
+   * @throws UncheckedIOException wrapping any {@link TransformerConfigurationException} thrown by 
+   *     java while creating this thread's transformer
+   */
+  @Override
+  public Transformer get() throws UncheckedIOException {
+    final Transformer transformer = TRANSFORMER.get();
+    transformer.reset();
+    return transformer;
+  }
+}
@@ -16,33 +16,23 @@
 
 package org.llorllale.youtrack.api;
 
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.function.Supplier;
-
 /**
- * Simple counter utility.
+ * A YouTrack search query, as typed in YouTrack's search box.
  * 
+ * <p>Queries are evaluated by the server (see {@link Issues#stream(Query)}), so only matching 
+ * issues are transferred.</p>
+ *
  * @author George Aristy (george.aristy@gmail.com)
- * @since 0.7.0
+ * @see org.llorllale.youtrack.api.query.All
+ * @see org.llorllale.youtrack.api.query.Is
+ * @since 1.1.0
  */
-final class Counter implements Supplier<Integer> {
-  private final AtomicInteger start;
-  private final int increment;
-
+public interface Query {
   /**
-   * Ctor.
+   * This query in YouTrack's search syntax.
    * 
-   * @param start the starting value
-   * @param increment the amount to increment with each call to {@link #get()}
-   * @since 0.7.0
+   * @return this query in YouTrack's search syntax
+   * @since 1.1.0
    */
-  Counter(int start, int increment) {
-    this.start = new AtomicInteger(start);
-    this.increment = increment;
-  }
-
-  @Override
-  public Integer get() {
-    return this.start.getAndAdd(this.increment);
-  }
+  String asString();
 }
@@ -16,10 +16,12 @@
 
 package org.llorllale.youtrack.api;
 
+import java.io.Closeable;
 import java.io.IOException;
 
 import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.util.EntityUtils;
 
 import org.llorllale.youtrack.api.session.Login;
 import org.llorllale.youtrack.api.session.UnauthorizedException;
@@ -27,10 +29,14 @@ import org.llorllale.youtrack.api.session.UnauthorizedException;
 /**
  * Handles HTTP response status codes received from the YouTrack server.
  * 
+ * <p>Responses hold on to a pooled connection until they are {@link #close() closed}: every 
+ * response must be closed once its contents have been read, or else {@link #released() released}
+ * right away if its contents are of no interest.</p>
+ * 
  * @author George Aristy (george.aristy@gmail.com)
  * @since 0.1.0
  */
-interface Response {
+interface Response extends Closeable {
   /**
    * The {@link HttpResponse} received in the API's response.
    * 
@@ -41,4 +47,42 @@ interface Response {
    * @since 0.1.0
    */
   CloseableHttpResponse httpResponse() throws IOException, UnauthorizedException;
+
+  /**
+   * The {@link HttpResponse} received in the API's response, released right away.
+   * 
+   * <p>For requests whose response has no contents of interest: only the status line and the 
+   * headers of the returned response can be read.</p>
+   * 
+   * @return the released response
+   * @throws IOException if the server is unavailable
+   * @throws UnauthorizedException if the user's {@link Login} is unauthorized to perform some
+   *     operation
+   * @see #close()
+   * @since 1.1.0
+   */
+  default CloseableHttpResponse released() throws IOException, UnauthorizedException {
+    try {
+      return this.httpResponse();
+    } finally {
+      this.close();
+    }
+  }
+
+  /**
+   * Releases the response: whatever is left of its contents is consumed, and the response is
+   * closed, so that its connection is returned to the pool.
+   * 
+   * @throws IOException if the contents can't be consumed
+   * @since 1.1.0
+   */
+  @Override
+  default void close() throws IOException {
+    final CloseableHttpResponse response = this.httpResponse();
+    try {
+      EntityUtils.consume(response.getEntity());
+    } finally {
+      response.close();
+    }
+  }
 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import org.w3c.dom.Document;
+
+/**
+ * Parses a {@link Response response's} payload into a {@link Document}, releasing the response
+ * once it has been parsed.
+ * 
+ * <p>Note: errors parsing the payload are thrown as {@link UncheckedIOException} (see
+ * {@link StringAsDocument}).</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see ResponseAsInputSource
+ * @since 1.1.0
+ */
+final class ResponseAsDocument 
+    implements ExceptionalFunction<Response, Document, IOException> {
+  @Override
+  public Document apply(Response response) throws IOException, UncheckedIOException {
+    try {
+      return new StringAsDocument(new ResponseAsInputSource().apply(response));
+    } finally {
+      response.close();
+    }
+  }
+}
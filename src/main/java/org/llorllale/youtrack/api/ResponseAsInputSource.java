@@ -0,0 +1,77 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.nio.charset.Charset;
+import java.util.Optional;
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.ContentType;
+import org.xml.sax.InputSource;
+
+/**
+ * Exposes a {@link Response response's} payload as an {@link InputSource} that XML parsers can
+ * read straight from the wire.
+ * 
+ * <p>The source's encoding is set to the charset declared in the response's 
+ * {@code Content-Type} header, if any; otherwise the parser detects it from the payload itself
+ * (byte order mark or XML declaration).</p>
+ * 
+ * <p>Whitespace before the payload's first markup is skipped, since parsers reject anything 
+ * before an XML declaration. This is only done for payloads that aren't declared in a 
+ * multi-byte encoding such as UTF-16, where a single byte is not a character.</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+final class ResponseAsInputSource 
+    implements ExceptionalFunction<Response, InputSource, IOException> {
+  @Override
+  public InputSource apply(Response response) throws IOException {
+    final HttpEntity entity = response.httpResponse().getEntity();
+    final Optional<Charset> charset = Optional.ofNullable(ContentType.getLenient(entity))
+        .map(ContentType::getCharset);
+    InputStream content = entity.getContent();
+    if (charset.map(c -> " ".getBytes(c).length == 1).orElse(true)) {
+      content = trimmed(content);
+    }
+    final InputSource source = new InputSource(content);
+    charset.map(Charset::name).ifPresent(source::setEncoding);
+    return source;
+  }
+
+  /**
+   * Skips the whitespace at the start of the stream.
+   * 
+   * @param content the stream
+   * @return the stream, starting at its first non-whitespace byte
+   * @throws IOException if the stream can't be read
+   */
+  private static InputStream trimmed(InputStream content) throws IOException {
+    final PushbackInputStream trimmed = new PushbackInputStream(content);
+    int next = trimmed.read();
+    while (Character.isWhitespace(next)) {
+      next = trimmed.read();
+    }
+    if (next != -1) {
+      trimmed.unread(next);
+    }
+    return trimmed;
+  }
+}
@@ -16,28 +16,38 @@
 
 package org.llorllale.youtrack.api;
 
-import java.io.BufferedReader;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.Charset;
 
 /**
- * Utility class to read all text content from an {@link InputStream} and
- * return it in string form.
+ * A {@link Response response's} payload as an {@link InputStream} that releases the response 
+ * when closed.
  * 
  * @author George Aristy (george.aristy@gmail.com)
- * @since 0.1.0
+ * @since 1.1.0
  */
-final class InputStreamAsString 
-    implements ExceptionalFunction<InputStream, String, IOException> {
+final class ResponseContents extends FilterInputStream {
+  private final Response response;
+
+  /**
+   * Ctor.
+   * 
+   * @param response the response
+   * @throws IOException if the server is unavailable
+   * @since 1.1.0
+   */
+  ResponseContents(Response response) throws IOException {
+    super(response.httpResponse().getEntity().getContent());
+    this.response = response;
+  }
+
   @Override
-  public String apply(InputStream input) throws IOException {
-    final String newLine = System.getProperty("line.separator");
-    return new BufferedReader(new InputStreamReader(input, Charset.defaultCharset()))
-        .lines()
-        .reduce((lineA, lineB) -> lineA.concat(newLine).concat(lineB))
-        .get()
-        .trim();
+  public void close() throws IOException {
+    try {
+      super.close();
+    } finally {
+      this.response.close();
+    }
   }
 }
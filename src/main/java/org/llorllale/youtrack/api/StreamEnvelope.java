@@ -131,8 +131,16 @@ abstract class StreamEnvelope<T> implements Stream<T> {
     return this.stream.get().peek(action);
   }
 
+  /**
+   * {@inheritDoc}
+   * 
+   * <p>Subclasses may override this method in order to push the limit down to the source of the
+   * stream's elements.</p>
+   * 
+   * @since 1.1.0
+   */
   @Override
-  public final Stream<T> limit(long maxSize) {
+  public Stream<T> limit(long maxSize) {
     return this.stream.get().limit(maxSize);
   }
 
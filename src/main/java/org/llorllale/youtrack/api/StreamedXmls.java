@@ -0,0 +1,187 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.dom.DOMResult;
+import javax.xml.transform.stax.StAXSource;
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+
+/**
+ * Pull-parses the {@link Xml} elements found at a simple absolute {@code path} (eg. 
+ * {@code /issues/issue}) straight from a {@link Response response's} payload, one element at a
+ * time.
+ * 
+ * <p>Unlike {@link XmlsOf#XmlsOf(java.lang.String, org.llorllale.youtrack.api.Response)}, the
+ * payload is never held in memory as a whole: each element is decoded into its own small
+ * {@link Document} only when {@link #next()} is called, so memory use is bounded by the size of
+ * the largest element instead of the size of the whole response.</p>
+ * 
+ * <p>The response is released once the end of the document is reached.</p>
+ * 
+ * <p>Note: the {@link #hasNext()} and {@link #next()} methods wrap checked exceptions inside
+ * {@link UncheckedIOException}.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+final class StreamedXmls implements Iterator<Xml> {
+  private final List<String> path;
+  private final List<String> open;
+  private final Response response;
+  private final XMLStreamReader reader;
+
+  /**
+   * Ctor.
+   * 
+   * @param path the absolute path of the elements to iterate over (no predicates or wildcards)
+   * @param response the response whose payload is to be parsed
+   * @throws IOException if there's an error reading the response's entity's contents
+   * @throws UncheckedIOException wrapping any {@link XMLStreamException} thrown by java
+   * @since 1.1.0
+   */
+  StreamedXmls(String path, Response response) throws IOException, UncheckedIOException {
+    this.path = Arrays.asList(path.substring(1).split("/"));
+    this.open = new ArrayList<>(this.path.size());
+    this.response = response;
+    final InputSource input = new ResponseAsInputSource().apply(response);
+    try {
+      this.reader = XMLInputFactory.newInstance().createXMLStreamReader(
+          input.getByteStream(), input.getEncoding()
+      );
+    } catch (XMLStreamException e) {
+      throw new UncheckedIOException(new IOException(e.getMessage(), e));
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    try {
+      this.seek();
+    } catch (XMLStreamException | IOException e) {
+      throw new UncheckedIOException(new IOException(e.getMessage(), e));
+    }
+    return !this.ended();
+  }
+
+  @Override
+  public Xml next() {
+    if (!this.hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return new XmlOf(this.element());
+  }
+
+  /**
+   * Decodes the element the reader is positioned at into its own {@link Document}, leaving the
+   * reader right after the element's end.
+   * 
+   * @return the element as a standalone document
+   * @throws UncheckedIOException wrapping any {@link TransformerException} thrown by java
+   * @since 1.1.0
+   */
+  private Document element() throws UncheckedIOException {
+    final DOMResult result = new DOMResult();
+    try {
+      new PooledTransformer().get().transform(
+          new StAXSource(this.reader), result
+      );
+    } catch (TransformerException e) {
+      throw new UncheckedIOException(new IOException(e.getMessage(), e));
+    }
+    return (Document) result.getNode();
+  }
+
+  /**
+   * Whether the reader has reached the end of the document.
+   * 
+   * @return {@code true} if there is nothing else to read
+   * @since 1.1.0
+   */
+  private boolean ended() {
+    return this.reader.getEventType() == XMLStreamConstants.END_DOCUMENT;
+  }
+
+  /**
+   * Moves the reader up to the next element found at {@link #path}, releasing the response
+   * if the end of the document is reached instead.
+   * 
+   * @throws XMLStreamException thrown by java
+   * @throws IOException thrown by java
+   * @since 1.1.0
+   */
+  private void seek() throws XMLStreamException, IOException {
+    while (!this.ended() && !this.matches()) {
+      this.advance();
+    }
+    this.release();
+  }
+
+  /**
+   * Releases the response if the end of the document has been reached.
+   * 
+   * @throws XMLStreamException thrown by java
+   * @throws IOException thrown by java
+   * @since 1.1.0
+   */
+  private void release() throws XMLStreamException, IOException {
+    if (this.ended()) {
+      this.reader.close();
+      this.response.close();
+    }
+  }
+
+  /**
+   * Whether the reader is positioned at the start of an element found at {@link #path}.
+   * 
+   * @return {@code true} if the current element is one of the elements being iterated over
+   * @since 1.1.0
+   */
+  private boolean matches() {
+    return this.reader.isStartElement()
+        && this.open.size() == this.path.size() - 1
+        && this.path.get(this.open.size()).equals(this.reader.getLocalName())
+        && this.path.subList(0, this.open.size()).equals(this.open);
+  }
+
+  /**
+   * Moves the reader to the next event while keeping track of the elements currently open.
+   * 
+   * @throws XMLStreamException thrown by java
+   * @since 1.1.0
+   */
+  private void advance() throws XMLStreamException {
+    if (this.reader.isStartElement()) {
+      this.open.add(this.reader.getLocalName());
+    } else if (this.reader.isEndElement()) {
+      this.open.remove(this.open.size() - 1);
+    }
+    this.reader.next();
+  }
+}
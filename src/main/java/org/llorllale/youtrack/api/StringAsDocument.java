@@ -19,8 +19,6 @@ package org.llorllale.youtrack.api;
 import java.io.IOException;
 import java.io.StringReader;
 import java.io.UncheckedIOException;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
 import org.w3c.dom.Attr;
 import org.w3c.dom.CDATASection;
 import org.w3c.dom.Comment;
@@ -42,7 +40,8 @@ import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 
 /**
- * Handy class to encapsulate an XML string as a {@link Document} node.
+ * Handy class to encapsulate an XML string (or any other {@link InputSource}) as a 
+ * {@link Document} node.
  * 
  * <p>It hides tedious code like:
  * <pre>
@@ -52,6 +51,8 @@ import org.xml.sax.SAXException;
  *     .parse(new InputSource(new StringReader(xml)));
  * }
  * </pre>
+ * 
+ * <p>Parsers are reused across instances (see {@link PooledDocumentBuilder}).</p>
  *
  * @author George Aristy (george.aristy@gmail.com)
  * @since 1.0.0
@@ -67,16 +68,31 @@ final class StringAsDocument implements Document {
    * the JDK's DOM infrastructure should be well-configured.
    * 
    * @param xml the xml string
-   * @throws UncheckedIOException wrapping any {@link ParserConfigurationException}, 
-   *   {@link SAXException}, {@link IOException} thrown by Java
+   * @throws UncheckedIOException wrapping any {@link SAXException} or {@link IOException} thrown
+   *   by the parser
    * @since 1.0.0
    */
   StringAsDocument(String xml) throws UncheckedIOException {
+    this(new InputSource(new StringReader(xml)));
+  }
+
+  /**
+   * Parses the xml read from {@code source}.
+   * 
+   * <p>Throws {@link UncheckedIOException} because the xml is expected to be well-formed and
+   * the JDK's DOM infrastructure should be well-configured.
+   * 
+   * @param source the xml source
+   * @throws UncheckedIOException wrapping any {@link SAXException} or {@link IOException} thrown
+   *   by the parser
+   * @see ResponseAsInputSource
+   * @see PooledDocumentBuilder
+   * @since 1.1.0
+   */
+  StringAsDocument(InputSource source) throws UncheckedIOException {
     try {
-      this.base = DocumentBuilderFactory.newInstance()
-          .newDocumentBuilder()
-          .parse(new InputSource(new StringReader(xml)));
-    } catch(ParserConfigurationException | SAXException | IOException e) {
+      this.base = new PooledDocumentBuilder().get().parse(source);
+    } catch(SAXException | IOException e) {
       throw new UncheckedIOException(new IOException(e.getMessage(), e));
     }
   }
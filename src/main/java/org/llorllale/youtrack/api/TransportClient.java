@@ -0,0 +1,241 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.ClientProtocolException;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.utils.URIUtils;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.impl.EnglishReasonPhraseCatalog;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.conn.BasicClientConnectionManager;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.params.BasicHttpParams;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.HttpContext;
+import org.llorllale.youtrack.api.http.Body;
+import org.llorllale.youtrack.api.http.Headers;
+import org.llorllale.youtrack.api.http.Reply;
+import org.llorllale.youtrack.api.http.Request;
+import org.llorllale.youtrack.api.http.Transport;
+
+/**
+ * Exposes a {@link Transport} as the {@link CloseableHttpClient} the rest of the API executes 
+ * its requests with.
+ * 
+ * <p>Apache requests are converted to {@link Request requests}, and the transport's 
+ * {@link Reply replies} back to Apache responses. Closing a response closes its reply.</p>
+ * 
+ * <p>The transport's configuration and connections are its own business: the deprecated 
+ * {@link #getParams() params} and {@link #getConnectionManager() connection manager} are empty
+ * defaults, and closing this client leaves the transport open.</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+@SuppressWarnings({"checkstyle:MethodCount", "deprecation"})
+final class TransportClient extends CloseableHttpClient {
+  private final Transport transport;
+  private final HttpParams params;
+  private final ClientConnectionManager manager;
+
+  /**
+   * Ctor.
+   * 
+   * @param transport the transport that executes the requests
+   * @since 1.1.0
+   */
+  TransportClient(Transport transport) {
+    super();
+    this.transport = transport;
+    this.params = new BasicHttpParams();
+    this.manager = new BasicClientConnectionManager();
+  }
+
+  @Override
+  public void close() {
+    // the transport's lifecycle is managed by its owner
+  }
+
+  @Override
+  public HttpParams getParams() {
+    return this.params;
+  }
+
+  @Override
+  public ClientConnectionManager getConnectionManager() {
+    return this.manager;
+  }
+
+  @Override
+  protected CloseableHttpResponse doExecute(
+      HttpHost target, HttpRequest request, HttpContext context
+  ) throws IOException {
+    return new Replied(this.transport.execute(request(target, request)));
+  }
+
+  /**
+   * The Apache request, as a {@link Request}.
+   * 
+   * @param target the host the request is sent to, if not given in the request's URI
+   * @param request the request
+   * @return the equivalent request
+   * @throws ClientProtocolException if the request's URI is invalid
+   * @since 1.1.0
+   */
+  static Request request(HttpHost target, HttpRequest request) throws ClientProtocolException {
+    return new Request(
+      request.getRequestLine().getMethod(),
+      uri(target, request),
+      new Headers(
+        Arrays.stream(request.getAllHeaders())
+          .map(header -> new AbstractMap.SimpleImmutableEntry<>(
+            header.getName(), header.getValue()
+          ))
+          .collect(Collectors.toList())
+      ),
+      body(request)
+    );
+  }
+
+  /**
+   * The request's absolute URI.
+   * 
+   * @param target the host the request is sent to, if not given in the request's URI
+   * @param request the request
+   * @return the absolute URI
+   * @throws ClientProtocolException if the request's URI is invalid
+   * @since 1.1.0
+   */
+  private static URI uri(HttpHost target, HttpRequest request) throws ClientProtocolException {
+    try {
+      URI uri = new URI(request.getRequestLine().getUri());
+      if (!uri.isAbsolute() && target != null) {
+        uri = URIUtils.rewriteURI(uri, target);
+      }
+      return uri;
+    } catch (URISyntaxException e) {
+      throw new ClientProtocolException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * The request's body.
+   * 
+   * @param request the request
+   * @return the body, if the request has an entity
+   * @since 1.1.0
+   */
+  private static Optional<Body> body(HttpRequest request) {
+    Optional<Body> body = Optional.empty();
+    if (request instanceof HttpEntityEnclosingRequest) {
+      body = Optional.ofNullable(((HttpEntityEnclosingRequest) request).getEntity())
+        .map(Entity::new);
+    }
+    return body;
+  }
+
+  /**
+   * A request's entity, as a {@link Body}.
+   * 
+   * @since 1.1.0
+   */
+  private static final class Entity implements Body {
+    private final HttpEntity entity;
+
+    /**
+     * Ctor.
+     * 
+     * @param entity the entity
+     * @since 1.1.0
+     */
+    Entity(HttpEntity entity) {
+      this.entity = entity;
+    }
+
+    @Override
+    public Optional<String> type() {
+      return Optional.ofNullable(this.entity.getContentType()).map(Header::getValue);
+    }
+
+    @Override
+    public long length() {
+      return this.entity.getContentLength();
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+      this.entity.writeTo(out);
+    }
+  }
+
+  /**
+   * A {@link Reply}, as an Apache response.
+   * 
+   * @since 1.1.0
+   */
+  static final class Replied extends BasicHttpResponse implements CloseableHttpResponse {
+    private final Reply reply;
+
+    /**
+     * Ctor.
+     * 
+     * @param reply the reply
+     * @since 1.1.0
+     */
+    Replied(Reply reply) {
+      super(
+        HttpVersion.HTTP_1_1,
+        reply.status(),
+        EnglishReasonPhraseCatalog.INSTANCE.getReason(reply.status(), Locale.ENGLISH)
+      );
+      this.reply = reply;
+      reply.headers().asList().forEach(
+        header -> this.addHeader(header.getKey(), header.getValue())
+      );
+      final InputStreamEntity entity = new InputStreamEntity(
+        reply.body(),
+        reply.headers().first(HttpHeaders.CONTENT_LENGTH).map(Long::parseLong).orElse(-1L)
+      );
+      reply.headers().first(HttpHeaders.CONTENT_TYPE).ifPresent(entity::setContentType);
+      reply.headers().first(HttpHeaders.CONTENT_ENCODING).ifPresent(entity::setContentEncoding);
+      this.setEntity(entity);
+    }
+
+    @Override
+    public void close() throws IOException {
+      this.reply.close();
+    }
+  }
+}
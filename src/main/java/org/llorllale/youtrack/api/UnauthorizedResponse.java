@@ -50,4 +50,9 @@ final class UnauthorizedResponse implements Response {
       return this.base.httpResponse();
     }
   }
+
+  @Override
+  public void close() throws IOException {
+    this.base.close();
+  }
 }
@@ -65,16 +65,18 @@ final class XmlAttachment implements Attachment {
 
   @Override
   public InputStream contents() throws IOException {
-    return new HttpResponseAsResponse(
-      this.client.get().execute(
-        new Authenticated(
-          this.login.session(),
-          new HttpGet(
-            this.fileUrl.textOf("@url").get()
+    return new ResponseContents(
+      new HttpResponseAsResponse(
+        this.client.get().execute(
+          new Authenticated(
+            this.login.session(),
+            new HttpGet(
+              this.fileUrl.textOf("@url").get()
+            )
           )
         )
       )
-    ).httpResponse().getEntity().getContent();
+    );
   }
 
   @Override
@@ -93,7 +95,7 @@ final class XmlAttachment implements Attachment {
           )
         )
       )
-    ).httpResponse();
+    ).released();
     return this.issue.attachments();
   }
 }
@@ -101,7 +101,7 @@ final class XmlComment implements Comment {
           )
         )
       )
-    ).httpResponse();
+    ).released();
     return new XmlComment(this.issue, this.login, this.xml, this.http);
   }
 
@@ -119,7 +119,7 @@ final class XmlComment implements Comment {
           )
         )
       )
-    ).httpResponse();
+    ).released();
     return this.issue();
   }
 }
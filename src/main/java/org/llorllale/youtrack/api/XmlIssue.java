@@ -29,6 +29,10 @@ import org.llorllale.youtrack.api.session.UnauthorizedException;
 /**
  * Implementation of {@link Issue}.
  * 
+ * <p>This is an immutable snapshot of the issue as it was when its xml was received: the xml is
+ * copied into a compact {@link FieldIndex} and is not referenced afterwards. Snapshots can be 
+ * safely shared between threads; use {@link #refresh()} to obtain a fresh one.</p>
+ * 
  * @author George Aristy (george.aristy@gmail.com)
  * @since 0.1.0
  */
@@ -36,12 +40,16 @@ import org.llorllale.youtrack.api.session.UnauthorizedException;
 final class XmlIssue implements Issue {
   private final Project project;
   private final Login login;
-  private final Xml xml;
+  private final FieldIndex index;
   private final Supplier<CloseableHttpClient> client;
 
   /**
    * Ctor.
    * 
+   * <p>The issue's fields are copied into a {@link FieldIndex} right away, so that none of the 
+   * accessors need to evaluate xpath expressions over {@code xml}, and so that {@code xml} need
+   * not be retained.</p>
+   * 
    * @param project this {@link Issue issue's} {@link Project}
    * @param login the user's {@link Login}
    * @param xml the xml object received from YouTrack
@@ -56,32 +64,28 @@ final class XmlIssue implements Issue {
   ) {
     this.project = project;
     this.login = login;
-    this.xml = xml;
+    this.index = new FieldIndex(xml);
     this.client = client;
   }
 
   @Override
   public String id() {
-    return this.xml.textOf("@id").get();
+    return this.index.id();
   }
 
   @Override
   public Instant creationDate() {
-    return Instant.ofEpochMilli(
-      Long.parseLong(
-        this.xml.textOf("//field[@name = 'created']/value").get()
-      )
-    );
+    return Instant.ofEpochMilli(this.index.created().getAsLong());
   }
 
   @Override
   public String summary() {
-    return this.xml.textOf("//field[@name = 'summary']/value").get();
+    return this.index.value("summary").get();
   }
 
   @Override
   public Optional<String> description() {
-    return this.xml.textOf("//field[@name = 'description']/value");
+    return this.index.value("description");
   }
 
   @Override
@@ -101,7 +105,7 @@ final class XmlIssue implements Issue {
 
   @Override
   public UsersOfIssue users() {
-    return new XmlUsersOfIssue(this, this.xml);
+    return new XmlUsersOfIssue(this, this.index);
   }
 
   @Override
@@ -119,12 +123,12 @@ final class XmlIssue implements Issue {
   @Override
   public Collection<AssignedField> fields() {
     return new MappedCollection<>(
-      x -> new XmlAssignedField(
-          new BasicField(x.textOf("@name").get(), this.project()),
+      e -> new BasicAssignedField(
+          new BasicField(e.getKey(), this.project()),
           this,
-          x
+          e.getValue()
       ),
-      this.xml.children("//field[count(valueId) > 0]")
+      this.index.custom().entrySet()
     );
   }
 
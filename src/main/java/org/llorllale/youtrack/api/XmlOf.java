@@ -22,13 +22,14 @@ import java.util.Collection;
 import java.util.Optional;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
 import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
 /**
  * Handy class that exposes XPath operations on a {@link Node}.
+ * 
+ * <p>Expressions are compiled only once per thread (see {@link CompiledXpath}).</p>
  *
  * @author George Aristy (george.aristy@gmail.com)
  * @since 1.0.0
@@ -60,19 +61,13 @@ final class XmlOf implements Xml {
    * Encapsulates the given {@link Response} as a {@link XmlObject}.
    * 
    * @param response the response to encapsulate
-   * @throws IOException from {@link InputStreamAsString#apply(java.io.InputStream)}
+   * @throws IOException from {@link ResponseAsDocument#apply(Response)}
    * @throws UncheckedIOException from {@link StringAsDocument}
    * @see #XmlOf(org.w3c.dom.Node) 
    * @since 1.0.0
    */
   XmlOf(Response response) throws UncheckedIOException, IOException {
-    this(
-        new StringAsDocument(
-            new InputStreamAsString().apply(
-                response.httpResponse().getEntity().getContent()
-            )
-        ).getDocumentElement()
-    );
+    this(new ResponseAsDocument().apply(response).getDocumentElement());
   }
 
   /**
@@ -101,9 +96,9 @@ final class XmlOf implements Xml {
   public Collection<Xml> children(String xpath) throws UncheckedIOException {
     try {
       return new XmlsOf(
-          (NodeList) XPathFactory.newInstance()
-              .newXPath()
-              .evaluate(xpath, this.node(), XPathConstants.NODESET)
+          (NodeList) new CompiledXpath()
+              .apply(xpath)
+              .evaluate(this.node(), XPathConstants.NODESET)
       );
     } catch(XPathExpressionException e) {
       throw new UncheckedIOException(new IOException(e.getMessage(), e));
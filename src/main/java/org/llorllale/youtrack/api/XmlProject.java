@@ -20,6 +20,7 @@ import java.util.Optional;
 import java.util.function.Supplier;
 import org.apache.http.client.HttpClient;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.llorllale.youtrack.api.paging.Fixed;
 import org.llorllale.youtrack.api.session.Login;
 
 /**
@@ -33,26 +34,49 @@ final class XmlProject implements Project {
   private final Login login;
   private final Xml xml;
   private final Supplier<CloseableHttpClient> client;
+  private final Paging paging;
 
   /**
-   * Ctor.
+   * Primary ctor.
    * 
    * @param youtrack the parent {@link YouTrack}
    * @param login the user's {@link Login}
    * @param xml the XML object received from YouTrack to be adapted into {@link Project}
    * @param client the {@link HttpClient} to use
-   * @since 0.2.0
+   * @param paging the default {@link Paging} for this project's {@link #issues() issues}
+   * @since 1.1.0
+   * @checkstyle ParameterNumber (10 lines)
    */
   XmlProject(
       YouTrack youtrack, 
       Login login, 
       Xml xml,
-      Supplier<CloseableHttpClient> client
+      Supplier<CloseableHttpClient> client,
+      Paging paging
   ) {
     this.youtrack = youtrack;
     this.login = login;
     this.xml = xml;
     this.client = client;
+    this.paging = paging;
+  }
+
+  /**
+   * Ctor.
+   * 
+   * @param youtrack the parent {@link YouTrack}
+   * @param login the user's {@link Login}
+   * @param xml the XML object received from YouTrack to be adapted into {@link Project}
+   * @param client the {@link HttpClient} to use
+   * @since 0.2.0
+   */
+  XmlProject(
+      YouTrack youtrack, 
+      Login login, 
+      Xml xml,
+      Supplier<CloseableHttpClient> client
+  ) {
+    this(youtrack, login, xml, client, new Fixed());
   }
 
   @Override
@@ -74,7 +98,7 @@ final class XmlProject implements Project {
 
   @Override
   public Issues issues() {
-    return new DefaultIssues(this, this.login, this.client);
+    return new DefaultIssues(this, this.login, this.client, this.paging);
   }
 
   @Override
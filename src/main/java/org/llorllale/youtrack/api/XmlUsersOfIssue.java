@@ -28,11 +28,12 @@ import org.llorllale.youtrack.api.session.UnauthorizedException;
  * @since 0.5.0
  */
 final class XmlUsersOfIssue implements UsersOfIssue {
+  private static final String ASSIGNEE = "Assignee";
   private final Issue issue;
-  private final Xml xml;
+  private final FieldIndex xml;
 
   /**
-   * Primary ctor.
+   * Ctor.
    * 
    * @param issue the parent {@link Issue}
    * @param xml the XML received from YouTrack for the relevant issue
@@ -41,35 +42,49 @@ final class XmlUsersOfIssue implements UsersOfIssue {
   XmlUsersOfIssue(
       Issue issue,
       Xml xml
+  ) {
+    this(issue, new FieldIndex(xml));
+  }
+
+  /**
+   * Primary ctor.
+   * 
+   * @param issue the parent {@link Issue}
+   * @param index the relevant issue's {@link FieldIndex fields}
+   * @since 1.1.0
+   */
+  XmlUsersOfIssue(
+      Issue issue,
+      FieldIndex index
   ) {
     this.issue = issue;
-    this.xml = xml;
+    this.xml = index;
   }
 
   @Override
   public User creator() throws IOException, UnauthorizedException {
     return this.issue().project().users().user(
-      this.xml.textOf("//field[@name = 'reporterName']/value").get()
+      this.xml.value("reporterName").get()
     );
   }
 
   @Override
   public Optional<User> updater() throws IOException, UnauthorizedException {
     return this.user(
-      this.xml.textOf("//field[@name = 'updaterName']/value")
+      this.xml.value("updaterName")
     );
   }
 
   @Override
   public Optional<User> assignee() throws IOException, UnauthorizedException {
     return this.user(
-      this.xml.textOf("//field[@name = 'Assignee']/value")
+      this.xml.value(ASSIGNEE)
     );
   }
 
   @Override
   public UsersOfIssue assignTo(User user) throws IOException, UnauthorizedException {
-    final Field field = new BasicField("Assignee", this.issue().project());
+    final Field field = new BasicField(ASSIGNEE, this.issue().project());
     return this.issue().update().field(
       field,
       new BasicFieldValue(user.loginName(), field)
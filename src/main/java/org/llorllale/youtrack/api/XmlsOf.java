@@ -63,33 +63,26 @@ final class XmlsOf extends AbstractCollection<Xml> {
    * <pre>
    * {@code 
    * new XmlOf(
-   *     new StringAsDocument(
-   *         new InputStreamAsString().apply(
-   *             response.httpResponse().getEntity().getContent()
-   *         )
-   *     )
+   *     new ResponseAsDocument().apply(response)
    * ).children(xpath);
    * }
    * </pre>
    * 
+   * <p>The response is released once parsed.</p>
+   * 
    * @param xpath the xpath expression used to add Xml nodes to this collection
    * @param response the response object to encapsulate
    * @throws IOException if there's an error reading the response's entity's contents
    * @throws UncheckedIOException if there's an error parsing the xml payload into a document node
    *    or if there's an error while appyling {@code xpath}
-   * @see InputStreamAsString
-   * @see StringAsDocument
+   * @see ResponseAsDocument
    * @see Xml
    * @since 1.0.0
    */
   XmlsOf(String xpath, Response response) throws IOException, UncheckedIOException {
     this.base = 
       new XmlOf(
-        new StringAsDocument(
-          new InputStreamAsString().apply(
-            response.httpResponse().getEntity().getContent()
-          )
-        )
+        new ResponseAsDocument().apply(response)
       ).children(xpath);
   }
 
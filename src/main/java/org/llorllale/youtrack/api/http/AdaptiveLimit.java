@@ -0,0 +1,213 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.http.HttpStatus;
+
+/**
+ * Caps the number of requests in flight with a limit that adapts to the server's load (additive
+ * increase, multiplicative decrease).
+ * 
+ * <p>Requests over the limit wait for one in flight to complete. Each time a request completes
+ * while the limit is saturated, the limit grows by {@code 1 / limit} (ie. by about one per 
+ * round of requests). Each time a request fails, is answered with {@code 429} or {@code 5xx},
+ * or takes longer than {@code slow}, the limit is cut by 10%. The limit stays between 
+ * {@code min} and {@code max}; {@code max} would normally be no larger than the connection 
+ * pool's size (see {@link Pool}), so that requests wait here rather than for a connection.</p>
+ * 
+ * <p>A request is in flight until its response is closed, since its connection is leased until
+ * then; responses must therefore always be closed. Its latency is measured when the server's 
+ * response headers are received, so reading a large body doesn't count as a slow response. 
+ * Place this transport under {@link Retrying} so that each attempt counts, eg:</p>
+ * <pre>
+ * final AdaptiveLimit limit = new AdaptiveLimit(
+ *   new Apache(new Pool(new Client()).total(20)), 1, 20, Duration.ofSeconds(2)
+ * );
+ * final YouTrack youtrack = new DefaultYouTrack(login, new Retrying(limit), new Fixed());
+ * ...
+ * final int current = limit.limit();
+ * </pre>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+public final class AdaptiveLimit implements Transport {
+  private static final double DECREASE = 0.9;
+  private static final double HALF = 2.0;
+  private static final int TOO_MANY_REQUESTS = 429;
+
+  private final Transport origin;
+  private final int min;
+  private final int max;
+  private final long slow;
+  private final Object lock;
+  private double current;
+  private int flight;
+
+  /**
+   * Ctor. The limit starts halfway between {@code min} and {@code max}.
+   * 
+   * @param origin the transport whose requests are limited
+   * @param min the lowest limit; at least 1
+   * @param max the highest limit; at least {@code min}
+   * @param slow responses slower than this are taken as a sign of overload
+   * @throws IllegalArgumentException if {@code min} is less than 1, or greater than {@code max}
+   * @since 1.1.0
+   */
+  public AdaptiveLimit(Transport origin, int min, int max, Duration slow)
+      throws IllegalArgumentException {
+    if (min < 1 || min > max) {
+      throw new IllegalArgumentException(
+        String.format("Limits must satisfy 1 <= min <= max (min: %d, max: %d)", min, max)
+      );
+    }
+    this.origin = origin;
+    this.min = min;
+    this.max = max;
+    this.slow = slow.toNanos();
+    this.lock = new Object();
+    this.current = (min + max) / HALF;
+  }
+
+  @Override
+  public Reply execute(Request request) throws IOException {
+    this.acquire();
+    final long start = System.nanoTime();
+    boolean sent = false;
+    try {
+      final Reply response = this.origin.execute(request);
+      final int status = response.status();
+      final boolean overloaded = status >= HttpStatus.SC_INTERNAL_SERVER_ERROR
+        || status == TOO_MANY_REQUESTS
+        || System.nanoTime() - start > this.slow;
+      sent = true;
+      return new Reply(
+        status, response.headers(), response.body(),
+        new Leased(response, () -> this.release(overloaded))
+      );
+    } finally {
+      if (!sent) {
+        this.release(true);
+      }
+    }
+  }
+
+  /**
+   * The current limit.
+   * 
+   * @return the maximum number of requests currently allowed in flight
+   * @since 1.1.0
+   */
+  public int limit() {
+    synchronized (this.lock) {
+      return (int) this.current;
+    }
+  }
+
+  /**
+   * The requests in flight.
+   * 
+   * @return the number of requests in flight
+   * @since 1.1.0
+   */
+  public int inFlight() {
+    synchronized (this.lock) {
+      return this.flight;
+    }
+  }
+
+  /**
+   * Waits until a request can be sent within the limit.
+   * 
+   * @throws InterruptedIOException if interrupted while waiting
+   */
+  private void acquire() throws InterruptedIOException {
+    final long start = System.nanoTime();
+    synchronized (this.lock) {
+      try {
+        while (this.flight >= (int) this.current) {
+          this.lock.wait();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        final InterruptedIOException interrupted = new InterruptedIOException(
+          "Interrupted while waiting for a request to complete"
+        );
+        interrupted.initCause(e);
+        throw interrupted;
+      }
+      this.flight += 1;
+    }
+    new Waited().add(System.nanoTime() - start);
+  }
+
+  /**
+   * Adjusts the limit according to a completed request's outcome.
+   * 
+   * @param overloaded whether the outcome signals that the server is overloaded
+   */
+  private void release(boolean overloaded) {
+    synchronized (this.lock) {
+      if (overloaded) {
+        this.current = Math.max(this.min, this.current * DECREASE);
+      } else if (this.flight >= (int) this.current) {
+        this.current = Math.min(this.max, this.current + 1 / this.current);
+      }
+      this.flight -= 1;
+      this.lock.notifyAll();
+    }
+  }
+
+  /**
+   * Closes a reply, and ends its request's flight the first time.
+   * 
+   * @since 1.1.0
+   */
+  private static final class Leased implements Closeable {
+    private final Reply origin;
+    private final Runnable release;
+    private final AtomicBoolean released;
+
+    /**
+     * Ctor.
+     * 
+     * @param origin the reply
+     * @param release ends the request's flight
+     */
+    private Leased(Reply origin, Runnable release) {
+      this.origin = origin;
+      this.release = release;
+      this.released = new AtomicBoolean(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        this.origin.close();
+      } finally {
+        if (this.released.compareAndSet(false, true)) {
+          this.release.run();
+        }
+      }
+    }
+  }
+}
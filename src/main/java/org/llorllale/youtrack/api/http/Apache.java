@@ -0,0 +1,198 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+
+/**
+ * {@link Transport} on Apache's {@link org.apache.http.client.HttpClient}.
+ * 
+ * <p>The client is built on first use, and reused afterwards. Requests and replies are converted
+ * to and from Apache's types; replies are streamed as usual, and closing them releases their 
+ * connection.</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+public final class Apache implements Transport {
+  private final Supplier<HttpClientBuilder> builder;
+  private volatile CloseableHttpClient client;
+
+  /**
+   * Ctor.
+   * 
+   * @param builder configures the client (eg. {@link Pooled})
+   * @since 1.1.0
+   */
+  public Apache(Supplier<HttpClientBuilder> builder) {
+    this.builder = builder;
+  }
+
+  /**
+   * A client with Apache's default configuration.
+   * 
+   * @see Client
+   * @since 1.1.0
+   */
+  public Apache() {
+    this(new Client());
+  }
+
+  @Override
+  public Reply execute(Request request) throws IOException {
+    final CloseableHttpResponse response = this.client().execute(apache(request));
+    return reply(response, response);
+  }
+
+  /**
+   * The request, as one of Apache's.
+   * 
+   * @param request the request
+   * @return the equivalent Apache request
+   * @since 1.1.0
+   */
+  static HttpUriRequest apache(Request request) {
+    final RequestBuilder builder = RequestBuilder.create(request.method())
+      .setUri(request.uri());
+    request.headers().asList().forEach(
+      header -> builder.addHeader(header.getKey(), header.getValue())
+    );
+    request.body().map(Written::new).ifPresent(builder::setEntity);
+    return builder.build();
+  }
+
+  /**
+   * The response, as a {@link Reply}.
+   * 
+   * @param response the response
+   * @param release releases the response's resources once the reply is closed
+   * @return the equivalent reply
+   * @throws IOException if the response's body can't be read
+   * @since 1.1.0
+   */
+  static Reply reply(HttpResponse response, Closeable release) throws IOException {
+    return new Reply(
+      response.getStatusLine().getStatusCode(),
+      new Headers(
+        Arrays.stream(response.getAllHeaders())
+          .map(header -> new AbstractMap.SimpleImmutableEntry<>(
+            header.getName(), header.getValue()
+          ))
+          .collect(Collectors.toList())
+      ),
+      body(response),
+      release
+    );
+  }
+
+  /**
+   * The client, built on first use.
+   * 
+   * @return the client
+   * @since 1.1.0
+   */
+  private CloseableHttpClient client() {
+    if (this.client == null) {
+      synchronized (this.builder) {
+        if (this.client == null) {
+          this.client = this.builder.get().build();
+        }
+      }
+    }
+    return this.client;
+  }
+
+  /**
+   * The response's body.
+   * 
+   * @param response the response
+   * @return the body's content, or an empty stream if there's no body
+   * @throws IOException if the body can't be read
+   * @since 1.1.0
+   */
+  private static InputStream body(HttpResponse response) throws IOException {
+    InputStream body = new ByteArrayInputStream(new byte[0]);
+    if (response.getEntity() != null) {
+      body = response.getEntity().getContent();
+    }
+    return body;
+  }
+
+  /**
+   * A request {@link Body} as an Apache entity.
+   * 
+   * @since 1.1.0
+   */
+  private static final class Written extends AbstractHttpEntity {
+    private final Body body;
+
+    /**
+     * Ctor.
+     * 
+     * @param body the body
+     * @since 1.1.0
+     */
+    Written(Body body) {
+      super();
+      this.body = body;
+      body.type().ifPresent(this::setContentType);
+    }
+
+    @Override
+    public boolean isRepeatable() {
+      return false;
+    }
+
+    @Override
+    public long getContentLength() {
+      return this.body.length();
+    }
+
+    @Override
+    public InputStream getContent() throws IOException {
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      this.body.writeTo(out);
+      return new ByteArrayInputStream(out.toByteArray());
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+      this.body.writeTo(out);
+    }
+
+    @Override
+    public boolean isStreaming() {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import org.apache.http.HttpResponse;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.util.EntityUtils;
+
+/**
+ * {@link AsyncTransport} on Apache's {@link org.apache.http.nio.client.HttpAsyncClient}.
+ * 
+ * <p>Requests are multiplexed over a few I/O threads, so the number of requests in flight is 
+ * bounded by the client's connection pool rather than by threads. Each reply is read into 
+ * memory before its future completes, so that whatever is chained to the future never waits on
+ * the network.</p>
+ * 
+ * <p>The client is built and started on first use, and reused afterwards; its I/O threads run 
+ * until this transport is closed.</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+public final class AsyncApache implements AsyncTransport, Closeable {
+  private final Supplier<HttpAsyncClientBuilder> builder;
+  private volatile CloseableHttpAsyncClient client;
+
+  /**
+   * Ctor.
+   * 
+   * @param builder configures the client (eg. its connection pool's size)
+   * @since 1.1.0
+   */
+  public AsyncApache(Supplier<HttpAsyncClientBuilder> builder) {
+    this.builder = builder;
+  }
+
+  /**
+   * A client with Apache's default configuration.
+   * 
+   * @since 1.1.0
+   */
+  public AsyncApache() {
+    this(HttpAsyncClientBuilder::create);
+  }
+
+  @Override
+  public CompletableFuture<Reply> execute(Request request) {
+    final CompletableFuture<Reply> reply = new CompletableFuture<>();
+    final Future<HttpResponse> response = this.client().execute(
+      Apache.apache(request), new Callback(reply)
+    );
+    reply.whenComplete(
+      (done, error) -> {
+        if (reply.isCancelled()) {
+          response.cancel(true);
+        }
+      }
+    );
+    return reply;
+  }
+
+  @Override
+  public void close() throws IOException {
+    synchronized (this.builder) {
+      if (this.client != null) {
+        this.client.close();
+      }
+    }
+  }
+
+  /**
+   * The client, built and started on first use.
+   * 
+   * @return the client
+   * @since 1.1.0
+   */
+  private CloseableHttpAsyncClient client() {
+    if (this.client == null) {
+      synchronized (this.builder) {
+        if (this.client == null) {
+          final CloseableHttpAsyncClient started = this.builder.get().build();
+          started.start();
+          this.client = started;
+        }
+      }
+    }
+    return this.client;
+  }
+
+  /**
+   * Completes a reply with the client's outcome.
+   * 
+   * @since 1.1.0
+   */
+  private static final class Callback implements FutureCallback<HttpResponse> {
+    private final CompletableFuture<Reply> reply;
+
+    /**
+     * Ctor.
+     * 
+     * @param reply the reply to complete
+     * @since 1.1.0
+     */
+    Callback(CompletableFuture<Reply> reply) {
+      this.reply = reply;
+    }
+
+    @Override
+    public void completed(HttpResponse response) {
+      try {
+        this.reply.complete(
+          Apache.reply(response, () -> EntityUtils.consume(response.getEntity()))
+        );
+      } catch (IOException e) {
+        this.reply.completeExceptionally(e);
+      }
+    }
+
+    @Override
+    public void failed(Exception error) {
+      this.reply.completeExceptionally(error);
+    }
+
+    @Override
+    public void cancelled() {
+      this.reply.cancel(false);
+    }
+  }
+}
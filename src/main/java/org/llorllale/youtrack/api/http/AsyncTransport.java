@@ -0,0 +1,47 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link Transport}: requests are sent without tying up the calling 
+ * thread, and their replies arrive as {@link CompletableFuture futures}.
+ * 
+ * <p>Apache's {@link org.apache.http.nio.client.HttpAsyncClient} is used by default (see 
+ * {@link AsyncApache}). A single transport can serve both the non-blocking API (eg. 
+ * {@link org.llorllale.youtrack.api.AsyncIssues}) and the blocking one (see 
+ * {@link Blocking}).</p>
+ * 
+ * <p>Implementations must be thread-safe, and must not block the calling thread while waiting 
+ * for the server. Futures complete exceptionally with an {@link java.io.IOException} if the 
+ * server is unavailable.</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+@FunctionalInterface
+public interface AsyncTransport {
+  /**
+   * Sends the request.
+   * 
+   * @param request the request
+   * @return the server's eventual reply, whatever its status
+   * @since 1.1.0
+   */
+  CompletableFuture<Reply> execute(Request request);
+}
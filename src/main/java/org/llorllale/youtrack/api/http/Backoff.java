@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Exponential backoff with full jitter.
+ * 
+ * <p>The delay before retry {@code n} (starting at zero) is a random duration between zero and
+ * {@code min(cap, base * 2^n)}. Randomizing the whole delay spreads out the retries of clients
+ * that failed at the same time, so that they don't hit the server again in lockstep.</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+public final class Backoff {
+  private static final int MAX_SHIFT = 30;
+
+  private final Duration base;
+  private final Duration cap;
+  private final DoubleSupplier jitter;
+
+  /**
+   * Ctor.
+   * 
+   * @param base the delay before the first retry, before jitter
+   * @param cap the longest delay, before jitter
+   * @param jitter random numbers between zero (inclusive) and one (exclusive)
+   * @since 1.1.0
+   */
+  public Backoff(Duration base, Duration cap, DoubleSupplier jitter) {
+    this.base = base;
+    this.cap = cap;
+    this.jitter = jitter;
+  }
+
+  /**
+   * Ctor.
+   * 
+   * @param base the delay before the first retry, before jitter
+   * @param cap the longest delay, before jitter
+   * @since 1.1.0
+   */
+  public Backoff(Duration base, Duration cap) {
+    this(base, cap, () -> ThreadLocalRandom.current().nextDouble());
+  }
+
+  /**
+   * The delay before the given retry.
+   * 
+   * @param retry the retry's number, starting at zero
+   * @return the delay before the retry
+   * @since 1.1.0
+   */
+  public Duration delay(int retry) {
+    final int shift = Math.min(retry, MAX_SHIFT);
+    long ceiling = this.cap.toNanos();
+    if (this.base.toNanos() <= ceiling >> shift) {
+      ceiling = this.base.toNanos() << shift;
+    }
+    return Duration.ofNanos((long) (ceiling * this.jitter.getAsDouble()));
+  }
+}
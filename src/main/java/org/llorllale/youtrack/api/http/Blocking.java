@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * {@link Transport} on an {@link AsyncTransport}: the calling thread waits for each reply.
+ * 
+ * <p>Lets the blocking API share the non-blocking one's client and connections, eg.:</p>
+ * <pre>
+ * final AsyncApache async = new AsyncApache();
+ * final YouTrack youtrack = new DefaultYouTrack(login, new Blocking(async), new Fixed());
+ * final AsyncIssues issues = new AsyncIssues(project, login, async);
+ * </pre>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+public final class Blocking implements Transport {
+  private final AsyncTransport origin;
+
+  /**
+   * Ctor.
+   * 
+   * @param origin the non-blocking transport
+   * @since 1.1.0
+   */
+  public Blocking(AsyncTransport origin) {
+    this.origin = origin;
+  }
+
+  @Override
+  public Reply execute(Request request) throws IOException {
+    final CompletableFuture<Reply> reply = this.origin.execute(request);
+    try {
+      return reply.get();
+    } catch (InterruptedException e) {
+      reply.cancel(true);
+      Thread.currentThread().interrupt();
+      final InterruptedIOException error = new InterruptedIOException(e.getMessage());
+      error.initCause(e);
+      throw error;
+    } catch (ExecutionException | CancellationException e) {
+      throw unwrapped(e);
+    }
+  }
+
+  /**
+   * The cause of a failed reply.
+   * 
+   * @param error the failure
+   * @return the failure's cause, if an {@link IOException}, or else the failure wrapped in one
+   * @since 1.1.0
+   */
+  private static IOException unwrapped(Exception error) {
+    final IOException unwrapped;
+    if (error.getCause() instanceof IOException) {
+      unwrapped = (IOException) error.getCause();
+    } else {
+      unwrapped = new IOException(error.getMessage(), error);
+    }
+    return unwrapped;
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Optional;
+
+/**
+ * The body of a {@link Request}.
+ * 
+ * <p>Transports write the body out as they send the request; they don't need to write it more
+ * than once.</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+public interface Body {
+  /**
+   * The body's content type.
+   * 
+   * @return the content type (eg. {@code multipart/form-data; boundary=...}), if known
+   * @since 1.1.0
+   */
+  Optional<String> type();
+
+  /**
+   * The body's length.
+   * 
+   * @return the number of bytes in the body, or a negative number if unknown
+   * @since 1.1.0
+   */
+  long length();
+
+  /**
+   * Writes the body out.
+   * 
+   * @param out where the body is written
+   * @throws IOException if the body can't be written
+   * @since 1.1.0
+   */
+  void writeTo(OutputStream out) throws IOException;
+}
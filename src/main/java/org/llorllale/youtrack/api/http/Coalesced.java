@@ -0,0 +1,276 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Coalesces identical concurrent {@code GET} requests into a single call to the server.
+ * 
+ * <p>Requests are identical if they have the same URI and credentials (ie. the same session).
+ * While a request is in flight, identical requests wait for its response instead of being sent
+ * themselves. If any did, the response's body is read into memory once, and each of them gets
+ * its own copy of the response; otherwise, the response is streamed as usual. Failures are 
+ * shared the same way, as the cause of each waiting request's {@link IOException}. Requests
+ * sent after the response is received are sent anew.</p>
+ * 
+ * <p>Place this transport above any {@link Retrying} or {@link Throttled} transports, so that
+ * waiting requests neither retry nor spend tokens on their own, eg:</p>
+ * <pre>
+ * final YouTrack youtrack = new DefaultYouTrack(
+ *   login, new Coalesced(new Retrying(new Apache())), new Fixed()
+ * );
+ * </pre>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+public final class Coalesced implements Transport {
+  private static final String GET = "GET";
+  private final Transport origin;
+  private final ConcurrentMap<String, Flight> flights;
+
+  /**
+   * Ctor.
+   * 
+   * @param origin the transport that executes the requests
+   * @since 1.1.0
+   */
+  public Coalesced(Transport origin) {
+    this.origin = origin;
+    this.flights = new ConcurrentHashMap<>();
+  }
+
+  @Override
+  public Reply execute(Request request) throws IOException {
+    final Reply response;
+    if (GET.equals(request.method())) {
+      response = this.coalesced(request);
+    } else {
+      response = this.origin.execute(request);
+    }
+    return response;
+  }
+
+  /**
+   * Sends the request, unless an identical one is already in flight.
+   * 
+   * @param request the {@code GET} request
+   * @return the response
+   * @throws IOException if the server is unavailable
+   */
+  private Reply coalesced(Request request) throws IOException {
+    final String key = new Key(request).asString();
+    final Flight own = new Flight();
+    Reply response = null;
+    while (response == null) {
+      final Flight current = this.flights.putIfAbsent(key, own);
+      if (current == null) {
+        response = this.lead(key, own, request);
+      } else {
+        response = current.follow();
+      }
+    }
+    return response;
+  }
+
+  /**
+   * Sends the request, and shares its outcome with the requests that waited for it.
+   * 
+   * @param key the request's key
+   * @param flight the request's flight
+   * @param request the request
+   * @return the response
+   * @throws IOException if the server is unavailable
+   */
+  private Reply lead(String key, Flight flight, Request request) throws IOException {
+    Reply response = null;
+    IOException failure = null;
+    try {
+      response = this.origin.execute(request);
+    } catch (IOException e) {
+      failure = e;
+      throw e;
+    } finally {
+      this.flights.remove(key, flight);
+      if (response == null) {
+        flight.crash(failure);
+      }
+    }
+    return flight.land(response);
+  }
+
+  /**
+   * A request in flight, and the identical requests waiting for its response.
+   * 
+   * @since 1.1.0
+   */
+  private static final class Flight {
+    private final CompletableFuture<Landed> outcome;
+    private int followers;
+    private boolean closed;
+
+    /**
+     * Ctor.
+     * 
+     * @since 1.1.0
+     */
+    private Flight() {
+      this.outcome = new CompletableFuture<>();
+    }
+
+    /**
+     * Waits for the response.
+     * 
+     * @return a copy of the response, or {@code null} if it was already received
+     * @throws IOException if the request failed
+     */
+    private Reply follow() throws IOException {
+      Reply response = null;
+      if (this.join()) {
+        try {
+          response = this.outcome.get().response();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          final InterruptedIOException interrupted = new InterruptedIOException(
+            "Interrupted while waiting for an identical request"
+          );
+          interrupted.initCause(e);
+          throw interrupted;
+        } catch (ExecutionException e) {
+          throw new IOException("Identical request failed", e.getCause());
+        }
+      }
+      return response;
+    }
+
+    /**
+     * Joins the flight, unless its response was already received.
+     * 
+     * @return whether the flight was joined
+     */
+    private synchronized boolean join() {
+      if (!this.closed) {
+        this.followers += 1;
+      }
+      return !this.closed;
+    }
+
+    /**
+     * The response was received: shares it with the followers, if any.
+     * 
+     * @param response the response
+     * @return the response, or a copy of it if it was shared
+     * @throws IOException if the response's body can't be read
+     */
+    private Reply land(Reply response) throws IOException {
+      Reply own = response;
+      if (this.close() > 0) {
+        try {
+          final Landed landed = new Landed(response);
+          this.outcome.complete(landed);
+          own = landed.response();
+        } catch (IOException e) {
+          this.outcome.completeExceptionally(e);
+          throw e;
+        } finally {
+          response.close();
+        }
+      }
+      return own;
+    }
+
+    /**
+     * The request failed: fails the followers, if any.
+     * 
+     * @param error the failure, or {@code null} if it wasn't an {@link IOException}
+     */
+    private void crash(IOException error) {
+      this.close();
+      this.outcome.completeExceptionally(
+        Optional.ofNullable(error).orElseGet(() -> new IOException("Request failed"))
+      );
+    }
+
+    /**
+     * Closes the flight to new followers.
+     * 
+     * @return the number of followers
+     */
+    private synchronized int close() {
+      this.closed = true;
+      return this.followers;
+    }
+  }
+
+  /**
+   * A received response, buffered.
+   * 
+   * @since 1.1.0
+   */
+  private static final class Landed {
+    private static final int BUFFER = 8192;
+    private final int status;
+    private final Headers headers;
+    private final byte[] body;
+
+    /**
+     * Reads the response.
+     * 
+     * @param response the response
+     * @throws IOException if the response's body can't be read
+     */
+    private Landed(Reply response) throws IOException {
+      this.status = response.status();
+      this.headers = response.headers();
+      this.body = read(response.body());
+    }
+
+    /**
+     * A copy of the response.
+     * 
+     * @return a copy of the response
+     */
+    private Reply response() {
+      return new Reply(this.status, this.headers, this.body);
+    }
+
+    /**
+     * Reads the body to the end.
+     * 
+     * @param body the body
+     * @return the body's bytes
+     * @throws IOException if the body can't be read
+     */
+    private static byte[] read(InputStream body) throws IOException {
+      final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      final byte[] buffer = new byte[BUFFER];
+      for (int read = body.read(buffer); read != -1; read = body.read(buffer)) {
+        bytes.write(buffer, 0, read);
+      }
+      return bytes.toByteArray();
+    }
+  }
+}
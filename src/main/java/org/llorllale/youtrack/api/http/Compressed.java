@@ -0,0 +1,191 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.protocol.RequestAcceptEncoding;
+import org.apache.http.client.protocol.ResponseContentEncoding;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpCoreContext;
+
+/**
+ * Negotiates compressed responses ({@code gzip} or {@code deflate}) with the server, and counts
+ * the bytes received before and after decompression.
+ * 
+ * <p>Apache's default client (see {@link Client}) already negotiates compression, unless it's 
+ * been {@link HttpClientBuilder#disableContentCompression() disabled}; this decorator ensures 
+ * it's negotiated regardless, and measures its effect.</p>
+ * 
+ * <p>Responses are decompressed as they are read, so compressed payloads are streamed into the
+ * XML parser without ever being held in memory as a whole. Use the same instance for all the 
+ * requests to be measured, eg:</p>
+ * <pre>
+ * final Compressed compressed = new Compressed(new Pooled(20, new Client()));
+ * final YouTrack youtrack = new DefaultYouTrack(login, compressed);
+ * ...
+ * final double ratio = (double) compressed.wire() / compressed.decoded();
+ * </pre>
+ * 
+ * <p>The bytes of each response can also be reported to a listener, as a {@link Transfer}, 
+ * once the response has been read to the end or closed:</p>
+ * <pre>
+ * new Compressed(new Client(), transfer -&gt; log.debug(transfer))
+ * </pre>
+ * 
+ * <p>Note: bytes are counted as they are read, so responses that are abandoned before being 
+ * fully read only count the bytes read so far; responses whose content is never read nor 
+ * closed are not reported to the listener.</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+public final class Compressed implements Supplier<HttpClientBuilder> {
+  private static final String WIRE = Compressed.class.getName().concat(".wire");
+  private final Supplier<HttpClientBuilder> decorated;
+  private final LongAdder responses;
+  private final LongAdder compressed;
+  private final LongAdder uncompressed;
+  private final Consumer<Transfer> listener;
+
+  /**
+   * Ctor.
+   * 
+   * @param decorated the builder to configure
+   * @since 1.1.0
+   */
+  public Compressed(Supplier<HttpClientBuilder> decorated) {
+    this(decorated, transfer -> { });
+  }
+
+  /**
+   * Primary ctor.
+   * 
+   * @param decorated the builder to configure
+   * @param listener receives the bytes of each response once it has been read or closed
+   * @since 1.1.0
+   */
+  public Compressed(Supplier<HttpClientBuilder> decorated, Consumer<Transfer> listener) {
+    this.decorated = decorated;
+    this.responses = new LongAdder();
+    this.compressed = new LongAdder();
+    this.uncompressed = new LongAdder();
+    this.listener = listener;
+  }
+
+  @Override
+  public HttpClientBuilder get() {
+    return this.decorated.get()
+      .addInterceptorLast(new RequestAcceptEncoding())
+      .addInterceptorFirst(this::received)
+      .addInterceptorLast(new ResponseContentEncoding())
+      .addInterceptorLast(this::inflated);
+  }
+
+  /**
+   * The number of responses received so far.
+   * 
+   * @return the number of responses received
+   * @since 1.1.0
+   */
+  public long responses() {
+    return this.responses.sum();
+  }
+
+  /**
+   * The number of bytes read so far as they were received from the server, ie. before 
+   * decompression.
+   * 
+   * @return the number of bytes received
+   * @since 1.1.0
+   */
+  public long wire() {
+    return this.compressed.sum();
+  }
+
+  /**
+   * The number of bytes read so far after decompression.
+   * 
+   * @return the number of decompressed bytes
+   * @since 1.1.0
+   */
+  public long decoded() {
+    return this.uncompressed.sum();
+  }
+
+  /**
+   * Counts the bytes of the response as received, before decompression.
+   * 
+   * @param response the response
+   * @param context the request's context, where the response's own count is kept
+   * @since 1.1.0
+   */
+  private void received(HttpResponse response, HttpContext context) {
+    this.responses.increment();
+    final LongAdder wire = new LongAdder();
+    context.setAttribute(WIRE, wire);
+    count(
+      response,
+      bytes -> {
+        this.compressed.add(bytes);
+        wire.add(bytes);
+      },
+      () -> { }
+    );
+  }
+
+  /**
+   * Counts the bytes of the response after decompression, and reports the response's 
+   * {@link Transfer} once its content has been read or closed.
+   * 
+   * @param response the response
+   * @param context the request's context, where the response's own count is kept
+   * @since 1.1.0
+   */
+  private void inflated(HttpResponse response, HttpContext context) {
+    final LongAdder wire = (LongAdder) context.getAttribute(WIRE);
+    final LongAdder decoded = new LongAdder();
+    final String uri = HttpCoreContext.adapt(context).getRequest().getRequestLine().getUri();
+    count(
+      response,
+      bytes -> {
+        this.uncompressed.add(bytes);
+        decoded.add(bytes);
+      },
+      () -> this.listener.accept(new Transfer(uri, wire.sum(), decoded.sum()))
+    );
+  }
+
+  /**
+   * Counts the bytes read from the response's entity, if any.
+   * 
+   * @param response the response
+   * @param bytes the counter
+   * @param done called once the entity's content has been read or closed
+   * @since 1.1.0
+   */
+  private static void count(HttpResponse response, LongConsumer bytes, Runnable done) {
+    Optional.ofNullable(response.getEntity())
+      .map(entity -> new Counted(entity, bytes, done))
+      .ifPresent(response::setEntity);
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.function.LongConsumer;
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.HttpEntityWrapper;
+
+/**
+ * An {@link HttpEntity} that counts the bytes read from its content, as they are read.
+ * 
+ * <p>Optionally, it's told when its content has been read to the end or closed, whichever 
+ * happens first.</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+public final class Counted extends HttpEntityWrapper {
+  private static final int BUFFER = 8192;
+  private final LongConsumer bytes;
+  private final Runnable done;
+
+  /**
+   * Ctor.
+   * 
+   * @param entity the entity whose content is counted
+   * @param bytes receives the number of bytes read with each read
+   * @since 1.1.0
+   */
+  public Counted(HttpEntity entity, LongConsumer bytes) {
+    this(entity, bytes, () -> { });
+  }
+
+  /**
+   * Ctor.
+   * 
+   * @param entity the entity whose content is counted
+   * @param bytes receives the number of bytes read with each read
+   * @param done called once, when the content has been read to the end or closed
+   * @since 1.1.0
+   */
+  public Counted(HttpEntity entity, LongConsumer bytes, Runnable done) {
+    super(entity);
+    this.bytes = bytes;
+    this.done = done;
+  }
+
+  @Override
+  public InputStream getContent() throws IOException {
+    return new Counting(super.getContent(), this.bytes, this.done);
+  }
+
+  @Override
+  public void writeTo(OutputStream out) throws IOException {
+    try (InputStream in = this.getContent()) {
+      final byte[] buffer = new byte[BUFFER];
+      for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+        out.write(buffer, 0, read);
+      }
+    }
+  }
+
+  /**
+   * Counts the bytes read from a stream.
+   * 
+   * @since 1.1.0
+   */
+  private static final class Counting extends FilterInputStream {
+    private final LongConsumer bytes;
+    private final Runnable done;
+    private boolean ended;
+
+    /**
+     * Ctor.
+     * 
+     * @param in the stream
+     * @param bytes receives the number of bytes read with each read
+     * @param done called once, at the end of the stream or when it's closed
+     * @since 1.1.0
+     */
+    Counting(InputStream in, LongConsumer bytes, Runnable done) {
+      super(in);
+      this.bytes = bytes;
+      this.done = done;
+    }
+
+    @Override
+    public int read() throws IOException {
+      final int read = super.read();
+      if (read == -1) {
+        this.end();
+      } else {
+        this.bytes.accept(1L);
+      }
+      return read;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+      final int read = super.read(buffer, offset, length);
+      if (read > 0) {
+        this.bytes.accept(read);
+      } else if (read == -1) {
+        this.end();
+      }
+      return read;
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        super.close();
+      } finally {
+        this.end();
+      }
+    }
+
+    /**
+     * Reports the end of the stream, unless it's already been reported.
+     * 
+     * @since 1.1.0
+     */
+    private void end() {
+      if (!this.ended) {
+        this.ended = true;
+        this.done.run();
+      }
+    }
+
+    @Override
+    public long skip(long count) throws IOException {
+      final long skipped = super.skip(count);
+      this.bytes.accept(skipped);
+      return skipped;
+    }
+  }
+}
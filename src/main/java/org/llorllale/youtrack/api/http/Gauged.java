@@ -0,0 +1,113 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.protocol.HttpContext;
+
+/**
+ * A connection manager that measures checkout waits and connections opened, and reports 
+ * releases to its {@link Telemetry}.
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+final class Gauged extends PoolingHttpClientConnectionManager {
+  private static final int SAMPLES = 1024;
+
+  private final Telemetry telemetry;
+  private final Waits waits;
+  private final LongAdder opened;
+
+  /**
+   * Ctor.
+   * 
+   * @param ttl the connections' time to live in milliseconds, or zero for no limit
+   * @param telemetry where releases are reported
+   * @since 1.1.0
+   */
+  Gauged(long ttl, Telemetry telemetry) {
+    super(ttl, TimeUnit.MILLISECONDS);
+    this.telemetry = telemetry;
+    this.waits = new Waits(SAMPLES);
+    this.opened = new LongAdder();
+  }
+
+  @Override
+  public ConnectionRequest requestConnection(HttpRoute route, Object state) {
+    final ConnectionRequest request = super.requestConnection(route, state);
+    return new ConnectionRequest() {
+      @Override
+      public HttpClientConnection get(long timeout, TimeUnit unit)
+          throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+        final long start = System.nanoTime();
+        try {
+          return request.get(timeout, unit);
+        } finally {
+          final long waited = System.nanoTime() - start;
+          Gauged.this.waits.add(waited);
+          new Waited().add(waited);
+        }
+      }
+
+      @Override
+      public boolean cancel() {
+        return request.cancel();
+      }
+    };
+  }
+
+  @Override
+  public void connect(
+      HttpClientConnection conn, HttpRoute route, int timeout, HttpContext context
+  ) throws IOException {
+    super.connect(conn, route, timeout, context);
+    this.opened.increment();
+  }
+
+  @Override
+  public void releaseConnection(
+      HttpClientConnection conn, Object state, long keepalive, TimeUnit unit
+  ) {
+    super.releaseConnection(conn, state, keepalive, unit);
+    this.telemetry.released();
+  }
+
+  @Override
+  public void shutdown() {
+    super.shutdown();
+    this.telemetry.detach(this);
+  }
+
+  /**
+   * The pool's current state.
+   * 
+   * @return the pool's current state
+   * @since 1.1.0
+   */
+  Stats stats() {
+    return new Stats(this.getTotalStats(), this.opened.sum(), this.waits.sorted());
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The headers of a {@link Request} or a {@link Reply}, in the order they were given.
+ * 
+ * <p>Header names are case-insensitive.</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+public final class Headers {
+  private final List<Map.Entry<String, String>> entries;
+
+  /**
+   * Ctor.
+   * 
+   * @param entries the headers' names and values
+   * @since 1.1.0
+   */
+  public Headers(List<Map.Entry<String, String>> entries) {
+    this.entries = Collections.unmodifiableList(new ArrayList<>(entries));
+  }
+
+  /**
+   * No headers.
+   * 
+   * @since 1.1.0
+   */
+  public Headers() {
+    this(Collections.emptyList());
+  }
+
+  /**
+   * The value of the first header with the given name.
+   * 
+   * @param name the header's name
+   * @return the header's value, if present
+   * @since 1.1.0
+   */
+  public Optional<String> first(String name) {
+    return this.entries.stream()
+      .filter(entry -> entry.getKey().equalsIgnoreCase(name))
+      .map(Map.Entry::getValue)
+      .findFirst();
+  }
+
+  /**
+   * These headers, with {@code name} set to {@code value} instead of any previous values.
+   * 
+   * @param name the header's name
+   * @param value the header's value
+   * @return the new headers
+   * @since 1.1.0
+   */
+  public Headers with(String name, String value) {
+    final List<Map.Entry<String, String>> copy = new ArrayList<>(this.entries);
+    copy.removeIf(entry -> entry.getKey().equalsIgnoreCase(name));
+    copy.add(new AbstractMap.SimpleImmutableEntry<>(name, value));
+    return new Headers(copy);
+  }
+
+  /**
+   * All the headers' names and values.
+   * 
+   * @return the headers, in order
+   * @since 1.1.0
+   */
+  public List<Map.Entry<String, String>> asList() {
+    return this.entries;
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+import java.time.Duration;
+import org.apache.http.HttpResponse;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.protocol.HttpContext;
+
+/**
+ * How long idle connections are kept alive in the pool.
+ * 
+ * <p>Honors the server's {@code Keep-Alive: timeout=n} hint, but never beyond {@code max}. 
+ * Servers (and load balancers) that give no hint get {@code max}, instead of Apache's default
+ * of keeping the connection indefinitely. Keep {@code max} below the idle timeout of whatever
+ * sits between the client and YouTrack, so that connections are retired by the client before
+ * they are silently dropped on the other side.</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+public final class KeepAlive implements ConnectionKeepAliveStrategy {
+  private final Duration max;
+
+  /**
+   * Ctor.
+   * 
+   * @param max the longest an idle connection is kept alive
+   * @since 1.1.0
+   */
+  public KeepAlive(Duration max) {
+    this.max = max;
+  }
+
+  @Override
+  public long getKeepAliveDuration(HttpResponse response, HttpContext context) {
+    final long hint = DefaultConnectionKeepAliveStrategy.INSTANCE
+      .getKeepAliveDuration(response, context);
+    long millis = this.max.toMillis();
+    if (hint >= 0) {
+      millis = Math.min(hint, millis);
+    }
+    return millis;
+  }
+}
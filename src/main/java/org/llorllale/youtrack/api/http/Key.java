@@ -0,0 +1,97 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import org.apache.http.HttpHeaders;
+
+/**
+ * Identifies what a request asks for and on whose behalf: its method, its URI and the 
+ * credentials it carries.
+ * 
+ * <p>Keys are held in memory for as long as responses are cached or shared, so the credentials
+ * (the {@code Authorization} and {@code Cookie} headers) are only kept as a SHA-256 digest.</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+final class Key {
+  private static final String NONE = "";
+  private static final String SEPARATOR = "\n";
+
+  private final Request request;
+
+  /**
+   * Ctor.
+   * 
+   * @param request the request
+   * @since 1.1.0
+   */
+  Key(Request request) {
+    this.request = request;
+  }
+
+  /**
+   * The key.
+   * 
+   * @return the key
+   * @throws UncheckedIOException if java doesn't support SHA-256
+   * @since 1.1.0
+   */
+  String asString() throws UncheckedIOException {
+    return String.join(
+      SEPARATOR,
+      this.request.method(),
+      this.request.uri().toString(),
+      this.credentials()
+    );
+  }
+
+  /**
+   * Digest of the credentials carried by the request.
+   * 
+   * @return the Base64-encoded SHA-256 digest of the request's credentials
+   * @throws UncheckedIOException if java doesn't support SHA-256
+   */
+  private String credentials() throws UncheckedIOException {
+    try {
+      return Base64.getEncoder().encodeToString(
+        MessageDigest.getInstance("SHA-256").digest(
+          String.join(SEPARATOR, this.header(HttpHeaders.AUTHORIZATION), this.header("Cookie"))
+            .getBytes(StandardCharsets.UTF_8)
+        )
+      );
+    } catch (NoSuchAlgorithmException e) {
+      throw new UncheckedIOException(new IOException(e.getMessage(), e));
+    }
+  }
+
+  /**
+   * The value of the request's header.
+   * 
+   * @param name the header's name
+   * @return the header's value, or an empty string if absent
+   */
+  private String header(String name) {
+    return this.request.headers().first(name).orElse(NONE);
+  }
+}
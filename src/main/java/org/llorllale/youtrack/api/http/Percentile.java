@@ -0,0 +1,61 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+import java.time.Duration;
+
+/**
+ * A percentile of durations, by nearest rank.
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+final class Percentile {
+  private static final double HUNDRED = 100.0;
+
+  private final long[] sorted;
+  private final double percentile;
+
+  /**
+   * Ctor.
+   * 
+   * @param sorted the durations in nanoseconds, in ascending order
+   * @param percentile the percentile, between 0 and 100
+   * @since 1.1.0
+   */
+  Percentile(long[] sorted, double percentile) {
+    this.sorted = sorted;
+    this.percentile = percentile;
+  }
+
+  /**
+   * The duration at the percentile.
+   * 
+   * @return the duration at the percentile, or {@link Duration#ZERO} if there are none
+   * @since 1.1.0
+   */
+  Duration value() {
+    Duration value = Duration.ZERO;
+    if (this.sorted.length > 0) {
+      final int rank = (int) Math.ceil(this.percentile / HUNDRED * this.sorted.length);
+      value = Duration.ofNanos(
+        this.sorted[Math.min(this.sorted.length - 1, Math.max(0, rank - 1))]
+      );
+    }
+    return value;
+  }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.HttpClientBuilder;
+
+/**
+ * Connection pool configuration.
+ * 
+ * <p>Unlike {@link Pooled}, which only sizes the pool, this configures how connections are 
+ * kept, checked and retired:</p>
+ * <ul>
+ *   <li>{@link #total(int) total} and {@link #perRoute(int) per-route} limits, with 
+ *   {@link #route(URL, int) overrides} for specific YouTrack instances</li>
+ *   <li>a {@link #keepAlive(Duration) keep-alive} cap (see {@link KeepAlive})</li>
+ *   <li>a background evictor that closes expired connections and those 
+ *   {@link #idle(Duration) idle} for too long</li>
+ *   <li>{@link #validateAfter(Duration) validation} of connections that have been inactive 
+ *   before they are leased again</li>
+ *   <li>a {@link #ttl(Duration) time to live} after which connections are never reused</li>
+ * </ul>
+ * 
+ * <p>The pool reports its state to its {@link #telemetry() telemetry}.</p>
+ * 
+ * <p>Instances are immutable; each setting returns a new configuration, eg:</p>
+ * <pre>
+ * final YouTrack youtrack = new DefaultYouTrack(
+ *   login,
+ *   new Pool(new Client())
+ *     .total(40)
+ *     .route(new URL("https://youtrack-a.example.com"), 30)
+ *     .route(new URL("https://youtrack-b.example.com"), 10)
+ *     .keepAlive(Duration.ofSeconds(50))
+ * );
+ * </pre>
+ * 
+ * <p>Note: the idle evictor is a daemon thread started by each client built, and stopped when 
+ * that client is closed.</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+public final class Pool implements Supplier<HttpClientBuilder> {
+  private static final int TOTAL = 20;
+  private static final int PER_ROUTE = 10;
+  private static final Duration KEEP_ALIVE = Duration.ofSeconds(30);
+  private static final Duration IDLE = Duration.ofSeconds(30);
+  private static final Duration VALIDATE = Duration.ofSeconds(2);
+
+  private final Supplier<HttpClientBuilder> decorated;
+  private final int max;
+  private final int maxPerRoute;
+  private final Map<HttpHost, Integer> routes;
+  private final Duration alive;
+  private final Duration idleness;
+  private final Duration inactivity;
+  private final Duration life;
+  private final Telemetry telemetry;
+
+  /**
+   * Ctor with the defaults: 20 connections, 10 per route, kept alive for 30 seconds at most,
+   * evicted after 30 seconds idle, validated after 2 seconds inactive, and no time to live.
+   * 
+   * @param decorated the builder to configure
+   * @since 1.1.0
+   */
+  public Pool(Supplier<HttpClientBuilder> decorated) {
+    this(
+      decorated, TOTAL, PER_ROUTE, Collections.emptyMap(),
+      KEEP_ALIVE, IDLE, VALIDATE, Duration.ZERO, new Telemetry()
+    );
+  }
+
+  /**
+   * Primary ctor.
+   * 
+   * @param decorated the builder to configure
+   * @param max the maximum number of connections
+   * @param maxPerRoute the default maximum number of connections per route
+   * @param routes per-route limit overrides
+   * @param alive the keep-alive cap
+   * @param idleness the maximum idle time
+   * @param inactivity the inactivity after which connections are validated
+   * @param life the connections' time to live
+   * @param telemetry reports on the pool
+   * @since 1.1.0
+   * @checkstyle ParameterNumber (15 lines)
+   */
+  private Pool(
+      Supplier<HttpClientBuilder> decorated,
+      int max,
+      int maxPerRoute,
+      Map<HttpHost, Integer> routes,
+      Duration alive,
+      Duration idleness,
+      Duration inactivity,
+      Duration life,
+      Telemetry telemetry
+  ) {
+    this.decorated = decorated;
+    this.max = max;
+    this.maxPerRoute = maxPerRoute;
+    this.routes = Collections.unmodifiableMap(routes);
+    this.alive = alive;
+    this.idleness = idleness;
+    this.inactivity = inactivity;
+    this.life = life;
+    this.telemetry = telemetry;
+  }
+
+  /**
+   * The maximum number of connections in the pool.
+   * 
+   * @param total the maximum number of connections
+   * @return a new configuration
+   * @since 1.1.0
+   */
+  public Pool total(int total) {
+    return new Pool(
+      this.decorated, total, this.maxPerRoute, this.routes,
+      this.alive, this.idleness, this.inactivity, this.life, this.telemetry
+    );
+  }
+
+  /**
+   * The maximum number of connections per route, for routes without an 
+   * {@link #route(URL, int) override}.
+   * 
+   * @param perRoute the maximum number of connections per route
+   * @return a new configuration
+   * @since 1.1.0
+   */
+  public Pool perRoute(int perRoute) {
+    return new Pool(
+      this.decorated, this.max, perRoute, this.routes,
+      this.alive, this.idleness, this.inactivity, this.life, this.telemetry
+    );
+  }
+
+  /**
+   * The maximum number of connections to the YouTrack instance at {@code url}.
+   * 
+   * @param url the YouTrack instance's URL
+   * @param limit the maximum number of connections to it
+   * @return a new configuration
+   * @since 1.1.0
+   */
+  public Pool route(URL url, int limit) {
+    final Map<HttpHost, Integer> copy = new HashMap<>(this.routes);
+    copy.put(new HttpHost(url.getHost(), port(url), url.getProtocol()), limit);
+    return new Pool(
+      this.decorated, this.max, this.maxPerRoute, copy,
+      this.alive, this.idleness, this.inactivity, this.life, this.telemetry
+    );
+  }
+
+  /**
+   * The longest an idle connection is kept alive (see {@link KeepAlive}).
+   * 
+   * @param keepAlive the keep-alive cap
+   * @return a new configuration
+   * @since 1.1.0
+   */
+  public Pool keepAlive(Duration keepAlive) {
+    return new Pool(
+      this.decorated, this.max, this.maxPerRoute, this.routes,
+      keepAlive, this.idleness, this.inactivity, this.life, this.telemetry
+    );
+  }
+
+  /**
+   * Connections idle for longer than this are closed by the background evictor.
+   * 
+   * @param idle the maximum idle time
+   * @return a new configuration
+   * @since 1.1.0
+   */
+  public Pool idle(Duration idle) {
+    return new Pool(
+      this.decorated, this.max, this.maxPerRoute, this.routes,
+      this.alive, idle, this.inactivity, this.life, this.telemetry
+    );
+  }
+
+  /**
+   * Connections inactive for longer than this are checked for staleness before being leased.
+   * 
+   * @param inactive the inactivity after which connections are validated
+   * @return a new configuration
+   * @since 1.1.0
+   */
+  public Pool validateAfter(Duration inactive) {
+    return new Pool(
+      this.decorated, this.max, this.maxPerRoute, this.routes,
+      this.alive, this.idleness, inactive, this.life, this.telemetry
+    );
+  }
+
+  /**
+   * Connections are never reused after this long, regardless of activity. {@link Duration#ZERO}
+   * means no limit.
+   * 
+   * @param ttl the connections' time to live
+   * @return a new configuration
+   * @since 1.1.0
+   */
+  public Pool ttl(Duration ttl) {
+    return new Pool(
+      this.decorated, this.max, this.maxPerRoute, this.routes,
+      this.alive, this.idleness, this.inactivity, ttl, this.telemetry
+    );
+  }
+
+  /**
+   * Reports on the pool to {@code telemetry}.
+   * 
+   * @param reports receives the pool's stats
+   * @return a new configuration
+   * @since 1.1.0
+   */
+  public Pool reporting(Telemetry reports) {
+    return new Pool(
+      this.decorated, this.max, this.maxPerRoute, this.routes,
+      this.alive, this.idleness, this.inactivity, this.life, reports
+    );
+  }
+
+  /**
+   * The pool's telemetry.
+   * 
+   * @return the pool's telemetry
+   * @see #reporting(Telemetry)
+   * @since 1.1.0
+   */
+  public Telemetry telemetry() {
+    return this.telemetry;
+  }
+
+  @Override
+  public HttpClientBuilder get() {
+    final Gauged manager = new Gauged(this.life.toMillis(), this.telemetry);
+    this.telemetry.attach(manager);
+    manager.setMaxTotal(this.max);
+    manager.setDefaultMaxPerRoute(this.maxPerRoute);
+    this.routes.forEach(
+      (host, limit) -> manager.setMaxPerRoute(
+        new HttpRoute(host, null, "https".equalsIgnoreCase(host.getSchemeName())), limit
+      )
+    );
+    manager.setValidateAfterInactivity((int) this.inactivity.toMillis());
+    return this.decorated.get()
+      .setConnectionManager(manager)
+      .setKeepAliveStrategy(new KeepAlive(this.alive))
+      .evictExpiredConnections()
+      .evictIdleConnections(this.idleness.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * The URL's port, or its protocol's default, which is how Apache keys its routes.
+   * 
+   * @param url the url
+   * @return the port
+   */
+  private static int port(URL url) {
+    int port = url.getPort();
+    if (port < 0) {
+      port = url.getDefaultPort();
+    }
+    return port;
+  }
+}
@@ -20,7 +20,7 @@ import java.util.function.Supplier;
 import org.apache.http.impl.client.HttpClientBuilder;
 
 /**
- * Connection pooling.
+ * Connection pooling. See {@link Pool} to also configure keep-alive, eviction and validation.
  *
  * @author George Aristy (george.aristy@gmail.com)
  * @since 1.1.0
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * The YouTrack server's reply to a {@link Request}, as returned by a {@link Transport}.
+ * 
+ * <p>The body is streamed from the server as it's read. Replies hold on to whatever resources 
+ * they need to do so (eg. a connection) until they are closed, so they must always be closed, 
+ * whether their body was read or not.</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+public final class Reply implements Closeable {
+  private final int status;
+  private final Headers headers;
+  private final InputStream body;
+  private final Closeable release;
+
+  /**
+   * Ctor.
+   * 
+   * @param status the status code
+   * @param headers the reply's headers
+   * @param body the reply's body; empty if there is none
+   * @param release releases the reply's resources when it's closed
+   * @since 1.1.0
+   */
+  public Reply(int status, Headers headers, InputStream body, Closeable release) {
+    this.status = status;
+    this.headers = headers;
+    this.body = body;
+    this.release = release;
+  }
+
+  /**
+   * A reply held in memory.
+   * 
+   * @param status the status code
+   * @param headers the reply's headers
+   * @param body the reply's body
+   * @since 1.1.0
+   */
+  public Reply(int status, Headers headers, byte[] body) {
+    this(status, headers, new ByteArrayInputStream(body), () -> { });
+  }
+
+  /**
+   * The reply's status code.
+   * 
+   * @return the status code (eg. {@code 200})
+   * @since 1.1.0
+   */
+  public int status() {
+    return this.status;
+  }
+
+  /**
+   * The reply's headers.
+   * 
+   * @return the headers
+   * @since 1.1.0
+   */
+  public Headers headers() {
+    return this.headers;
+  }
+
+  /**
+   * The reply's body, streamed as it's read.
+   * 
+   * @return the body; empty if there is none
+   * @since 1.1.0
+   */
+  public InputStream body() {
+    return this.body;
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.release.close();
+  }
+}
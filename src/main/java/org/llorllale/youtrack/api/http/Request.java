@@ -0,0 +1,124 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+import java.net.URI;
+import java.util.Optional;
+
+/**
+ * A request to the YouTrack server, as handed to a {@link Transport}.
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+public final class Request {
+  private final String method;
+  private final URI uri;
+  private final Headers headers;
+  private final Optional<Body> body;
+
+  /**
+   * Ctor.
+   * 
+   * @param method the request's method (eg. {@code GET})
+   * @param uri the request's absolute URI
+   * @param headers the request's headers
+   * @param body the request's body, if any
+   * @since 1.1.0
+   */
+  public Request(String method, URI uri, Headers headers, Optional<Body> body) {
+    this.method = method;
+    this.uri = uri;
+    this.headers = headers;
+    this.body = body;
+  }
+
+  /**
+   * A request without a body.
+   * 
+   * @param method the request's method (eg. {@code GET})
+   * @param uri the request's absolute URI
+   * @param headers the request's headers
+   * @since 1.1.0
+   */
+  public Request(String method, URI uri, Headers headers) {
+    this(method, uri, headers, Optional.empty());
+  }
+
+  /**
+   * A request without headers nor body.
+   * 
+   * @param method the request's method (eg. {@code GET})
+   * @param uri the request's absolute URI
+   * @since 1.1.0
+   */
+  public Request(String method, URI uri) {
+    this(method, uri, new Headers());
+  }
+
+  /**
+   * The request's method.
+   * 
+   * @return the method (eg. {@code GET})
+   * @since 1.1.0
+   */
+  public String method() {
+    return this.method;
+  }
+
+  /**
+   * The request's URI.
+   * 
+   * @return the absolute URI
+   * @since 1.1.0
+   */
+  public URI uri() {
+    return this.uri;
+  }
+
+  /**
+   * The request's headers.
+   * 
+   * @return the headers
+   * @since 1.1.0
+   */
+  public Headers headers() {
+    return this.headers;
+  }
+
+  /**
+   * The request's body.
+   * 
+   * @return the body, if any
+   * @since 1.1.0
+   */
+  public Optional<Body> body() {
+    return this.body;
+  }
+
+  /**
+   * A copy of this request, with the header {@code name} set to {@code value}.
+   * 
+   * @param name the header's name
+   * @param value the header's value
+   * @return the copy
+   * @since 1.1.0
+   */
+  public Request with(String name, String value) {
+    return new Request(this.method, this.uri, this.headers.with(name, value), this.body);
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+import org.apache.http.client.utils.DateUtils;
+
+/**
+ * The delay requested by the server in a response's {@code Retry-After} header, given either in
+ * seconds or as an HTTP date.
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+final class RetryAfter {
+  private final Headers headers;
+  private final Clock clock;
+
+  /**
+   * Ctor.
+   * 
+   * @param headers the headers of the server's reply
+   * @param clock tells the time, for HTTP dates
+   * @since 1.1.0
+   */
+  RetryAfter(Headers headers, Clock clock) {
+    this.headers = headers;
+    this.clock = clock;
+  }
+
+  /**
+   * The requested delay.
+   * 
+   * @return the requested delay, if any and if valid; never negative
+   * @since 1.1.0
+   */
+  Optional<Duration> value() {
+    return this.headers.first("Retry-After")
+      .map(String::trim)
+      .flatMap(this::parse)
+      .map(delay -> Duration.ofMillis(Math.max(0L, delay.toMillis())));
+  }
+
+  /**
+   * Parses the header's value.
+   * 
+   * @param value the header's value
+   * @return the delay, if the value is valid
+   */
+  private Optional<Duration> parse(String value) {
+    Optional<Duration> delay = Optional.ofNullable(DateUtils.parseDate(value))
+      .map(Date::toInstant)
+      .map(date -> Duration.between(this.clock.instant(), date));
+    if (value.matches("\\d+")) {
+      delay = Optional.of(Duration.ofSeconds(Long.parseLong(value)));
+    }
+    return delay;
+  }
+}
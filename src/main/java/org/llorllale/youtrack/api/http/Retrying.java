@@ -0,0 +1,226 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+import javax.net.ssl.SSLHandshakeException;
+import javax.net.ssl.SSLPeerUnverifiedException;
+
+/**
+ * Retries idempotent requests ({@code GET} and {@code HEAD}) that fail transiently.
+ * 
+ * <p>Requests are retried when the server cannot be reached (an {@link IOException}) or answers
+ * with {@code 429}, {@code 500}, {@code 502}, {@code 503} or {@code 504}. Errors that another
+ * attempt would not fix are not retried: unknown hosts, failed TLS handshakes and unverified 
+ * peers, and requests rejected by {@link Throttled} (which has already waited for a permit). 
+ * Retries are delayed as requested by the server's {@code Retry-After} header or else according 
+ * to the {@link Backoff}, and given up once the next one would start after the budget is 
+ * spent; the last failure is then returned (or thrown) as usual. Other requests are executed 
+ * once.</p>
+ * 
+ * <p>Each page of a {@link org.llorllale.youtrack.api.Issues#stream() stream} is fetched with 
+ * its own request, so a failed page is retried at the same offset instead of the stream being
+ * restarted. Retries only cover a request up to the response's headers: a page whose body is 
+ * cut short while being read is requested again by the stream itself, which then skips the 
+ * items it has already returned. Eg:</p>
+ * <pre>
+ * final YouTrack youtrack = new DefaultYouTrack(
+ *   login, new Retrying(new Apache(new Pooled(20, new Client()))), new Fixed()
+ * );
+ * </pre>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+public final class Retrying implements Transport {
+  private static final Collection<String> IDEMPOTENT = Arrays.asList("GET", "HEAD");
+  private static final Collection<Integer> TRANSIENT = Arrays.asList(429, 500, 502, 503, 504);
+  private static final Collection<Class<? extends IOException>> PERMANENT = Arrays.asList(
+    ThrottledException.class, UnknownHostException.class, SSLHandshakeException.class,
+    SSLPeerUnverifiedException.class
+  );
+  private static final Duration BASE = Duration.ofMillis(100L);
+  private static final Duration CAP = Duration.ofSeconds(10L);
+  private static final Duration BUDGET = Duration.ofMinutes(1L);
+
+  private final Transport origin;
+  private final Backoff backoff;
+  private final Duration budget;
+
+  /**
+   * Ctor.
+   * 
+   * @param origin the transport whose requests are retried
+   * @param backoff the delays between retries
+   * @param budget the longest time spent on a request, retries included
+   * @since 1.1.0
+   */
+  public Retrying(Transport origin, Backoff backoff, Duration budget) {
+    this.origin = origin;
+    this.backoff = backoff;
+    this.budget = budget;
+  }
+
+  /**
+   * Retries for up to a minute, starting 100 milliseconds apart and waiting at most 10 seconds
+   * between retries.
+   * 
+   * @param origin the transport whose requests are retried
+   * @since 1.1.0
+   */
+  public Retrying(Transport origin) {
+    this(origin, new Backoff(BASE, CAP), BUDGET);
+  }
+
+  @Override
+  public Reply execute(Request request) throws IOException {
+    final Reply response;
+    if (IDEMPOTENT.contains(request.method())) {
+      response = this.retried(request);
+    } else {
+      response = this.origin.execute(request);
+    }
+    return response;
+  }
+
+  /**
+   * Executes the request, and retries it while it fails transiently and the budget allows.
+   * 
+   * @param request the idempotent request
+   * @return the server's response
+   * @throws IOException if the last attempt failed
+   */
+  private Reply retried(Request request) throws IOException {
+    final long deadline = System.nanoTime() + this.budget.toNanos();
+    Attempt attempt = new Attempt(this.origin, request);
+    for (int retry = 0; attempt.failed(); retry += 1) {
+      final Duration delay = attempt.delay().orElse(this.backoff.delay(retry));
+      if (System.nanoTime() + delay.toNanos() - deadline > 0) {
+        break;
+      }
+      attempt.discard();
+      sleep(delay);
+      attempt = new Attempt(this.origin, request);
+    }
+    return attempt.response();
+  }
+
+  /**
+   * Waits before retrying.
+   * 
+   * @param delay how long to wait
+   * @throws InterruptedIOException if interrupted while waiting
+   */
+  private static void sleep(Duration delay) throws InterruptedIOException {
+    try {
+      new Waited().add(delay.toNanos());
+      Thread.sleep(delay.toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      final InterruptedIOException interrupted = new InterruptedIOException(
+        "Interrupted while waiting to retry"
+      );
+      interrupted.initCause(e);
+      throw interrupted;
+    }
+  }
+
+  /**
+   * A single execution of a request.
+   * 
+   * @since 1.1.0
+   */
+  private static final class Attempt {
+    private final Reply response;
+    private final IOException error;
+
+    /**
+     * Executes the request.
+     * 
+     * @param transport the transport
+     * @param request the request
+     * @since 1.1.0
+     */
+    private Attempt(Transport transport, Request request) {
+      Reply resp = null;
+      IOException err = null;
+      try {
+        resp = transport.execute(request);
+      } catch (IOException e) {
+        err = e;
+      }
+      this.response = resp;
+      this.error = err;
+    }
+
+    /**
+     * Whether it failed transiently.
+     * 
+     * @return whether it failed transiently
+     */
+    private boolean failed() {
+      final boolean failed;
+      if (this.error == null) {
+        failed = TRANSIENT.contains(this.response.status());
+      } else {
+        failed = PERMANENT.stream().noneMatch(type -> type.isInstance(this.error));
+      }
+      return failed;
+    }
+
+    /**
+     * The delay requested by the server before retrying.
+     * 
+     * @return the delay requested by the server, if any
+     */
+    private Optional<Duration> delay() {
+      return Optional.ofNullable(this.response)
+        .flatMap(resp -> new RetryAfter(resp.headers(), Clock.systemUTC()).value());
+    }
+
+    /**
+     * Releases the failed response, if any.
+     * 
+     * @throws IOException if the response cannot be closed
+     */
+    private void discard() throws IOException {
+      if (this.response != null) {
+        this.response.close();
+      }
+    }
+
+    /**
+     * The response.
+     * 
+     * @return the response
+     * @throws IOException if the request failed
+     */
+    private Reply response() throws IOException {
+      if (this.error != null) {
+        throw this.error;
+      }
+      return this.response;
+    }
+  }
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpStatus;
+
+/**
+ * Caches the responses to {@code GET} requests that carry validators ({@code ETag} or 
+ * {@code Last-Modified}), and revalidates them with the server on each request.
+ * 
+ * <p>Requests for cached resources are sent as conditional copies ({@code If-None-Match} and 
+ * {@code If-Modified-Since}), leaving the caller's request untouched; if the server responds 
+ * {@code 304 Not Modified}, the response is served from the cached bytes instead.</p>
+ * 
+ * <p>The cache is bounded by the total size of the cached bodies, evicting the least recently
+ * used ones first. Bodies larger than a given limit are not cached, and are streamed as usual.
+ * Resources are cached per user: the request's credentials are part of the cache key.</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+public final class Revalidating implements Transport {
+  private static final String GET = "GET";
+  private static final long DEFAULT_CAPACITY = 4L * 1024 * 1024;
+  private static final int DEFAULT_LIMIT = 256 * 1024;
+  private static final int BUFFER = 8192;
+  private static final int INITIAL_ENTRIES = 16;
+  private static final float LOAD_FACTOR = 0.75f;
+  private final Transport origin;
+  private final long capacity;
+  private final int limit;
+  private final Map<String, Entry> entries;
+  private long size;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param origin the transport that executes the requests
+   * @param capacity the maximum number of bytes cached
+   * @param limit the maximum size of a single cached body, in bytes
+   * @since 1.1.0
+   */
+  public Revalidating(Transport origin, long capacity, int limit) {
+    this.origin = origin;
+    this.capacity = capacity;
+    this.limit = limit;
+    this.entries = new LinkedHashMap<>(INITIAL_ENTRIES, LOAD_FACTOR, true);
+  }
+
+  /**
+   * Caches up to 4 MiB, in bodies of up to 256 KiB.
+   * 
+   * @param origin the transport that executes the requests
+   * @since 1.1.0
+   */
+  public Revalidating(Transport origin) {
+    this(origin, DEFAULT_CAPACITY, DEFAULT_LIMIT);
+  }
+
+  @Override
+  public Reply execute(Request request) throws IOException {
+    final Reply response;
+    if (GET.equals(request.method())) {
+      response = this.revalidated(request);
+    } else {
+      response = this.origin.execute(request);
+    }
+    return response;
+  }
+
+  /**
+   * Executes the request, conditionally if its resource is cached.
+   * 
+   * @param request the {@code GET} request
+   * @return the response, served from the cache if not modified
+   * @throws IOException if the server is unavailable
+   * @since 1.1.0
+   */
+  private Reply revalidated(Request request) throws IOException {
+    final String key = new Key(request).asString();
+    final Optional<Entry> cached = this.lookup(key);
+    Reply response = this.origin.execute(
+      cached.map(entry -> entry.conditional(request)).orElse(request)
+    );
+    final int status = response.status();
+    if (status == HttpStatus.SC_NOT_MODIFIED && cached.isPresent()) {
+      discard(response);
+      response = cached.get().replay();
+    } else if (status == HttpStatus.SC_OK && validated(response)) {
+      response = this.store(key, response);
+    }
+    return response;
+  }
+
+  /**
+   * Buffers the response's body, and caches it if it isn't larger than {@link #limit}.
+   * 
+   * @param key the resource's key
+   * @param response the response
+   * @return the response, with its body buffered or else streamed from where it was left
+   * @throws IOException if the body can't be read
+   * @since 1.1.0
+   */
+  private Reply store(String key, Reply response) throws IOException {
+    final InputStream body = response.body();
+    final byte[] head = this.head(body);
+    final Reply stored;
+    if (head.length > this.limit) {
+      stored = new Reply(
+        response.status(), response.headers(),
+        new SequenceInputStream(new ByteArrayInputStream(head), body), response
+      );
+    } else {
+      stored = new Reply(
+        response.status(), response.headers(), new ByteArrayInputStream(head), response
+      );
+      this.put(key, new Entry(response, head));
+    }
+    return stored;
+  }
+
+  /**
+   * Reads the body until its end, or until more than {@link #limit} bytes have been read.
+   * 
+   * @param body the body
+   * @return the bytes read
+   * @throws IOException if the body can't be read
+   * @since 1.1.0
+   */
+  private byte[] head(InputStream body) throws IOException {
+    final ByteArrayOutputStream head = new ByteArrayOutputStream();
+    final byte[] buffer = new byte[BUFFER];
+    int read = 0;
+    while (read != -1 && head.size() <= this.limit) {
+      read = body.read(buffer);
+      if (read > 0) {
+        head.write(buffer, 0, read);
+      }
+    }
+    return head.toByteArray();
+  }
+
+  /**
+   * The cached entry for the given key.
+   * 
+   * @param key the resource's key
+   * @return the entry, if cached
+   * @since 1.1.0
+   */
+  private synchronized Optional<Entry> lookup(String key) {
+    return Optional.ofNullable(this.entries.get(key));
+  }
+
+  /**
+   * Caches the entry, evicting the least recently used entries while over capacity.
+   * 
+   * @param key the resource's key
+   * @param entry the entry
+   * @since 1.1.0
+   */
+  private synchronized void put(String key, Entry entry) {
+    final Entry old = this.entries.put(key, entry);
+    if (old != null) {
+      this.size -= old.size();
+    }
+    this.size += entry.size();
+    this.evict();
+  }
+
+  /**
+   * Evicts the least recently used entries while over capacity.
+   * 
+   * @since 1.1.0
+   */
+  private synchronized void evict() {
+    final Iterator<Entry> eldest = this.entries.values().iterator();
+    while (this.size > this.capacity && eldest.hasNext()) {
+      this.size -= eldest.next().size();
+      eldest.remove();
+    }
+  }
+
+  /**
+   * Whether the response carries validators.
+   * 
+   * @param response the response
+   * @return {@code true} if the response has an {@code ETag} or a {@code Last-Modified} header
+   * @since 1.1.0
+   */
+  private static boolean validated(Reply response) {
+    return response.headers().first(HttpHeaders.ETAG).isPresent()
+      || response.headers().first(HttpHeaders.LAST_MODIFIED).isPresent();
+  }
+
+  /**
+   * Reads the rest of the response's body, if any, and closes it.
+   * 
+   * @param response the response
+   * @throws IOException if the body can't be read
+   * @since 1.1.0
+   */
+  private static void discard(Reply response) throws IOException {
+    try (Reply discarded = response) {
+      final byte[] buffer = new byte[BUFFER];
+      int read = 0;
+      while (read != -1) {
+        read = discarded.body().read(buffer);
+      }
+    }
+  }
+
+  /**
+   * A cached response.
+   * 
+   * @since 1.1.0
+   */
+  private static final class Entry {
+    private final int status;
+    private final Headers headers;
+    private final Optional<String> etag;
+    private final Optional<String> modified;
+    private final byte[] body;
+
+    /**
+     * Ctor.
+     * 
+     * @param response the response
+     * @param body the response's body
+     * @since 1.1.0
+     */
+    Entry(Reply response, byte[] body) {
+      this.status = response.status();
+      this.headers = response.headers();
+      this.etag = response.headers().first(HttpHeaders.ETAG);
+      this.modified = response.headers().first(HttpHeaders.LAST_MODIFIED);
+      this.body = body;
+    }
+
+    /**
+     * A copy of the request, made conditional on the cached response's validators.
+     * 
+     * @param request the request
+     * @return the conditional request
+     * @since 1.1.0
+     */
+    Request conditional(Request request) {
+      Request copy = request;
+      if (this.etag.isPresent()) {
+        copy = copy.with(HttpHeaders.IF_NONE_MATCH, this.etag.get());
+      }
+      if (this.modified.isPresent()) {
+        copy = copy.with(HttpHeaders.IF_MODIFIED_SINCE, this.modified.get());
+      }
+      return copy;
+    }
+
+    /**
+     * The cached response, in place of a {@code 304 Not Modified} response.
+     * 
+     * @return the cached response
+     * @since 1.1.0
+     */
+    Reply replay() {
+      return new Reply(this.status, this.headers, this.body);
+    }
+
+    /**
+     * The size of the cached body.
+     * 
+     * @return the size in bytes
+     * @since 1.1.0
+     */
+    long size() {
+      return this.body.length;
+    }
+  }
+}
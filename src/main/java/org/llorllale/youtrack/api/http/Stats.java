@@ -0,0 +1,150 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.stream.LongStream;
+import org.apache.http.pool.PoolStats;
+
+/**
+ * A snapshot of a connection pool's state.
+ * 
+ * <p>{@link #pending() Pending} checkouts and long {@link #waited(double) waits} mean that the
+ * pool, not YouTrack, is the bottleneck. A high {@link #opened() opened} count relative to the
+ * number of requests means that connections are not being reused (churn).</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+public final class Stats {
+  private final PoolStats totals;
+  private final long opens;
+  private final long[] waits;
+
+  /**
+   * Ctor.
+   * 
+   * @param totals the pool's totals
+   * @param opens the number of connections opened so far
+   * @param waits the recent checkout waits in nanoseconds, in ascending order
+   * @since 1.1.0
+   */
+  Stats(PoolStats totals, long opens, long... waits) {
+    this.totals = totals;
+    this.opens = opens;
+    this.waits = waits.clone();
+  }
+
+  /**
+   * Connections currently in use.
+   * 
+   * @return the number of leased connections
+   * @since 1.1.0
+   */
+  public int leased() {
+    return this.totals.getLeased();
+  }
+
+  /**
+   * Idle connections, ready to be leased.
+   * 
+   * @return the number of available connections
+   * @since 1.1.0
+   */
+  public int available() {
+    return this.totals.getAvailable();
+  }
+
+  /**
+   * Checkouts waiting for a connection.
+   * 
+   * @return the number of pending checkouts
+   * @since 1.1.0
+   */
+  public int pending() {
+    return this.totals.getPending();
+  }
+
+  /**
+   * The pool's maximum size.
+   * 
+   * @return the maximum number of connections
+   * @since 1.1.0
+   */
+  public int max() {
+    return this.totals.getMax();
+  }
+
+  /**
+   * Connections opened so far.
+   * 
+   * @return the number of connections opened
+   * @since 1.1.0
+   */
+  public long opened() {
+    return this.opens;
+  }
+
+  /**
+   * Connections closed so far (by the server, the evictor, or on expiry).
+   * 
+   * @return the number of connections closed
+   * @since 1.1.0
+   */
+  public long closed() {
+    return Math.max(0L, this.opens - this.leased() - this.available());
+  }
+
+  /**
+   * The given percentile of the recent connection checkout wait times.
+   * 
+   * @param percentile the percentile, between 0 and 100 (eg. {@code 99.0})
+   * @return the wait time at that percentile, or {@link Duration#ZERO} if there have been no 
+   *     checkouts
+   * @since 1.1.0
+   */
+  public Duration waited(double percentile) {
+    return new Percentile(this.waits, percentile).value();
+  }
+
+  /**
+   * The combined state of this pool and {@code other}.
+   * 
+   * @param other the other pool's state
+   * @return the sum of both states, with their waits merged
+   * @since 1.1.0
+   */
+  Stats plus(Stats other) {
+    return new Stats(
+      new PoolStats(
+        this.leased() + other.leased(), this.pending() + other.pending(),
+        this.available() + other.available(), this.max() + other.max()
+      ),
+      this.opens + other.opens,
+      LongStream.concat(Arrays.stream(this.waits), Arrays.stream(other.waits)).sorted().toArray()
+    );
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+      "leased=%d available=%d pending=%d max=%d opened=%d closed=%d",
+      this.leased(), this.available(), this.pending(), this.max(), this.opened(), this.closed()
+    );
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.apache.http.pool.PoolStats;
+
+/**
+ * Connection pool telemetry for clients built by a {@link Pool}.
+ * 
+ * <p>The pool's {@link Stats} can be {@link #stats() polled}, and optionally pushed to a 
+ * listener as connections are released, at most once per period:</p>
+ * <pre>
+ * final Pool pool = new Pool(new Client())
+ *   .reporting(new Telemetry(Duration.ofSeconds(10), stats -&gt; log.info(stats)));
+ * final DefaultYouTrack youtrack = new DefaultYouTrack(login, pool);
+ * ...
+ * final Duration p99 = youtrack.telemetry().stats().waited(99.0);
+ * </pre>
+ * 
+ * <p>The listener is called on the thread that released the connection, so it should be 
+ * quick.</p>
+ * 
+ * <p>If several clients are built with the same telemetry, whether from one pool or several, 
+ * it reports their combined state: the counts are summed and the waits merged. A client 
+ * stops being reported once it is closed.</p>
+ * 
+ * <p>When the pool is wrapped by other transports, keep a reference to its telemetry and 
+ * poll it directly, or hand it to the {@code DefaultYouTrack}:</p>
+ * <pre>
+ * final Pool pool = new Pool(new Client());
+ * final DefaultYouTrack youtrack = new DefaultYouTrack(
+ *   login, new Retrying(new Throttled(new Apache(pool), url, buckets)), new Fixed(),
+ *   pool.telemetry()
+ * );
+ * ...
+ * final Stats stats = pool.telemetry().stats();
+ * </pre>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+public final class Telemetry {
+  private final long period;
+  private final Optional<Consumer<Stats>> listener;
+  private final Set<Gauged> managers;
+  private final AtomicLong pushed;
+
+  /**
+   * Pushes the pool's stats to {@code listener} at most once per {@code period}.
+   * 
+   * @param period the minimum time between pushes
+   * @param listener receives the pool's stats
+   * @since 1.1.0
+   */
+  public Telemetry(Duration period, Consumer<Stats> listener) {
+    this(period, Optional.of(listener));
+  }
+
+  /**
+   * Telemetry that is only polled. Releasing a connection costs nothing.
+   * 
+   * @since 1.1.0
+   */
+  public Telemetry() {
+    this(Duration.ZERO, Optional.empty());
+  }
+
+  /**
+   * Primary ctor.
+   * 
+   * @param period the minimum time between pushes
+   * @param listener receives the pool's stats, if any
+   * @since 1.1.0
+   */
+  private Telemetry(Duration period, Optional<Consumer<Stats>> listener) {
+    this.period = period.toNanos();
+    this.listener = listener;
+    this.managers = ConcurrentHashMap.newKeySet();
+    this.pushed = new AtomicLong(System.nanoTime() - this.period);
+  }
+
+  /**
+   * The combined state of the open clients' pools. All zeroes if there are none.
+   * 
+   * @return the pools' current state
+   * @since 1.1.0
+   */
+  public Stats stats() {
+    return this.managers.stream()
+      .map(Gauged::stats)
+      .reduce(new Stats(new PoolStats(0, 0, 0, 0), 0L), Stats::plus);
+  }
+
+  /**
+   * Reports on {@code gauged} too, until it is {@link #detach(Gauged) detached}.
+   * 
+   * @param gauged the connection manager
+   * @since 1.1.0
+   */
+  void attach(Gauged gauged) {
+    this.managers.add(gauged);
+  }
+
+  /**
+   * Stops reporting on {@code gauged}.
+   * 
+   * @param gauged the connection manager, shut down
+   * @since 1.1.0
+   */
+  void detach(Gauged gauged) {
+    this.managers.remove(gauged);
+  }
+
+  /**
+   * A connection was released; pushes the stats if the period has elapsed since the last push.
+   * 
+   * <p>Without a listener, nothing is done: computing the stats locks the pool.</p>
+   * 
+   * @since 1.1.0
+   */
+  void released() {
+    this.listener.ifPresent(
+      push -> {
+        final long now = System.nanoTime();
+        final long last = this.pushed.get();
+        if (now - last >= this.period && this.pushed.compareAndSet(last, now)) {
+          push.accept(this.stats());
+        }
+      }
+    );
+  }
+}
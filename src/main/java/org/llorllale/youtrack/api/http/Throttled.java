@@ -0,0 +1,141 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Rate-limits requests with a {@link TokenBucket} per class of endpoint.
+ * 
+ * <p>A request's endpoint class is the first segment of its path after the YouTrack instance's
+ * base URL, eg. {@code issue} for {@code http://youtrack/issue/TST-1?wikifyDescription=true}, 
+ * and {@code user} for {@code http://youtrack/user/jdoe}. Endpoints without a bucket of their
+ * own share the one under {@code *}, if any, or else are not limited.</p>
+ * 
+ * <p>Requests wait for a token for up to the given patience, and are refused with a 
+ * {@link ThrottledException} if none would be available in time. With the default infinite 
+ * patience, callers are slowed down to the bucket's rate (backpressure by blocking); with zero
+ * patience, requests over the rate fail fast, which suits the 
+ * {@link org.llorllale.youtrack.api.Async asynchronous API}, eg:</p>
+ * <pre>
+ * final Map&lt;String, TokenBucket&gt; buckets = new HashMap&lt;&gt;();
+ * buckets.put("issue", new TokenBucket(20.0, 40));
+ * buckets.put("user", new TokenBucket(5.0, 5));
+ * final YouTrack youtrack = new DefaultYouTrack(
+ *   login, new Throttled(new Apache(), url, buckets, Duration.ZERO), new Fixed()
+ * );
+ * </pre>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+public final class Throttled implements Transport {
+  private static final String OTHERS = "*";
+  private static final String NONE = "";
+  private static final Duration FOREVER = Duration.ofNanos(Long.MAX_VALUE);
+
+  private final Transport origin;
+  private final String base;
+  private final Map<String, TokenBucket> buckets;
+  private final Duration patience;
+
+  /**
+   * Ctor.
+   * 
+   * @param origin the transport whose requests are limited
+   * @param base the YouTrack instance's base URL
+   * @param buckets the buckets by endpoint class
+   * @param patience the longest a request waits for a token
+   * @since 1.1.0
+   */
+  public Throttled(
+      Transport origin, URL base, Map<String, TokenBucket> buckets, Duration patience
+  ) {
+    this.origin = origin;
+    this.base = base.getPath().replaceAll("/+$", NONE);
+    this.buckets = new HashMap<>(buckets);
+    this.patience = patience;
+  }
+
+  /**
+   * Requests wait for a token for as long as needed.
+   * 
+   * @param origin the transport whose requests are limited
+   * @param base the YouTrack instance's base URL
+   * @param buckets the buckets by endpoint class
+   * @since 1.1.0
+   */
+  public Throttled(Transport origin, URL base, Map<String, TokenBucket> buckets) {
+    this(origin, base, buckets, FOREVER);
+  }
+
+  @Override
+  public Reply execute(Request request) throws IOException {
+    final String endpoint = this.endpoint(request);
+    final Optional<TokenBucket> bucket = Optional.ofNullable(
+      this.buckets.getOrDefault(endpoint, this.buckets.get(OTHERS))
+    );
+    if (bucket.isPresent() && !acquire(bucket.get(), this.patience)) {
+      throw new ThrottledException(
+        String.format("Rate limit for '%s' exceeded: %s", endpoint, request.uri())
+      );
+    }
+    return this.origin.execute(request);
+  }
+
+  /**
+   * The request's endpoint class.
+   * 
+   * @param request the request
+   * @return the first segment of the request's path after the base URL's
+   */
+  private String endpoint(Request request) {
+    String path = Optional.ofNullable(request.uri().getPath()).orElse(NONE);
+    if (path.startsWith(this.base)) {
+      path = path.substring(this.base.length());
+    }
+    return path.replaceAll("^/+", NONE).split("/", 2)[0];
+  }
+
+  /**
+   * Acquires a token from the bucket.
+   * 
+   * @param bucket the bucket
+   * @param patience the longest to wait for the token
+   * @return whether the token was acquired
+   * @throws InterruptedIOException if interrupted while waiting
+   */
+  private static boolean acquire(TokenBucket bucket, Duration patience)
+      throws InterruptedIOException {
+    try {
+      return bucket.acquire(patience);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      final InterruptedIOException interrupted = new InterruptedIOException(
+        "Interrupted while waiting for a token"
+      );
+      interrupted.initCause(e);
+      throw interrupted;
+    }
+  }
+}
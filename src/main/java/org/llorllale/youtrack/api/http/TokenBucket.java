@@ -0,0 +1,151 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A token bucket: allows {@code rate} acquisitions per second on average, in bursts of up to 
+ * {@code burst}.
+ * 
+ * <p>The bucket is kept as the time at which it will next be full (the generic cell rate 
+ * algorithm), so acquiring a token is a single compare-and-set, without locks. Acquisitions
+ * that have to wait reserve their token first, and then sleep until it's due, so waiting 
+ * callers are served in order.</p>
+ * 
+ * <p>The bucket counts acquisitions, and keeps track of how long those that had to wait 
+ * waited.</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+public final class TokenBucket {
+  private static final long REFUSED = -1L;
+  private static final int SAMPLES = 1024;
+
+  private final long interval;
+  private final long tolerance;
+  private final AtomicLong full;
+  private final LongAdder acquisitions;
+  private final LongAdder refusals;
+  private final Waits waits;
+
+  /**
+   * Ctor. The bucket starts full.
+   * 
+   * @param rate the average number of acquisitions per second
+   * @param burst the maximum number of acquisitions without waiting
+   * @since 1.1.0
+   */
+  public TokenBucket(double rate, int burst) {
+    this.interval = (long) (TimeUnit.SECONDS.toNanos(1L) / rate);
+    this.tolerance = (burst - 1) * this.interval;
+    this.full = new AtomicLong(System.nanoTime());
+    this.acquisitions = new LongAdder();
+    this.refusals = new LongAdder();
+    this.waits = new Waits(SAMPLES);
+  }
+
+  /**
+   * Acquires a token if one is available right away.
+   * 
+   * @return whether a token was acquired
+   * @since 1.1.0
+   */
+  public boolean tryAcquire() {
+    return this.reserve(0L) == 0L;
+  }
+
+  /**
+   * Acquires a token, waiting for it if needed, unless it wouldn't be available within 
+   * {@code patience}.
+   * 
+   * @param patience the longest to wait for a token
+   * @return whether a token was acquired
+   * @throws InterruptedException if interrupted while waiting
+   * @since 1.1.0
+   */
+  public boolean acquire(Duration patience) throws InterruptedException {
+    final long wait = this.reserve(patience.toNanos());
+    if (wait > 0L) {
+      this.waits.add(wait);
+      new Waited().add(wait);
+      TimeUnit.NANOSECONDS.sleep(wait);
+    }
+    return wait != REFUSED;
+  }
+
+  /**
+   * Tokens acquired so far.
+   * 
+   * @return the number of tokens acquired
+   * @since 1.1.0
+   */
+  public long acquired() {
+    return this.acquisitions.sum();
+  }
+
+  /**
+   * Acquisitions refused so far, because no token would be available in time.
+   * 
+   * @return the number of acquisitions refused
+   * @since 1.1.0
+   */
+  public long refused() {
+    return this.refusals.sum();
+  }
+
+  /**
+   * The given percentile of the recent waits, among acquisitions that had to wait.
+   * 
+   * @param percentile the percentile, between 0 and 100 (eg. {@code 99.0})
+   * @return the wait at that percentile, or {@link Duration#ZERO} if none had to wait
+   * @since 1.1.0
+   */
+  public Duration waited(double percentile) {
+    return new Percentile(this.waits.sorted(), percentile).value();
+  }
+
+  /**
+   * Reserves a token, unless it wouldn't be available within {@code patience}.
+   * 
+   * @param patience the longest to wait for the token, in nanoseconds
+   * @return how long to wait for the reserved token in nanoseconds, or {@link #REFUSED}
+   */
+  private long reserve(long patience) {
+    long wait = REFUSED;
+    boolean settled = false;
+    while (!settled) {
+      final long now = System.nanoTime();
+      final long previous = this.full.get();
+      final long start = Math.max(previous, now);
+      final long due = start - this.tolerance - now;
+      if (due > patience) {
+        this.refusals.increment();
+        settled = true;
+      } else if (this.full.compareAndSet(previous, start + this.interval)) {
+        this.acquisitions.increment();
+        wait = Math.max(0L, due);
+        settled = true;
+      }
+    }
+    return wait;
+  }
+}
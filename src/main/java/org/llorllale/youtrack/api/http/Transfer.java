@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+/**
+ * The bytes transferred for a single response, before and after decompression.
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see Compressed
+ * @since 1.1.0
+ */
+public final class Transfer {
+  private final String uri;
+  private final long compressed;
+  private final long uncompressed;
+
+  /**
+   * Ctor.
+   * 
+   * @param uri the URI of the request, as it appears in the request line
+   * @param compressed the number of bytes read before decompression
+   * @param uncompressed the number of bytes read after decompression
+   * @since 1.1.0
+   */
+  Transfer(String uri, long compressed, long uncompressed) {
+    this.uri = uri;
+    this.compressed = compressed;
+    this.uncompressed = uncompressed;
+  }
+
+  /**
+   * The URI of the request, as it appears in the request line (usually just the path and the 
+   * query).
+   * 
+   * @return the request's URI
+   * @since 1.1.0
+   */
+  public String uri() {
+    return this.uri;
+  }
+
+  /**
+   * The number of bytes read as they were received from the server, ie. before decompression.
+   * 
+   * @return the number of bytes received
+   * @since 1.1.0
+   */
+  public long wire() {
+    return this.compressed;
+  }
+
+  /**
+   * The number of bytes read after decompression.
+   * 
+   * @return the number of decompressed bytes
+   * @since 1.1.0
+   */
+  public long decoded() {
+    return this.uncompressed;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s wire=%d decoded=%d", this.uri, this.compressed, this.uncompressed);
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+import java.io.IOException;
+
+/**
+ * Service provider interface for the transport that carries the API's requests to the YouTrack
+ * server.
+ * 
+ * <p>By default, requests are executed with Apache's {@link org.apache.http.client.HttpClient}
+ * (see {@link Apache}). Other http clients can be plugged in by implementing this interface, 
+ * eg. one that multiplexes requests over HTTP/2. Transports can also be decorated (see 
+ * {@link Coalesced}, {@link Revalidating}, {@link Retrying}, {@link AdaptiveLimit} and 
+ * {@link Throttled}). Requests and replies are modelled with this package's own types 
+ * ({@link Request}, {@link Reply}), so that implementations don't depend on any particular 
+ * http client.</p>
+ * 
+ * <p>Implementations must be thread-safe, and the replies must hold on to whatever resources 
+ * they need (eg. connections) only until they are closed.</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see org.llorllale.youtrack.api.DefaultYouTrack
+ * @since 1.1.0
+ */
+@FunctionalInterface
+public interface Transport {
+  /**
+   * Executes the request.
+   * 
+   * @param request the request
+   * @return the server's reply, whatever its status
+   * @throws IOException if the server is unavailable
+   * @since 1.1.0
+   */
+  Reply execute(Request request) throws IOException;
+}
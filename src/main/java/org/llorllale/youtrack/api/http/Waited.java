@@ -0,0 +1,53 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+/**
+ * The time the current thread has spent waiting on the client's side of a request: for a
+ * connection from a {@link Pool}, for a {@link TokenBucket token}, for room under an 
+ * {@link AdaptiveLimit}, or between {@link Retrying retries}.
+ * 
+ * <p>Subtracting the time waited while a request was executed from the time it took leaves the
+ * time spent on the server and on the wire (see 
+ * {@link org.llorllale.youtrack.api.Paging#fetched(int, long, java.time.Duration)}).</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+public final class Waited {
+  private static final ThreadLocal<long[]> NANOS = ThreadLocal.withInitial(() -> new long[1]);
+
+  /**
+   * The total time the current thread has waited so far.
+   * 
+   * @return the time waited, in nanoseconds
+   * @since 1.1.0
+   */
+  public long nanos() {
+    return NANOS.get()[0];
+  }
+
+  /**
+   * Records a wait by the current thread.
+   * 
+   * @param nanos how long the thread waited, in nanoseconds
+   * @since 1.1.0
+   */
+  void add(long nanos) {
+    NANOS.get()[0] += nanos;
+  }
+}
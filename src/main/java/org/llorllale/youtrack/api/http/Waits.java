@@ -0,0 +1,65 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+import java.util.Arrays;
+
+/**
+ * The most recent connection checkout wait times.
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+final class Waits {
+  private final long[] samples;
+  private long count;
+
+  /**
+   * Ctor.
+   * 
+   * @param size how many of the most recent wait times to keep
+   * @since 1.1.0
+   */
+  Waits(int size) {
+    this.samples = new long[size];
+  }
+
+  /**
+   * Records a wait.
+   * 
+   * @param nanos how long the checkout waited, in nanoseconds
+   * @since 1.1.0
+   */
+  synchronized void add(long nanos) {
+    this.samples[(int) (this.count % this.samples.length)] = nanos;
+    this.count += 1;
+  }
+
+  /**
+   * The recorded waits, in ascending order.
+   * 
+   * @return the recorded waits, in nanoseconds
+   * @since 1.1.0
+   */
+  synchronized long[] sorted() {
+    final long[] copy = Arrays.copyOf(
+      this.samples, (int) Math.min(this.count, this.samples.length)
+    );
+    Arrays.sort(copy);
+    return copy;
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.paging;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.llorllale.youtrack.api.Paging;
+
+/**
+ * {@link Paging} that adapts the page size to how the server performs.
+ * 
+ * <p>Starting from an initial size, each fetched page is used to estimate the time and payload
+ * cost of a single item. The next page is sized so that it is expected to take about 
+ * {@code latency} to be served and to weigh no more than {@code bytes}. To avoid oscillating, the 
+ * page size at most doubles or halves from one page to the next, and it never exceeds 
+ * {@code max}.</p>
+ * 
+ * <p>This way, fast servers are asked for large pages (fewer round trips), while slow or loaded 
+ * servers are asked for smaller pages that complete well within their timeouts.</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+public final class Adaptive implements Paging {
+  private static final int DEFAULT_INITIAL = 10;
+  private static final int DEFAULT_MAX = 1000;
+  private static final Duration DEFAULT_LATENCY = Duration.ofSeconds(2);
+  private static final long DEFAULT_BYTES = 4L * 1024 * 1024;
+  private final AtomicInteger current;
+  private final int max;
+  private final Duration latency;
+  private final long payload;
+
+  /**
+   * Ctor.
+   * 
+   * @param initial the size of the first page
+   * @param max the maximum page size
+   * @param latency the target time for the server to serve a page
+   * @param bytes the target maximum size of a page's payload
+   * @since 1.1.0
+   */
+  public Adaptive(int initial, int max, Duration latency, long bytes) {
+    this.current = new AtomicInteger(initial);
+    this.max = max;
+    this.latency = latency;
+    this.payload = bytes;
+  }
+
+  /**
+   * Starts with pages of 10 items, growing up to 1000 items per page while the server responds
+   * within 2 seconds with payloads of no more than 4 MiB.
+   * 
+   * @since 1.1.0
+   */
+  public Adaptive() {
+    this(DEFAULT_INITIAL, DEFAULT_MAX, DEFAULT_LATENCY, DEFAULT_BYTES);
+  }
+
+  @Override
+  public int size() {
+    return this.current.get();
+  }
+
+  @Override
+  public void fetched(int items, long bytes, Duration elapsed) {
+    if (items > 0) {
+      this.current.updateAndGet(
+        size -> (int) Math.max(
+          1L,
+          Math.min(
+            Math.min(this.max, 2L * size),
+            Math.max(
+              size / 2L,
+              Math.min(this.byLatency(items, elapsed), this.byPayload(items, bytes))
+            )
+          )
+        )
+      );
+    }
+  }
+
+  /**
+   * The number of items that the server is expected to serve within the target latency.
+   * 
+   * @param items number of items in the sample page
+   * @param elapsed time it took to serve the sample page
+   * @return the number of items expected to be served within the target latency
+   * @since 1.1.0
+   */
+  private long byLatency(int items, Duration elapsed) {
+    return this.latency.toNanos() * items / Math.max(1L, elapsed.toNanos());
+  }
+
+  /**
+   * The number of items expected to fit within the target payload size.
+   * 
+   * @param items number of items in the sample page
+   * @param size the sample page's payload size, or a negative number if unknown
+   * @return the number of items expected to fit within the target payload size
+   * @since 1.1.0
+   */
+  private long byPayload(int items, long size) {
+    long count = Long.MAX_VALUE;
+    if (size > 0) {
+      count = this.payload * items / size;
+    }
+    return count;
+  }
+
+  @Override
+  public int prefetch() {
+    return 0;
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.paging;
+
+import java.time.Duration;
+import org.llorllale.youtrack.api.Paging;
+
+/**
+ * {@link Paging} with a constant page size.
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+public final class Fixed implements Paging {
+  private static final int DEFAULT_SIZE = 10;
+  private final int size;
+
+  /**
+   * Ctor.
+   * 
+   * @param size the page size
+   * @since 1.1.0
+   */
+  public Fixed(int size) {
+    this.size = size;
+  }
+
+  /**
+   * Pages of 10 items.
+   * 
+   * @since 1.1.0
+   */
+  public Fixed() {
+    this(DEFAULT_SIZE);
+  }
+
+  @Override
+  public int size() {
+    return this.size;
+  }
+
+  @Override
+  public void fetched(int items, long bytes, Duration elapsed) {
+    // the page size is fixed
+  }
+
+  @Override
+  public int prefetch() {
+    return 0;
+  }
+}
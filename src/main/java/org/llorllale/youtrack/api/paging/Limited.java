@@ -0,0 +1,71 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.paging;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.llorllale.youtrack.api.Paging;
+
+/**
+ * Requests no more than a given number of items in total, sizing pages with another 
+ * {@link Paging}.
+ * 
+ * <p>Pages are shrunk so that the total number of items requested does not exceed {@code max}, 
+ * and no more pages are requested after that. For example, the first 5 issues of a project are
+ * fetched with a single request for 5 issues with {@code new Limited(5, new Fixed())}.</p>
+ * 
+ * <p>Instances keep count of the items requested so far, so a new instance must be used for 
+ * each stream.</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+public final class Limited implements Paging {
+  private final AtomicLong remaining;
+  private final Paging origin;
+
+  /**
+   * Ctor.
+   * 
+   * @param max the maximum number of items to request in total
+   * @param origin decides the size of each page
+   * @since 1.1.0
+   */
+  public Limited(long max, Paging origin) {
+    this.remaining = new AtomicLong(max);
+    this.origin = origin;
+  }
+
+  @Override
+  public int size() {
+    final int size = this.origin.size();
+    return (int) Math.min(
+      size,
+      this.remaining.getAndUpdate(left -> Math.max(0L, left - size))
+    );
+  }
+
+  @Override
+  public void fetched(int items, long bytes, Duration elapsed) {
+    this.origin.fetched(items, bytes, elapsed);
+  }
+
+  @Override
+  public int prefetch() {
+    return this.origin.prefetch();
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.paging;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.llorllale.youtrack.api.Paging;
+
+/**
+ * Counts the pages requested with another {@link Paging}, and the bytes received with them.
+ * 
+ * <p>Use a new instance for each stream to obtain per-stream figures, eg. to verify the number
+ * of requests issued to the server.</p>
+ * 
+ * <p>Payload sizes are counted as read, after decompression (see 
+ * {@link org.llorllale.youtrack.api.http.Compressed} for the bytes received over the wire).</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+public final class Metered implements Paging {
+  private final Paging origin;
+  private final AtomicLong pages;
+  private final AtomicLong received;
+
+  /**
+   * Ctor.
+   * 
+   * @param origin decides the size of each page
+   * @since 1.1.0
+   */
+  public Metered(Paging origin) {
+    this.origin = origin;
+    this.pages = new AtomicLong();
+    this.received = new AtomicLong();
+  }
+
+  @Override
+  public int size() {
+    final int size = this.origin.size();
+    if (size > 0) {
+      this.pages.incrementAndGet();
+    }
+    return size;
+  }
+
+  @Override
+  public void fetched(int items, long bytes, Duration elapsed) {
+    if (bytes > 0) {
+      this.received.addAndGet(bytes);
+    }
+    this.origin.fetched(items, bytes, elapsed);
+  }
+
+  @Override
+  public int prefetch() {
+    return this.origin.prefetch();
+  }
+
+  /**
+   * The number of pages requested so far.
+   * 
+   * @return the number of pages requested so far
+   * @since 1.1.0
+   */
+  public long pages() {
+    return this.pages.get();
+  }
+
+  /**
+   * The number of bytes received so far with the pages that have been read.
+   * 
+   * @return the number of bytes received so far
+   * @since 1.1.0
+   */
+  public long bytes() {
+    return this.received.get();
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.paging;
+
+import java.time.Duration;
+import org.llorllale.youtrack.api.Paging;
+
+/**
+ * Requests a number of pages ahead of the one being read, sizing them with another 
+ * {@link Paging}.
+ * 
+ * <p>Useful when each item takes a non-trivial time to process: the next pages are fetched in 
+ * the background while the current page is being consumed.</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+public final class Prefetched implements Paging {
+  private final int depth;
+  private final Paging origin;
+
+  /**
+   * Ctor.
+   * 
+   * @param depth the number of pages to request ahead of the one being read
+   * @param origin decides the size of each page
+   * @since 1.1.0
+   */
+  public Prefetched(int depth, Paging origin) {
+    this.depth = depth;
+    this.origin = origin;
+  }
+
+  /**
+   * Requests one {@link Fixed} page ahead of the one being read.
+   * 
+   * @since 1.1.0
+   */
+  public Prefetched() {
+    this(1, new Fixed());
+  }
+
+  @Override
+  public int size() {
+    return this.origin.size();
+  }
+
+  @Override
+  public void fetched(int items, long bytes, Duration elapsed) {
+    this.origin.fetched(items, bytes, elapsed);
+  }
+
+  @Override
+  public int prefetch() {
+    return this.depth;
+  }
+}
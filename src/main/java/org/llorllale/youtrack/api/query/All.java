@@ -0,0 +1,102 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.query;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.llorllale.youtrack.api.Query;
+
+/**
+ * Issues matching all of the given queries.
+ * 
+ * <p>When more than one query is given, the ones with {@code or} in them are enclosed in 
+ * parentheses, so that they are not mixed up with the others (eg. {@code State: Open (#Bug or 
+ * #Feature)}). Sort clauses ({@code sort by:} and {@code order by:}) are kept outside the 
+ * parentheses and moved to the end of the query, where YouTrack expects them.</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+public final class All implements Query {
+  private static final String SEPARATOR = " ";
+  private static final Pattern OR = Pattern.compile("\\bor\\b", Pattern.CASE_INSENSITIVE);
+  private static final Pattern SORT = Pattern.compile(
+    "\\b(?:sort|order) by:", Pattern.CASE_INSENSITIVE
+  );
+  private final Query[] queries;
+
+  /**
+   * Ctor.
+   * 
+   * @param queries the queries that issues must match
+   * @since 1.1.0
+   */
+  public All(Query... queries) {
+    this.queries = queries.clone();
+  }
+
+  @Override
+  public String asString() {
+    final List<String[]> parts = Arrays.stream(this.queries)
+      .map(Query::asString)
+      .map(All::split)
+      .collect(Collectors.toList());
+    final boolean several = parts.stream().filter(p -> !p[0].isEmpty()).count() > 1;
+    return Stream.concat(
+      parts.stream().map(p -> p[0]).filter(q -> !q.isEmpty()).map(q -> grouped(q, several)),
+      parts.stream().map(p -> p[1]).filter(q -> !q.isEmpty())
+    ).collect(Collectors.joining(SEPARATOR));
+  }
+
+  /**
+   * Splits the query into its filter and its sort clause.
+   * 
+   * @param query the query
+   * @return the query's filter and its sort clause, either of which may be empty
+   * @since 1.1.0
+   */
+  private static String[] split(String query) {
+    final Matcher sort = SORT.matcher(query);
+    String[] parts = {query, ""};
+    if (sort.find()) {
+      parts = new String[] {
+        query.substring(0, sort.start()).trim(), query.substring(sort.start()).trim(),
+      };
+    }
+    return parts;
+  }
+
+  /**
+   * Encloses the filter in parentheses if it has {@code or} in it and is joined with others.
+   * 
+   * @param filter the filter
+   * @param several whether the filter is joined with other filters
+   * @return the filter, enclosed in parentheses if needed
+   * @since 1.1.0
+   */
+  private static String grouped(String filter, boolean several) {
+    String grouped = filter;
+    if (several && OR.matcher(filter).find()) {
+      grouped = String.format("(%s)", filter);
+    }
+    return grouped;
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.query;
+
+import java.util.regex.Pattern;
+import org.llorllale.youtrack.api.Query;
+
+/**
+ * A field name or value, enclosed in braces if it contains whitespace.
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+final class Braced implements Query {
+  private static final Pattern SPACE = Pattern.compile("\\s");
+  private final String text;
+
+  /**
+   * Ctor.
+   * 
+   * @param text the field name or value
+   * @since 1.1.0
+   */
+  Braced(String text) {
+    this.text = text;
+  }
+
+  @Override
+  public String asString() {
+    String braced = this.text;
+    if (SPACE.matcher(this.text).find()) {
+      braced = String.format("{%s}", this.text);
+    }
+    return braced;
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.llorllale.youtrack.api.Query;
+
+/**
+ * Issues with any of the given ids (eg. {@code issue id: TP-1, TP-2}).
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+public final class Ids implements Query {
+  private final List<String> ids;
+
+  /**
+   * Ctor.
+   * 
+   * @param ids the issues' ids
+   * @since 1.1.0
+   */
+  public Ids(Collection<String> ids) {
+    this.ids = new ArrayList<>(ids);
+  }
+
+  @Override
+  public String asString() {
+    return "issue id: ".concat(String.join(", ", this.ids));
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.query;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import org.llorllale.youtrack.api.Query;
+
+/**
+ * Issues whose field has any of the given values (eg. {@code State: Open, {In Progress}}).
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+public final class Is implements Query {
+  private final String field;
+  private final String[] values;
+
+  /**
+   * Ctor.
+   * 
+   * @param field the field's name
+   * @param values the values, any of which the field must have
+   * @since 1.1.0
+   */
+  public Is(String field, String... values) {
+    this.field = field;
+    this.values = values.clone();
+  }
+
+  @Override
+  public String asString() {
+    return String.format(
+      "%s: %s",
+      new Braced(this.field).asString(),
+      Arrays.stream(this.values)
+        .map(v -> new Braced(v).asString())
+        .collect(Collectors.joining(", "))
+    );
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.query;
+
+import org.llorllale.youtrack.api.Query;
+
+/**
+ * A query given as text in YouTrack's search syntax.
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+public final class Text implements Query {
+  private final String text;
+
+  /**
+   * Ctor.
+   * 
+   * @param text the query in YouTrack's search syntax
+   * @since 1.1.0
+   */
+  public Text(String text) {
+    this.text = text;
+  }
+
+  @Override
+  public String asString() {
+    return this.text;
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.query;
+
+import java.time.LocalDate;
+import org.llorllale.youtrack.api.Query;
+
+/**
+ * Issues updated within a range of dates.
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+public final class Updated implements Query {
+  private final String from;
+  private final String until;
+
+  /**
+   * Ctor.
+   * 
+   * @param from the first day of the range
+   * @param until the last day of the range
+   * @since 1.1.0
+   */
+  public Updated(LocalDate from, LocalDate until) {
+    this(from.toString(), until.toString());
+  }
+
+  /**
+   * Issues updated since the given day, up to today.
+   * 
+   * @param from the first day of the range
+   * @since 1.1.0
+   */
+  public Updated(LocalDate from) {
+    this(from.toString(), "Today");
+  }
+
+  /**
+   * Primary ctor.
+   * 
+   * @param from the start of the range, in YouTrack's syntax
+   * @param until the end of the range, in YouTrack's syntax
+   * @since 1.1.0
+   */
+  private Updated(String from, String until) {
+    this.from = from;
+    this.until = until;
+  }
+
+  @Override
+  public String asString() {
+    return String.format("updated: %s .. %s", this.from, this.until);
+  }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Building blocks for {@link org.llorllale.youtrack.api.Query search queries}.
+ * 
+ * <p>For example, the open issues assigned to {@code jdoe} that were updated this year:</p>
+ * <pre>
+ * new All(
+ *   new Is("State", "Open"),
+ *   new Is("Assignee", "jdoe"),
+ *   new Updated(LocalDate.of(2017, 1, 1))
+ * )
+ * </pre>
+ *
+ * @since 1.1.0
+ */
+package org.llorllale.youtrack.api.query;
@@ -26,6 +26,7 @@ import org.apache.http.HttpStatus;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.utils.URIBuilder;
+import org.apache.http.util.EntityUtils;
 
 /**
  * <p>A login for the simple username/password use case.</p>
@@ -72,6 +73,7 @@ public final class UsernamePassword implements Login {
               .build()
           )
       );
+      EntityUtils.consume(response.getEntity());
   
       //@checkstyle todo there is more branching here
       if (response.getStatusLine().getStatusCode() != HttpStatus.SC_OK) {
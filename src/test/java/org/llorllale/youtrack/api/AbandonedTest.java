@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (3 lines)
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Abandoned}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class AbandonedTest {
+  /**
+   * The resources of owners that are garbage-collected are released.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void releasesCollected() throws Exception {
+    final AtomicInteger released = new AtomicInteger();
+    final Abandoned abandoned = new Abandoned();
+    abandoned.watch(new Object(), released::incrementAndGet);
+    this.collect(abandoned, released);
+    assertThat(released.get(), is(1));
+  }
+
+  /**
+   * The resources of owners that are still reachable are left alone.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void keepsReachable() throws Exception {
+    final AtomicInteger released = new AtomicInteger();
+    final Abandoned abandoned = new Abandoned();
+    final Object owner = new Object();
+    abandoned.watch(owner, released::incrementAndGet);
+    this.collect(abandoned, released);
+    assertThat(released.get(), is(0));
+    assertThat(owner, notNullValue());
+  }
+
+  /**
+   * The resources of owners that have been forgotten are not released again.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void forgotten() throws Exception {
+    final AtomicInteger released = new AtomicInteger();
+    final Abandoned abandoned = new Abandoned();
+    abandoned.watch(new Object(), released::incrementAndGet).run();
+    this.collect(abandoned, released);
+    assertThat(released.get(), is(0));
+  }
+
+  /**
+   * Runs the garbage collector until something is released, or for a couple of seconds.
+   * @param abandoned the owners watched
+   * @param released the number of releases so far
+   * @throws InterruptedException unexpected
+   */
+  private void collect(Abandoned abandoned, AtomicInteger released)
+      throws InterruptedException {
+    for (int attempt = 0; attempt < 20 && released.get() == 0; attempt++) {
+      System.gc();
+      Thread.sleep(100);
+      abandoned.watch(new Object(), () -> { });
+    }
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+import org.llorllale.youtrack.api.mock.MockIssue;
+import org.llorllale.youtrack.api.mock.MockLogin;
+import org.llorllale.youtrack.api.mock.MockProject;
+import org.llorllale.youtrack.api.mock.http.MockAsyncTransport;
+
+/**
+ * Unit tests for {@link AsyncAttachments}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ */
+public final class AsyncAttachmentsTest {
+  /**
+   * All attachments are fetched.
+   * @since 1.1.0
+   */
+  @Test
+  public void stream() {
+    assertThat(
+      new AsyncAttachments(
+        new MockIssue(new MockProject()),
+        new MockLogin(),
+        new MockAsyncTransport(
+          "<fileUrls>"
+          + "<fileUrl url=\"/_persistent/uploadFile.html?file=45-46\" name=\"file1.html\"/>"
+          + "<fileUrl url=\"/_persistent/uploadFile.html?file=45-47\" name=\"file2.html\"/>"
+          + "</fileUrls>"
+        )
+      ).stream().join().count(),
+      is(2L)
+    );
+  }
+
+  /**
+   * Files are uploaded as multipart bodies.
+   * @since 1.1.0
+   */
+  @Test
+  public void create() {
+    final MockAsyncTransport transport = new MockAsyncTransport("");
+    new AsyncAttachments(new MockIssue(new MockProject()), new MockLogin(), transport).create(
+      "notes.txt",
+      "text/plain",
+      new ByteArrayInputStream("notes".getBytes(StandardCharsets.UTF_8))
+    ).join();
+    assertThat(
+      transport.requests().get(0).body().get().type().get().startsWith("multipart/form-data"),
+      is(true)
+    );
+  }
+}
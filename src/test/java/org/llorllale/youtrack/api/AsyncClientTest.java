@@ -0,0 +1,119 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (3 lines)
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Optional;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.util.EntityUtils;
+import org.junit.Test;
+import org.llorllale.youtrack.api.mock.MockLogin;
+import org.llorllale.youtrack.api.mock.http.MockAsyncTransport;
+import org.llorllale.youtrack.api.session.AuthenticationException;
+import org.llorllale.youtrack.api.session.PermanentToken;
+
+/**
+ * Unit tests for {@link AsyncClient}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ */
+public final class AsyncClientTest {
+  /**
+   * Requests carry the session's cookies.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void authenticates() throws Exception {
+    final MockAsyncTransport transport = new MockAsyncTransport("");
+    new AsyncClient(
+      new PermanentToken(new URL("http://localhost/rest"), "secret"), transport
+    ).execute(
+      session -> new Authenticated(
+        session, new HttpGet(session.baseUrl().toString().concat("/issue/TP-1"))
+      ),
+      Response::released
+    ).join();
+    assertThat(
+      transport.requests().get(0).headers().first("Authorization"),
+      is(Optional.of("Bearer secret"))
+    );
+  }
+
+  /**
+   * Failed logins fail the future, with no request sent.
+   * @since 1.1.0
+   */
+  @Test
+  public void loginFails() {
+    final MockAsyncTransport transport = new MockAsyncTransport("");
+    assertThat(
+      new AsyncClient(
+        () -> {
+          throw new AuthenticationException("wrong password");
+        },
+        transport
+      ).execute(
+        session -> new HttpGet("http://localhost/rest/issue/TP-1"),
+        Response::released
+      ).handle((result, error) -> error.getCause()).join(),
+      instanceOf(AuthenticationException.class)
+    );
+    assertThat(transport.requests().isEmpty(), is(true));
+  }
+
+  /**
+   * Errors reading the response are the future's cause of failure.
+   * @since 1.1.0
+   */
+  @Test
+  public void readerFails() {
+    assertThat(
+      new AsyncClient(new MockLogin(), new MockAsyncTransport("")).execute(
+        session -> new HttpGet("http://localhost/rest/issue/TP-1"),
+        resp -> {
+          throw new IOException("unreadable");
+        }
+      ).handle((result, error) -> error.getCause()).join(),
+      instanceOf(IOException.class)
+    );
+  }
+
+  /**
+   * The blocking client waits on the same transport.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void blocking() throws Exception {
+    assertThat(
+      EntityUtils.toString(
+        new AsyncClient(new MockLogin(), new MockAsyncTransport("<int>1</int>")).blocking().get()
+          .execute(new HttpGet("http://localhost/rest/issue/count")).getEntity()
+      ),
+      is("<int>1</int>")
+    );
+  }
+}
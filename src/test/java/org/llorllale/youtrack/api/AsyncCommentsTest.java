@@ -0,0 +1,75 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+import org.llorllale.youtrack.api.mock.MockIssue;
+import org.llorllale.youtrack.api.mock.MockLogin;
+import org.llorllale.youtrack.api.mock.MockProject;
+import org.llorllale.youtrack.api.mock.http.MockAsyncTransport;
+
+/**
+ * Unit tests for {@link AsyncComments}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ */
+public final class AsyncCommentsTest {
+  /**
+   * All comments are fetched.
+   * @since 1.1.0
+   */
+  @Test
+  public void stream() {
+    assertThat(
+      new AsyncComments(
+        new MockIssue(new MockProject()),
+        new MockLogin(),
+        new MockAsyncTransport(
+          "<comments>"
+          + "<comment id=\"42-306\" author=\"root\" text=\"comment 1!\" created=\"1267030230127\"/>"
+          + "<comment id=\"42-307\" author=\"root\" text=\"comment 2?\" created=\"1267030238721\"/>"
+          + "</comments>"
+        )
+      ).stream().join().count(),
+      is(2L)
+    );
+  }
+
+  /**
+   * Comments are posted to the issue.
+   * @since 1.1.0
+   */
+  @Test
+  public void post() {
+    final MockAsyncTransport transport = new MockAsyncTransport("");
+    final Issue issue = new MockIssue(new MockProject());
+    new AsyncComments(issue, new MockLogin(), transport).post("Deployed").join();
+    assertThat(transport.requests().get(0).method(), is("POST"));
+    assertThat(
+      transport.requests().get(0).uri().getPath().endsWith(
+        String.format("/issue/%s/execute", issue.id())
+      ),
+      is(true)
+    );
+  }
+}
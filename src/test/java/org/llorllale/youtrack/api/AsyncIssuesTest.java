@@ -0,0 +1,147 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (3 lines)
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Test;
+import org.llorllale.youtrack.api.http.Headers;
+import org.llorllale.youtrack.api.http.Reply;
+import org.llorllale.youtrack.api.mock.MockLogin;
+import org.llorllale.youtrack.api.mock.MockProject;
+import org.llorllale.youtrack.api.mock.http.MockAsyncTransport;
+import org.llorllale.youtrack.api.query.Text;
+import org.llorllale.youtrack.api.session.UnauthorizedException;
+
+/**
+ * Unit tests for {@link AsyncIssues}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ */
+public final class AsyncIssuesTest {
+  /**
+   * Issues are fetched by id.
+   * @since 1.1.0
+   */
+  @Test
+  public void get() {
+    assertThat(
+      this.issues(new MockAsyncTransport("<issue id=\"TST-1\"/>")).get("TST-1").join().get().id(),
+      is("TST-1")
+    );
+  }
+
+  /**
+   * Missing issues are empty.
+   * @since 1.1.0
+   */
+  @Test
+  public void getMissing() {
+    assertThat(
+      this.issues(new MockAsyncTransport("<error>Issue not found.</error>"))
+        .get("TST-1").join().isPresent(),
+      is(false)
+    );
+  }
+
+  /**
+   * Many issues are searched for in chunks of 50 ids, and every id is mapped.
+   * @since 1.1.0
+   */
+  @Test
+  public void getMany() {
+    final MockAsyncTransport transport = new MockAsyncTransport(
+      "<issues><issue id=\"TST-1\"/></issues>",
+      "<issues><issue id=\"TST-60\"/></issues>"
+    );
+    final Map<String, Optional<Issue>> issues = this.issues(transport).get(
+      IntStream.rangeClosed(1, 60).mapToObj(n -> "TST-" + n).collect(Collectors.toList())
+    ).join();
+    assertThat(transport.requests().size(), is(2));
+    assertThat(issues.size(), is(60));
+    assertThat(issues.get("TST-60").get().id(), is("TST-60"));
+    assertThat(issues.get("TST-2").isPresent(), is(false));
+  }
+
+  /**
+   * Issues are counted, polling until the count is ready.
+   * @since 1.1.0
+   */
+  @Test
+  public void count() {
+    assertThat(
+      this.issues(new MockAsyncTransport("<int>-1</int>", "<int>3</int>"))
+        .count(new Text("State: Open")).join(),
+      is(3L)
+    );
+  }
+
+  /**
+   * Issues are created, then fetched.
+   * @since 1.1.0
+   */
+  @Test
+  public void create() {
+    assertThat(
+      this.issues(
+        new MockAsyncTransport(
+          new Reply(
+            201, new Headers().with("Location", "http://localhost/rest/issue/TST-7"), new byte[0]
+          ),
+          new Reply(200, new Headers(), "<issue id=\"TST-7\"/>".getBytes(StandardCharsets.UTF_8))
+        )
+      ).create("summary", "description").join().id(),
+      is("TST-7")
+    );
+  }
+
+  /**
+   * Failures carry the blocking API's exception as cause.
+   * @since 1.1.0
+   */
+  @Test
+  public void unauthorized() {
+    assertThat(
+      this.issues(new MockAsyncTransport(new Reply(401, new Headers(), new byte[0])))
+        .get(Arrays.asList("TST-1"))
+        .handle((result, error) -> error.getCause())
+        .join(),
+      instanceOf(UnauthorizedException.class)
+    );
+  }
+
+  /**
+   * Asynchronous issues on the given transport.
+   * @param transport the transport
+   * @return the issues
+   */
+  private AsyncIssues issues(MockAsyncTransport transport) {
+    return new AsyncIssues(new MockProject(), new MockLogin(), transport);
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (3 lines)
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Async}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ */
+public final class AsyncTest {
+  /**
+   * The future completes with the call's result.
+   * @since 1.1.0
+   */
+  @Test
+  public void result() {
+    assertThat(new Async(1).call(() -> "done").join(), is("done"));
+  }
+
+  /**
+   * The future fails with the call's exception as cause.
+   * @since 1.1.0
+   */
+  @Test
+  public void failure() {
+    assertThat(
+      new Async(1).call(
+        () -> {
+          throw new IOException("unavailable");
+        }
+      ).handle((result, error) -> error.getCause()).join(),
+      instanceOf(IOException.class)
+    );
+  }
+
+  /**
+   * Calls run on the given executor.
+   * @since 1.1.0
+   */
+  @Test
+  public void executor() {
+    assertThat(
+      new Async(Runnable::run).call(Thread::currentThread).join(),
+      is(Thread.currentThread())
+    );
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.junit.Test;
+import org.llorllale.youtrack.api.mock.MockIssue;
+import org.llorllale.youtrack.api.mock.MockLogin;
+import org.llorllale.youtrack.api.mock.MockProject;
+import org.llorllale.youtrack.api.mock.http.MockAsyncTransport;
+
+/**
+ * Unit tests for {@link AsyncTimeTracking}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ */
+public final class AsyncTimeTrackingTest {
+  /**
+   * All entries are fetched.
+   * @since 1.1.0
+   */
+  @Test
+  public void stream() {
+    assertThat(
+      new AsyncTimeTracking(
+        new MockIssue(new MockProject()),
+        new MockLogin(),
+        new MockAsyncTransport(
+          "<workItems>"
+          + "<workItem><id>101-1</id><date>1480204800000</date><duration>240</duration>"
+          + "<description>first</description><author login=\"root\"/></workItem>"
+          + "<workItem><id>101-2</id><date>1467936000000</date><duration>480</duration>"
+          + "<description>second</description><author login=\"root\"/></workItem>"
+          + "</workItems>"
+        )
+      ).stream().join().count(),
+      is(2L)
+    );
+  }
+
+  /**
+   * Entries are posted with their duration in minutes.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void create() throws Exception {
+    final MockAsyncTransport transport = new MockAsyncTransport("");
+    new AsyncTimeTracking(new MockIssue(new MockProject()), new MockLogin(), transport)
+      .create(Duration.ofHours(1)).join();
+    final ByteArrayOutputStream body = new ByteArrayOutputStream();
+    transport.requests().get(0).body().get().writeTo(body);
+    assertThat(
+      new String(body.toByteArray(), StandardCharsets.UTF_8).contains("<duration>60</duration>"),
+      is(true)
+    );
+  }
+}
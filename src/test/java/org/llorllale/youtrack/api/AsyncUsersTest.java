@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.llorllale.youtrack.api.mock.MockLogin;
+import org.llorllale.youtrack.api.mock.MockProject;
+import org.llorllale.youtrack.api.mock.http.MockAsyncTransport;
+
+/**
+ * Unit tests for {@link AsyncUsers}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ */
+public final class AsyncUsersTest {
+  /**
+   * Users are fetched by login.
+   * @since 1.1.0
+   */
+  @Test
+  public void user() {
+    assertThat(
+      new AsyncUsers(
+        new MockProject(),
+        new MockLogin(),
+        new MockAsyncTransport("<user login=\"garisty\" fullName=\"George Aristy\"/>")
+      ).user("garisty").join().loginName(),
+      is("garisty")
+    );
+  }
+
+  /**
+   * The project's assignees are fetched, in order.
+   * @since 1.1.0
+   */
+  @Test
+  public void assignees() {
+    assertThat(
+      new AsyncUsers(
+        new MockProject(),
+        new MockLogin(),
+        new MockAsyncTransport(
+          "<project shortName=\"HBR\"><assigneesLogin>"
+          + "<sub value=\"ajordens\"/><sub value=\"garisty\"/>"
+          + "</assigneesLogin></project>",
+          "<user login=\"ajordens\" fullName=\"Abraham Jordens\"/>",
+          "<user login=\"garisty\" fullName=\"George Aristy\"/>"
+        )
+      ).assignees().join().map(User::loginName).collect(Collectors.joining(",")),
+      is("ajordens,garisty")
+    );
+  }
+}
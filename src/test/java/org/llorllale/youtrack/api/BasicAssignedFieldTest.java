@@ -22,6 +22,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Optional;
 import org.junit.Test;
 import org.llorllale.youtrack.api.mock.MockAssignedField;
 import org.llorllale.youtrack.api.mock.MockField;
@@ -30,29 +31,29 @@ import org.llorllale.youtrack.api.mock.MockIssue;
 import org.llorllale.youtrack.api.mock.MockProject;
 
 /**
- * Unit tests for {@link XmlAssignedField}.
+ * Unit tests for {@link BasicAssignedField}.
  * @author George Aristy (george.aristy@gmail.com)
  * @since 1.0.0
  * @checkstyle MultipleStringLiterals (500 lines)
  * @checkstyle MethodName (500 lines)
  */
-public final class XmlAssignedFieldTest {
+public final class BasicAssignedFieldTest {
   /**
-   * {@link XmlAssignedField#issue()} must return the same issue.
+   * {@link BasicAssignedField#issue()} must return the same issue.
    * @since 1.0.0
    */
   @Test
   public void issue() {
     final Issue issue = new MockIssue(new MockProject());
     assertThat(
-        new XmlAssignedField(null, issue, null).issue(),
+        new BasicAssignedField(null, issue, Optional.empty()).issue(),
         is(issue)
     );
   }
 
   /**
-   * {@link XmlAssignedField#value()} must return a {@link FieldValue} with a value equal 
-   * to the "value" element in the XML.
+   * {@link BasicAssignedField#value()} must return a {@link FieldValue} with a value equal 
+   * to the "value" element in the XML, as read by {@link FieldIndex}.
    * @throws Exception unexpected
    * @since 1.0.0
    */
@@ -70,34 +71,34 @@ public final class XmlAssignedFieldTest {
       + "    </field>";
     final Field field = new MockField("Priority", new MockProject());
     assertThat(
-      new XmlAssignedField(
+      new BasicAssignedField(
         field, 
         new MockIssue(field.project()), 
-        new XmlOf(new StringAsDocument(xml))
+        priority(xml)
       ).value(),
       is(new MockFieldValue(field, "Normal"))
     );
   }
 
   /**
-   * {@link XmlAssignedField#project()} must return the same project.
+   * {@link BasicAssignedField#project()} must return the same project.
    * @since 1.0.0
    */
   @Test
   public void project() {
     final Project project = new MockProject();
     assertThat(
-      new XmlAssignedField(
+      new BasicAssignedField(
         new MockField("field", project), 
         null, 
-        null
+        Optional.empty()
       ).project(),
       is(project)
     );
   }
 
   /**
-   * {@link XmlAssignedField#name()} must return the enclosed field's name.
+   * {@link BasicAssignedField#name()} must return the enclosed field's name.
    * @since 1.0.0
    */
   @Test
@@ -105,31 +106,33 @@ public final class XmlAssignedFieldTest {
     //the name of interest
     final String name = "abc123";
     assertThat(
-      new XmlAssignedField(
+      new BasicAssignedField(
         new MockField(name, new MockProject()),
         null, 
-        null
+        Optional.empty()
       ).name(),
       is(name)
     );
   }
 
   /**
-   * {@link XmlAssignedField#hashCode()} must be equal to its name's hashcode.
+   * {@link BasicAssignedField#hashCode()} must be equal to its name's hashcode.
    * @since 1.0.0
    */
   @Test
   public void testHashCode() {
     final String name = "abc123";
     assertThat(
-      new XmlAssignedField(new MockField(name, new MockProject()), null, null).hashCode(),
+      new BasicAssignedField(
+        new MockField(name, new MockProject()), null, Optional.empty()
+      ).hashCode(),
       is(name.hashCode())
     );
   }
 
   /**
-   * An {@link XmlAssignedField} must be equal to another {@link AssignedField} with the same name
-   * and value. The {@link XmlAssignedField}'s name and value are set in its enclosed XML.
+   * An {@link BasicAssignedField} must be equal to another {@link AssignedField} with the same name
+   * and value. The {@link BasicAssignedField}'s value is read from the XML by {@link FieldIndex}.
    * @throws Exception unexpected
    * @since 1.0.0
    */
@@ -148,10 +151,10 @@ public final class XmlAssignedFieldTest {
     final Field field = new MockField("Normal", new MockProject());
     final Issue issue = new MockIssue(field.project());
     assertTrue(
-      new XmlAssignedField(
+      new BasicAssignedField(
         field, 
         issue,
-        new XmlOf(new StringAsDocument(xml))
+        priority(xml)
       ).equals(
         new MockAssignedField(field.name(), issue, "Normal")
       )
@@ -159,7 +162,7 @@ public final class XmlAssignedFieldTest {
   }
 
   /**
-   * An {@link XmlAssignedField} cannot be equal to another {@link AssignedField} with with a 
+   * An {@link BasicAssignedField} cannot be equal to another {@link AssignedField} with with a 
    * different name.
    * @throws Exception unexpected
    * @since 1.0.0
@@ -179,10 +182,10 @@ public final class XmlAssignedFieldTest {
     final Field field = new MockField("Normal", new MockProject());
     final Issue issue = new MockIssue(field.project());
     assertFalse(
-      new XmlAssignedField(
+      new BasicAssignedField(
         field, 
         issue,
-        new XmlOf(new StringAsDocument(xml))
+        priority(xml)
       ).equals(
         new MockAssignedField("Some Other Name", issue, "Normal")
       )
@@ -190,7 +193,7 @@ public final class XmlAssignedFieldTest {
   }
 
   /**
-   * An {@link XmlAssignedField} cannot be equal to another {@link AssignedField} that, 
+   * An {@link BasicAssignedField} cannot be equal to another {@link AssignedField} that, 
    * although belonging to the same {@link Field}, has a different {@link FieldValue value}.
    * @throws Exception unexpected
    * @since 1.0.0
@@ -210,10 +213,10 @@ public final class XmlAssignedFieldTest {
     final Field field = new MockField("Normal", new MockProject());
     final Issue issue = new MockIssue(field.project());
     assertFalse(
-      new XmlAssignedField(
+      new BasicAssignedField(
         field, 
         issue,
-        new XmlOf(new StringAsDocument(xml))
+        priority(xml)
       ).equals(
         new MockAssignedField(field.name(), issue, "Some Other Value")
       )
@@ -221,7 +224,7 @@ public final class XmlAssignedFieldTest {
   }
 
   /**
-   * An {@link XmlAssignedField} cannot be equal to a field associated with a different project,
+   * An {@link BasicAssignedField} cannot be equal to a field associated with a different project,
    * even if both share the same name and value.
    * @throws Exception unexpected
    * @since 1.0.0
@@ -241,10 +244,10 @@ public final class XmlAssignedFieldTest {
     final Project firstProject = new MockProject("PR-1", "Project Name 1", "desc1");
     final Project secondProject = new MockProject("PR-2", "Project Name 2", "desc2");
     assertFalse(
-      new XmlAssignedField(
+      new BasicAssignedField(
         new MockField("Normal", firstProject),
         new MockIssue(firstProject),
-        new XmlOf(new StringAsDocument(xml))
+        priority(xml)
       ).equals(
         new MockAssignedField(
           "Normal", 
@@ -256,7 +259,7 @@ public final class XmlAssignedFieldTest {
   }
 
   /**
-   * An {@link XmlAssignedField} cannot be equal to {@code null}.
+   * An {@link BasicAssignedField} cannot be equal to {@code null}.
    * @throws Exception unexpected
    * @since 1.0.0
    */
@@ -273,16 +276,17 @@ public final class XmlAssignedFieldTest {
       + "  </color>\n"
       + "</field>";
     assertFalse(
-      new XmlAssignedField(
+      new BasicAssignedField(
         new MockField("field", new MockProject()), 
         new MockIssue(new MockProject()),
-        new XmlOf(new StringAsDocument(xml))
+        priority(xml)
       ).equals(null)
     );
   }
 
   /**
-   * An {@link XmlAssignedField} cannot be equal to an object that is not an {@link AssignedField}.
+   * An {@link BasicAssignedField} cannot be equal to an object that is not an 
+   * {@link AssignedField}.
    * @throws Exception unexpected
    * @since 1.0.0
    */
@@ -299,11 +303,23 @@ public final class XmlAssignedFieldTest {
       + "  </color>\n"
       + "</field>";
     assertFalse(
-      new XmlAssignedField(
+      new BasicAssignedField(
         new MockField("field", new MockProject()), 
         new MockIssue(new MockProject()),
-        new XmlOf(new StringAsDocument(xml))
+        priority(xml)
       ).equals(new Object())
     );
   }
+
+  /**
+   * The value of the "Priority" custom field in {@code xml}, as read by {@link FieldIndex}.
+   * @param xml the field's xml
+   * @return the field's value, if it has one
+   * @since 1.1.0
+   */
+  private static Optional<String> priority(String xml) {
+    return new FieldIndex(new XmlOf("<issue id=\"TST-1\">" + xml + "</issue>"))
+        .custom()
+        .get("Priority");
+  }
 }
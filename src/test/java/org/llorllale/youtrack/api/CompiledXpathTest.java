@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (4 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link CompiledXpath}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MultipleStringLiterals (200 lines)
+ * @checkstyle MethodName (200 lines)
+ */
+public final class CompiledXpathTest {
+  /**
+   * Expressions are compiled only once per thread.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void compilesOncePerThread() throws Exception {
+    assertThat(
+      new CompiledXpath().apply("//field[@name = 'summary']/value"),
+      is(sameInstance(new CompiledXpath().apply("//field[@name = 'summary']/value")))
+    );
+  }
+
+  /**
+   * Threads do not share compiled expressions.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void notSharedAcrossThreads() throws Exception {
+    final XPathExpression other = CompletableFuture.supplyAsync(
+      () -> {
+        try {
+          return new CompiledXpath().apply("@id");
+        } catch (XPathExpressionException e) {
+          throw new IllegalStateException(e);
+        }
+      }
+    ).get();
+    assertThat(new CompiledXpath().apply("@id"), is(not(sameInstance(other))));
+  }
+
+  /**
+   * Invalid expressions are reported.
+   * @throws Exception expected
+   * @since 1.1.0
+   */
+  @Test(expected = XPathExpressionException.class)
+  public void invalidExpression() throws Exception {
+    new CompiledXpath().apply("//field[");
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link DaemonPool}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ */
+public final class DaemonPoolTest {
+  /**
+   * Tasks are run on named daemon threads.
+   * @since 1.1.0
+   */
+  @Test
+  public void daemon() {
+    final String name = "test-pool";
+    final Thread thread = CompletableFuture.supplyAsync(
+      Thread::currentThread, new DaemonPool(name, 1)
+    ).join();
+    assertThat(thread.isDaemon(), is(true));
+    assertThat(thread.getName(), is(name));
+  }
+}
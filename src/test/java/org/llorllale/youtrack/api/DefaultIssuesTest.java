@@ -16,9 +16,10 @@
 
 package org.llorllale.youtrack.api;
 
-// @checkstyle AvoidStaticImport (5 lines)
+// @checkstyle AvoidStaticImport (6 lines)
 import static java.util.stream.Collectors.toList;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -30,6 +31,8 @@ import org.llorllale.youtrack.api.mock.MockProject;
 import org.llorllale.youtrack.api.mock.http.MockHttpClient;
 import org.llorllale.youtrack.api.mock.http.response.MockNotFoundResponse;
 import org.llorllale.youtrack.api.mock.http.response.MockOkResponse;
+import org.llorllale.youtrack.api.paging.Fixed;
+import org.llorllale.youtrack.api.paging.Metered;
 
 /**
  * Unit tests for {@link DefaultIssues}.
@@ -37,6 +40,7 @@ import org.llorllale.youtrack.api.mock.http.response.MockOkResponse;
  * @since 0.4.0
  * @checkstyle MultipleStringLiterals (500 lines)
  * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
  */
 public final class DefaultIssuesTest {
   private static final String ISSUES_PAGE1
@@ -389,12 +393,53 @@ public final class DefaultIssuesTest {
       new DefaultIssues(
         new MockProject(),
         new MockLogin(),
-        () -> client
+        () -> client,
+        new Fixed(2)
       ).stream().map(Issue::id).collect(toList()),
       containsInAnyOrder("TST-1", "TST-2", "TST-3", "TST-4")
     );
   }
 
+  /**
+   * {@link DefaultIssues} must not request more pages after a page with fewer issues than 
+   * requested.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void testStreamStopsAfterShortPage() throws Exception {
+    final Metered paging = new Metered(new Fixed(3));
+    assertThat(
+      new DefaultIssues(
+        new MockProject(),
+        new MockLogin(),
+        () -> new MockHttpClient(
+          new MockOkResponse(ISSUES_PAGE2),
+          new MockOkResponse(ISSUES_PAGE1)
+        )
+      ).stream(paging).map(Issue::id).collect(toList()),
+      containsInAnyOrder("TST-1", "TST-2")
+    );
+    assertThat(paging.pages(), is(1L));
+  }
+
+  /**
+   * DefaultIssues must return the count of issues computed by the server.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void testCount() throws Exception {
+    assertThat(
+      new DefaultIssues(
+        new MockProject(),
+        new MockLogin(),
+        () -> new MockHttpClient(new MockOkResponse("<int>4</int>"))
+      ).count("State: Open"),
+      is(4L)
+    );
+  }
+
   /**
    * DefaultIssues must return the Issue if present.
    * @throws Exception unexpected
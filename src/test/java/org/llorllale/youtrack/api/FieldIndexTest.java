@@ -0,0 +1,142 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (4 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link FieldIndex}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MultipleStringLiterals (500 lines)
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class FieldIndexTest {
+  private static final String ISSUE = 
+    "<issue id=\"HBR-63\">\n"
+    + "  <field name=\"created\"><value>1511136000000</value></field>\n"
+    + "  <field name=\"summary\"><value>summary text</value></field>\n"
+    + "  <field name=\"Fix versions\">\n"
+    + "    <value>1.0</value><value>1.1</value><valueId>1.0</valueId><valueId>1.1</valueId>\n"
+    + "  </field>\n"
+    + "  <field name=\"links\"/>\n"
+    + "  <field name=\"Priority\"><value>Normal</value><valueId>Normal</valueId></field>\n"
+    + "  <field name=\"Assignee\"><valueId>jdoe</valueId></field>\n"
+    + "  <comment><field name=\"author\"><value>jdoe</value></field></comment>\n"
+    + "</issue>";
+
+  /**
+   * Returns the issue's id.
+   * @since 1.1.0
+   */
+  @Test
+  public void id() {
+    assertThat(new FieldIndex(new XmlOf(ISSUE)).id(), is("HBR-63"));
+  }
+
+  /**
+   * Returns the first value of a field.
+   * @since 1.1.0
+   */
+  @Test
+  public void firstValue() {
+    assertThat(
+      new FieldIndex(new XmlOf(ISSUE)).value("Fix versions"),
+      is(Optional.of("1.0"))
+    );
+  }
+
+  /**
+   * Fields without values, and fields that don't belong to the issue itself, have no value.
+   * @since 1.1.0
+   */
+  @Test
+  public void noValue() {
+    final FieldIndex index = new FieldIndex(new XmlOf(ISSUE));
+    assertThat(index.value("links"), is(Optional.empty()));
+    assertThat(index.value("author"), is(Optional.empty()));
+  }
+
+  /**
+   * Custom fields are the ones with value ids, in document order.
+   * @since 1.1.0
+   */
+  @Test
+  public void customFields() {
+    assertThat(
+      new FieldIndex(new XmlOf(ISSUE)).custom().keySet(),
+      contains("Fix versions", "Priority", "Assignee")
+    );
+  }
+
+  /**
+   * The creation date is parsed eagerly.
+   * @since 1.1.0
+   */
+  @Test
+  public void created() {
+    assertThat(
+      new FieldIndex(new XmlOf(ISSUE)).created(),
+      is(OptionalLong.of(1511136000000L))
+    );
+  }
+
+  /**
+   * Issues without a creation date report none.
+   * @since 1.1.0
+   */
+  @Test
+  public void noCreated() {
+    assertThat(
+      new FieldIndex(new XmlOf("<issue id=\"HBR-1\"/>")).created(),
+      is(OptionalLong.empty())
+    );
+  }
+
+  /**
+   * Custom fields with a value id but no value are listed without a value.
+   * @since 1.1.0
+   */
+  @Test
+  public void customFieldWithoutValue() {
+    assertThat(
+      new FieldIndex(new XmlOf(ISSUE)).custom().get("Assignee"),
+      is(Optional.empty())
+    );
+  }
+
+  /**
+   * Field names are shared between indexes.
+   * @since 1.1.0
+   */
+  @Test
+  public void internedNames() {
+    assertThat(
+      new FieldIndex(new XmlOf(ISSUE)).custom().keySet().iterator().next(),
+      is(sameInstance(new FieldIndex(new XmlOf(ISSUE)).custom().keySet().iterator().next()))
+    );
+  }
+}
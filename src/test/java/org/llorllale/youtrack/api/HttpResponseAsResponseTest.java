@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.http.entity.InputStreamEntity;
+import org.junit.Test;
+import org.llorllale.youtrack.api.mock.http.response.MockOkResponse;
+
+/**
+ * Unit tests for {@link HttpResponseAsResponse}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ */
+public final class HttpResponseAsResponseTest {
+  /**
+   * Released responses have their contents consumed.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void released() throws Exception {
+    final AtomicBoolean consumed = new AtomicBoolean();
+    new HttpResponseAsResponse(
+      new MockOkResponse(new InputStreamEntity(this.contents(consumed)))
+    ).released();
+    assertThat(consumed.get(), is(true));
+  }
+
+  /**
+   * Responses are released once parsed.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void releasedOnceParsed() throws Exception {
+    final AtomicBoolean consumed = new AtomicBoolean();
+    new XmlOf(
+      new HttpResponseAsResponse(
+        new MockOkResponse(new InputStreamEntity(this.contents(consumed)))
+      )
+    );
+    assertThat(consumed.get(), is(true));
+  }
+
+  /**
+   * A payload that records whether it's been closed.
+   * @param closed set once the payload is closed
+   * @return the payload
+   */
+  private InputStream contents(AtomicBoolean closed) {
+    return new ByteArrayInputStream("<issue/>".getBytes(StandardCharsets.UTF_8)) {
+      @Override
+      public void close() {
+        closed.set(true);
+      }
+    };
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.http.client.utils.URLEncodedUtils;
+import org.junit.Test;
+import org.llorllale.youtrack.api.http.Headers;
+import org.llorllale.youtrack.api.http.Reply;
+import org.llorllale.youtrack.api.mock.MockLogin;
+import org.llorllale.youtrack.api.mock.MockProject;
+import org.llorllale.youtrack.api.mock.http.MockHttpClient;
+import org.llorllale.youtrack.api.mock.http.response.MockOkResponse;
+import org.llorllale.youtrack.api.query.Text;
+
+/**
+ * Unit tests for {@link IssueCount}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ */
+public final class IssueCountTest {
+  /**
+   * Returns the count received from the server.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void ready() throws Exception {
+    assertThat(
+      new IssueCount(
+        new MockProject(),
+        new MockLogin(),
+        () -> new MockHttpClient(new MockOkResponse("<int>42</int>")),
+        new Text("State: Open")
+      ).value(),
+      is(42L)
+    );
+  }
+
+  /**
+   * Polls the server while it responds with -1.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void pollsUntilReady() throws Exception {
+    final MockHttpClient client = new MockHttpClient(
+      new MockOkResponse("<int>7</int>"),
+      new MockOkResponse("<int>-1</int>")
+    );
+    assertThat(
+      new IssueCount(new MockProject(), new MockLogin(), () -> client, new Text("")).value(),
+      is(7L)
+    );
+  }
+
+  /**
+   * Queries with {@code or} in them are counted within the project only.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void orWithinProject() throws Exception {
+    final List<URI> requests = new ArrayList<>();
+    new IssueCount(
+      new MockProject(),
+      new MockLogin(),
+      () -> new TransportClient(
+        request -> {
+          requests.add(request.uri());
+          return new Reply(200, new Headers(), "<int>3</int>".getBytes(StandardCharsets.UTF_8));
+        }
+      ),
+      new Text("#Unresolved or #Bug")
+    ).value();
+    assertThat(
+      URLEncodedUtils.parse(requests.get(0), "UTF-8").get(0).getValue(),
+      is(String.format("project: %s (#Unresolved or #Bug)", new MockProject().id()))
+    );
+  }
+
+  /**
+   * A count that isn't ready is unknown, and is not waited for.
+   * @since 1.1.0
+   */
+  @Test
+  public void unknownWhileNotReady() {
+    assertThat(
+      new IssueCount(
+        new MockProject(),
+        new MockLogin(),
+        () -> new MockHttpClient(new MockOkResponse("<int>-1</int>")),
+        new Text("")
+      ).known().isPresent(),
+      is(false)
+    );
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (4 lines)
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.Test;
+import org.llorllale.youtrack.api.mock.MockLogin;
+import org.llorllale.youtrack.api.mock.MockProject;
+import org.llorllale.youtrack.api.mock.http.MockHttpClient;
+import org.llorllale.youtrack.api.mock.http.response.MockOkResponse;
+
+/**
+ * Unit tests for {@link IssuesById}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ */
+public final class IssuesByIdTest {
+  private static final String ISSUES = 
+    "<issues><issue id=\"TST-1\"/><issue id=\"TST-2\"/></issues>";
+
+  /**
+   * Every id is mapped, in the order given, to the issue the server returned for it.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void found() throws Exception {
+    final Map<String, Optional<Issue>> issues = new IssuesById(
+      this.issues(), Arrays.asList("TST-2", "TST-1")
+    ).value();
+    assertThat(issues.keySet(), contains("TST-2", "TST-1"));
+    assertThat(issues.get("TST-1").get().id(), is("TST-1"));
+    assertThat(issues.get("TST-2").get().id(), is("TST-2"));
+  }
+
+  /**
+   * Ids the server did not return are mapped to an empty optional.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void missing() throws Exception {
+    assertFalse(
+      new IssuesById(this.issues(), Arrays.asList("TST-1", "TST-9"))
+        .value()
+        .get("TST-9")
+        .isPresent()
+    );
+  }
+
+  /**
+   * Each id is searched for once.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void duplicates() throws Exception {
+    assertThat(
+      new IssuesById(this.issues(), Arrays.asList("TST-1", "TST-1", "TST-2"), 2)
+        .value()
+        .keySet(),
+      contains("TST-1", "TST-2")
+    );
+  }
+
+  /**
+   * Chunks of no ids are rejected, since they would never cover the ids.
+   * @since 1.1.0
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void emptyChunks() {
+    new IssuesById(this.issues(), Arrays.asList("TST-1"), 0);
+  }
+
+  /**
+   * Issues whose every search returns issues TST-1 and TST-2.
+   * @return the issues
+   */
+  private Issues issues() {
+    return new DefaultIssues(
+      new MockProject(),
+      new MockLogin(),
+      () -> new MockHttpClient(new MockOkResponse(ISSUES))
+    );
+  }
+}
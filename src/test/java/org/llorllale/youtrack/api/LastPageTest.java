@@ -0,0 +1,69 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.Test;
+import org.llorllale.youtrack.api.paging.Fixed;
+import org.llorllale.youtrack.api.paging.Metered;
+
+/**
+ * Unit tests for {@link LastPage}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class LastPageTest {
+  /**
+   * A short page is the last one.
+   * @since 1.1.0
+   */
+  @Test
+  public void shortPage() {
+    final AtomicBoolean ended = new AtomicBoolean();
+    new LastPage(10, new Fixed(), ended).fetched(9, 1L, Duration.ZERO);
+    assertThat(ended.get(), is(true));
+  }
+
+  /**
+   * A full page is not the last one.
+   * @since 1.1.0
+   */
+  @Test
+  public void fullPage() {
+    final AtomicBoolean ended = new AtomicBoolean();
+    new LastPage(10, new Fixed(), ended).fetched(10, 1L, Duration.ZERO);
+    assertThat(ended.get(), is(false));
+  }
+
+  /**
+   * Feedback is forwarded to the resource's paging.
+   * @since 1.1.0
+   */
+  @Test
+  public void forwards() {
+    final Metered paging = new Metered(new Fixed());
+    new LastPage(10, paging, new AtomicBoolean()).fetched(10, 100L, Duration.ZERO);
+    assertThat(paging.bytes(), is(100L));
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (4 lines)
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Leaks}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class LeaksTest {
+  /**
+   * Resources collected without having been released are reported, along with their call site.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void reportsLeak() throws Exception {
+    final List<Throwable> sites = new CopyOnWriteArrayList<>();
+    final Leaks leaks = new Leaks(true, sites::add);
+    leaks.track(new Object());
+    this.collect(leaks, sites);
+    assertThat(sites, hasSize(1));
+    assertThat(
+      Arrays.stream(sites.get(0).getStackTrace())
+        .anyMatch(frame -> "reportsLeak".equals(frame.getMethodName())),
+      is(true)
+    );
+  }
+
+  /**
+   * Released resources are not reported.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void released() throws Exception {
+    final List<Throwable> sites = new CopyOnWriteArrayList<>();
+    final Leaks leaks = new Leaks(true, sites::add);
+    leaks.track(new Object()).run();
+    this.collect(leaks, sites);
+    assertThat(sites, is(empty()));
+  }
+
+  /**
+   * Nothing is reported while disabled.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void disabled() throws Exception {
+    final List<Throwable> sites = new CopyOnWriteArrayList<>();
+    final Leaks leaks = new Leaks(false, sites::add);
+    leaks.track(new Object());
+    this.collect(leaks, sites);
+    assertThat(sites, is(empty()));
+  }
+
+  /**
+   * Runs the garbage collector until a leak is reported, or for a couple of seconds.
+   * @param leaks the detector
+   * @param sites the leaks reported so far
+   * @throws InterruptedException unexpected
+   */
+  private void collect(Leaks leaks, List<Throwable> sites) throws InterruptedException {
+    for (int attempt = 0; attempt < 20 && sites.isEmpty(); attempt++) {
+      System.gc();
+      Thread.sleep(100);
+      leaks.track(new Object()).run();
+    }
+  }
+}
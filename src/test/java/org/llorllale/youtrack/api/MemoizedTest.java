@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Memoized}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ */
+public final class MemoizedTest {
+  /**
+   * The origin is not asked until the value is needed.
+   * @since 1.1.0
+   */
+  @Test
+  public void lazy() {
+    final AtomicInteger calls = new AtomicInteger();
+    new Memoized<>(calls::incrementAndGet);
+    assertThat(calls.get(), is(0));
+  }
+
+  /**
+   * The origin is asked only once.
+   * @since 1.1.0
+   */
+  @Test
+  public void once() {
+    final AtomicInteger calls = new AtomicInteger();
+    final Memoized<Integer> memoized = new Memoized<>(calls::incrementAndGet);
+    memoized.get();
+    assertThat(memoized.get(), is(1));
+  }
+}
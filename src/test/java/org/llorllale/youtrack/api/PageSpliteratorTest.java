@@ -0,0 +1,156 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (6 lines)
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.StreamSupport;
+import org.junit.Test;
+import org.llorllale.youtrack.api.mock.http.MockHttpClient;
+import org.llorllale.youtrack.api.mock.http.response.MockOkResponse;
+import org.llorllale.youtrack.api.paging.Fixed;
+
+/**
+ * Unit tests for {@link PageSpliterator}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class PageSpliteratorTest {
+  /**
+   * A parallel stream reads every item of every page.
+   * @since 1.1.0
+   */
+  @Test
+  public void parallel() {
+    assertThat(
+      StreamSupport.stream(new PageSpliterator<>(this.pages(50)), true).collect(toList()),
+      hasSize(100)
+    );
+  }
+
+  /**
+   * Splits hand over whole pages, so that both halves together hold all items.
+   * @since 1.1.0
+   */
+  @Test
+  public void split() {
+    final Spliterator<String> first = new PageSpliterator<>(this.pages(3));
+    final Spliterator<String> second = first.trySplit();
+    assertThat(second, is(notNullValue()));
+    final AtomicInteger count = new AtomicInteger();
+    first.forEachRemaining(s -> count.incrementAndGet());
+    second.forEachRemaining(s -> count.incrementAndGet());
+    assertThat(count.get(), is(6));
+  }
+
+  /**
+   * No more splits once the end of the resource has been reached.
+   * @since 1.1.0
+   */
+  @Test
+  public void noSplitAfterEnd() {
+    final Spliterator<String> split = new PageSpliterator<>(this.pages(0));
+    while (split.trySplit() != null) {
+      split.estimateSize();
+    }
+    assertThat(split.trySplit(), is(nullValue()));
+    assertThat(split.tryAdvance(s -> { }), is(false));
+  }
+
+  /**
+   * Splits of a resource of known size are sized, and fetch nothing until they are read.
+   * @since 1.1.0
+   */
+  @Test
+  public void sizedSplits() {
+    final AtomicInteger fetched = new AtomicInteger();
+    final Spliterator<String> first = new PageSpliterator<>(
+      this.pages(5, fetched), () -> OptionalLong.of(10L)
+    );
+    assertThat(first.estimateSize(), is(10L));
+    final Spliterator<String> second = first.trySplit();
+    assertThat(fetched.get(), is(0));
+    assertThat(second.hasCharacteristics(Spliterator.SIZED), is(true));
+    assertThat(second.estimateSize() + first.estimateSize(), is(10L));
+    final AtomicInteger count = new AtomicInteger();
+    first.forEachRemaining(s -> count.incrementAndGet());
+    second.forEachRemaining(s -> count.incrementAndGet());
+    assertThat(count.get(), is(10));
+    assertThat(fetched.get(), is(5));
+  }
+
+  /**
+   * Never SIZED, since the total is unknown.
+   * @since 1.1.0
+   */
+  @Test
+  public void unsized() {
+    assertThat(
+      new PageSpliterator<>(this.pages(5)).hasCharacteristics(Spliterator.SIZED),
+      is(false)
+    );
+  }
+
+  /**
+   * Pages of two items each; all pages fetched after the first {@code count} pages are empty.
+   * @param count the number of non-empty pages
+   * @return the pages
+   */
+  private Pages<String> pages(int count) {
+    return this.pages(count, new AtomicInteger());
+  }
+
+  /**
+   * Pages of two items each; all pages fetched after the first {@code count} pages are empty.
+   * @param count the number of non-empty pages
+   * @param fetched counts the pages fetched
+   * @return the pages
+   */
+  private Pages<String> pages(int count, AtomicInteger fetched) {
+    return new Pages<>(
+      new Fixed(2),
+      (offset, size) -> null,
+      resp -> {
+        final int num = fetched.getAndIncrement();
+        final Iterator<String> page;
+        if (num < count) {
+          final List<String> items = Arrays.asList(num + "a", num + "b");
+          page = items.iterator();
+        } else {
+          page = Collections.<String>emptyIterator();
+        }
+        return page;
+      },
+      () -> new MockHttpClient(new MockOkResponse())
+    );
+  }
+}
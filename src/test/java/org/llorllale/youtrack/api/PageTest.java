@@ -16,24 +16,44 @@
 
 package org.llorllale.youtrack.api;
 
-// @checkstyle AvoidStaticImport (1 line)
+// @checkstyle AvoidStaticImport (4 lines)
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
 
 import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.NoSuchElementException;
+import org.apache.http.client.methods.HttpGet;
 import org.junit.Test;
+import org.llorllale.youtrack.api.http.Backoff;
+import org.llorllale.youtrack.api.http.Headers;
+import org.llorllale.youtrack.api.http.Reply;
+import org.llorllale.youtrack.api.http.Retrying;
 import org.llorllale.youtrack.api.mock.http.MockHttpClient;
 import org.llorllale.youtrack.api.mock.http.MockThrowingHttpClient;
 import org.llorllale.youtrack.api.mock.http.response.MockOkResponse;
+import org.llorllale.youtrack.api.paging.Fixed;
+import org.llorllale.youtrack.api.paging.Metered;
 
 /**
  * Unit tests for {@link Page}.
  * @author George Aristy (george.aristy@gmail.com)
  * @since 1.0.0
  * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ * @checkstyle ClassDataAbstractionCoupling (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
  */
 public final class PageTest {
+  private static final String PAYLOAD = "<issues><issue id=\"TP-1\"/></issues>";
+
   /**
    * Ctor must wrap IOExceptions in UncheckedIOException.
    * @since 1.0.0
@@ -42,8 +62,9 @@ public final class PageTest {
   public void ctorUncheckedExceptionThrow() {
     new Page<>(
       null,
-      r -> Collections.<String>emptyList(),
-      () -> new MockThrowingHttpClient()
+      r -> Collections.<String>emptyIterator(),
+      () -> new MockThrowingHttpClient(),
+      new Fixed()
     );
   }
 
@@ -55,11 +76,72 @@ public final class PageTest {
   public void nextNoSuchElementException() {
     new Page<>(
       null,
-      r -> Collections.<String>emptyList(),
-      () -> new MockHttpClient(new MockOkResponse())
+      r -> Collections.<String>emptyIterator(),
+      () -> new MockHttpClient(new MockOkResponse()),
+      new Fixed()
     ).next();
   }
 
+  /**
+   * The paging is informed of the number of bytes read from the page's payload.
+   * @since 1.1.0
+   */
+  @Test
+  public void countsBytesRead() {
+    final Metered paging = new Metered(new Fixed());
+    new Page<>(
+      null,
+      r -> new StreamedXmls("/issues/issue", r),
+      () -> new MockHttpClient(new MockOkResponse(PAYLOAD)),
+      paging
+    ).forEachRemaining(xml -> { });
+    assertThat(paging.bytes(), is((long) PAYLOAD.length()));
+  }
+
+  /**
+   * The time reported to the paging leaves out the time spent waiting on the client's side, here
+   * half a second between a failed attempt and its retry.
+   * @since 1.1.0
+   */
+  @Test
+  public void elapsedLeavesOutLocalWaits() {
+    final Deque<Reply> responses = new ArrayDeque<>(
+      Arrays.asList(
+        new Reply(500, new Headers(), new byte[0]),
+        new Reply(200, new Headers(), PAYLOAD.getBytes(StandardCharsets.UTF_8))
+      )
+    );
+    final Deque<Duration> elapsed = new ArrayDeque<>();
+    new Page<>(
+      new HttpGet("http://localhost/rest/issue/byproject/TP"),
+      r -> new StreamedXmls("/issues/issue", r),
+      () -> new TransportClient(
+        new Retrying(
+          request -> responses.poll(),
+          new Backoff(Duration.ofMillis(500), Duration.ofMillis(500), () -> 1.0),
+          Duration.ofMinutes(1)
+        )
+      ),
+      new Paging() {
+        @Override
+        public int size() {
+          return 1;
+        }
+
+        @Override
+        public void fetched(int items, long bytes, Duration time) {
+          elapsed.add(time);
+        }
+
+        @Override
+        public int prefetch() {
+          return 0;
+        }
+      }
+    ).forEachRemaining(xml -> { });
+    assertThat(elapsed.getFirst(), lessThan(Duration.ofMillis(500)));
+  }
+
   /**
    * Page.Empty.hasNext() should always return {@code false}.
    * @since 1.0.0
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (4 lines)
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.junit.Test;
+import org.llorllale.youtrack.api.http.Client;
+import org.llorllale.youtrack.api.http.Pool;
+import org.llorllale.youtrack.api.mock.http.MockHttpClient;
+import org.llorllale.youtrack.api.mock.http.response.MockOkResponse;
+import org.llorllale.youtrack.api.paging.Fixed;
+
+/**
+ * Unit tests for {@link PagedStream}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ */
+public final class PagedStreamTest {
+  /**
+   * A limit smaller than the page size is fetched with a single, right-sized request.
+   * @since 1.1.0
+   */
+  @Test
+  public void limitPushedDown() {
+    final List<Integer> sizes = new ArrayList<>();
+    assertThat(
+      new PagedStream<>(this.pages(sizes), new Fixed(10)).limit(3).collect(toList()),
+      contains(0, 1, 2)
+    );
+    assertThat(sizes, contains(3));
+  }
+
+  /**
+   * A limit larger than the page size shrinks the last page only.
+   * @since 1.1.0
+   */
+  @Test
+  public void limitAcrossPages() {
+    final List<Integer> sizes = new ArrayList<>();
+    new PagedStream<>(this.pages(sizes), new Fixed(10)).limit(25).forEach(i -> { });
+    assertThat(sizes, contains(10, 10, 5));
+  }
+
+  /**
+   * A limited stream builds its pages once: the unlimited ones are never built.
+   * @since 1.1.0
+   */
+  @Test
+  public void limitBuildsPagesOnce() {
+    final List<Paging> built = new ArrayList<>();
+    final Function<Paging, Pages<Integer>> pages = this.pages(new ArrayList<>());
+    new PagedStream<>(
+      paging -> {
+        built.add(paging);
+        return pages.apply(paging);
+      },
+      new Fixed(10)
+    ).limit(3).forEach(i -> { });
+    assertThat(built.size(), is(1));
+  }
+
+  /**
+   * Without a limit, full pages are requested.
+   * @since 1.1.0
+   */
+  @Test
+  public void noLimit() {
+    final List<Integer> sizes = new ArrayList<>();
+    new PagedStream<>(this.pages(sizes), new Fixed(10)).findFirst();
+    assertThat(sizes, contains(10));
+  }
+
+  /**
+   * Closing a stream that stopped midway through a page gives the page's connection back to the
+   * pool, so that a pool of a single connection serves one short-circuited stream after another.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test(timeout = 10000L)
+  public void releasesAbandonedPages() throws Exception {
+    final HttpServer server = this.server();
+    final String url = String.format(
+      "http://localhost:%d/items", server.getAddress().getPort()
+    );
+    try (CloseableHttpClient client = new Pool(new Client()).total(1).perRoute(1).get().build()) {
+      final Function<Paging, Pages<Integer>> pages = paging -> new Pages<>(
+        paging,
+        (offset, size) -> new HttpGet(url),
+        resp -> IntStream.range(0, 10).boxed().iterator(),
+        () -> client
+      );
+      for (int stream = 0; stream < 2; stream++) {
+        try (Stream<Integer> items = new PagedStream<>(pages, new Fixed(10))) {
+          assertThat(items.findFirst(), is(Optional.of(0)));
+        }
+      }
+    } finally {
+      server.stop(0);
+    }
+  }
+
+  /**
+   * Starts a server that answers every request at {@code /items} with a few bytes.
+   * @return the server
+   * @throws IOException unexpected
+   */
+  private HttpServer server() throws IOException {
+    final HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext(
+      "/items",
+      exchange -> {
+        final byte[] body = "0123456789".getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+          out.write(body);
+        }
+        exchange.close();
+      }
+    );
+    server.start();
+    return server;
+  }
+
+  /**
+   * Pages that always hold as many items as requested, numbered from the page's offset.
+   * @param sizes where to record the size of each page requested
+   * @return the pages
+   */
+  private Function<Paging, Pages<Integer>> pages(List<Integer> sizes) {
+    final List<Integer> offsets = Collections.synchronizedList(new ArrayList<>());
+    return paging -> new Pages<>(
+      paging,
+      (offset, size) -> {
+        sizes.add(size);
+        offsets.add(offset);
+        return null;
+      },
+      resp -> {
+        final int idx = sizes.size() - 1;
+        return IntStream.range(offsets.get(idx), offsets.get(idx) + sizes.get(idx))
+          .boxed()
+          .collect(Collectors.toList())
+          .iterator();
+      },
+      () -> new MockHttpClient(new MockOkResponse())
+    );
+  }
+}
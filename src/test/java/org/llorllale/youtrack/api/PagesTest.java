@@ -0,0 +1,266 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (5 lines)
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.http.HttpEntity;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.junit.Test;
+import org.llorllale.youtrack.api.mock.http.MockHttpClient;
+import org.llorllale.youtrack.api.mock.http.MockThrowingHttpClient;
+import org.llorllale.youtrack.api.mock.http.MockTruncatingServer;
+import org.llorllale.youtrack.api.mock.http.response.MockOkResponse;
+import org.llorllale.youtrack.api.paging.Fixed;
+import org.llorllale.youtrack.api.paging.Prefetched;
+
+/**
+ * Unit tests for {@link Pages}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MultipleStringLiterals (500 lines)
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class PagesTest {
+  /**
+   * Each page is requested at the offset reached by the previous pages, with the size decided
+   * by the paging.
+   * @since 1.1.0
+   */
+  @Test
+  public void offsetsAndSizes() {
+    final List<String> requests = new ArrayList<>();
+    final Deque<Iterator<String>> contents = new ArrayDeque<>(
+      Arrays.asList(
+        Arrays.asList("a", "b", "c").iterator(),
+        Arrays.asList("d", "e", "f").iterator(),
+        Collections.<String>emptyIterator()
+      )
+    );
+    new Pages<>(
+      new Fixed(3),
+      (offset, size) -> {
+        requests.add(offset + "+" + size);
+        return null;
+      },
+      resp -> contents.pop(),
+      () -> new MockHttpClient(new MockOkResponse())
+    ).forEachRemaining(s -> { });
+    assertThat(requests, contains("0+3", "3+3", "6+3"));
+  }
+
+  /**
+   * The paging is informed of the number of items read from each non-empty page, and is 
+   * consulted for the size of each page.
+   * @since 1.1.0
+   */
+  @Test
+  public void feedback() {
+    final List<String> requests = new ArrayList<>();
+    final List<Integer> items = new ArrayList<>();
+    final Deque<Iterator<String>> contents = new ArrayDeque<>(
+      Arrays.asList(
+        Arrays.asList("a", "b").iterator(),
+        Arrays.asList("c", "d", "e").iterator(),
+        Collections.<String>emptyIterator()
+      )
+    );
+    new Pages<>(
+      new Paging() {
+        private int next = 2;
+
+        @Override
+        public int size() {
+          return this.next;
+        }
+
+        @Override
+        public void fetched(int count, long bytes, Duration elapsed) {
+          items.add(count);
+          this.next = count + 1;
+        }
+
+        @Override
+        public int prefetch() {
+          return 0;
+        }
+      },
+      (offset, size) -> {
+        requests.add(offset + "+" + size);
+        return null;
+      },
+      resp -> contents.pop(),
+      () -> new MockHttpClient(new MockOkResponse())
+    ).forEachRemaining(s -> { });
+    assertThat(items, contains(2, 3));
+    assertThat(requests, contains("0+2", "2+3", "5+4"));
+  }
+
+  /**
+   * With prefetching, the following pages are requested before the current page is read.
+   * @since 1.1.0
+   */
+  @Test
+  public void prefetch() {
+    final List<String> requests = Collections.synchronizedList(new ArrayList<>());
+    final Iterator<String> pages = new Pages<>(
+      new Prefetched(2, new Fixed(1)),
+      (offset, size) -> {
+        requests.add(offset + "+" + size);
+        return null;
+      },
+      resp -> Arrays.asList("a").iterator(),
+      () -> new MockHttpClient(new MockOkResponse())
+    );
+    pages.hasNext();
+    assertThat(requests, contains("0+1", "1+1", "2+1"));
+    pages.next();
+    pages.hasNext();
+    assertThat(requests, hasSize(4));
+  }
+
+  /**
+   * Failures to fetch prefetched pages are reported when the page is reached.
+   * @since 1.1.0
+   */
+  @Test(expected = UncheckedIOException.class)
+  public void prefetchFailure() {
+    new Pages<>(
+      new Prefetched(),
+      (offset, size) -> null,
+      resp -> Collections.<String>emptyIterator(),
+      () -> new MockThrowingHttpClient()
+    ).hasNext();
+  }
+
+  /**
+   * Closing releases the page being read as well as the pages prefetched after it.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void closeReleasesPrefetched() throws Exception {
+    final CountDownLatch released = new CountDownLatch(3);
+    try (Pages<String> pages = this.unread(released)) {
+      pages.next();
+    }
+    assertThat(released.await(5, TimeUnit.SECONDS), is(true));
+  }
+
+  /**
+   * The pages of iterators dropped without being closed are released once the iterator has been
+   * garbage-collected.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void releasesDropped() throws Exception {
+    final CountDownLatch released = new CountDownLatch(3);
+    this.unread(released).next();
+    for (int attempt = 0; attempt < 20 && released.getCount() > 0; attempt++) {
+      System.gc();
+      Thread.sleep(100);
+      this.unread(new CountDownLatch(0)).close();
+    }
+    assertThat(released.await(5, TimeUnit.SECONDS), is(true));
+  }
+
+  /**
+   * A page whose body is cut short (the server closes the connection once half of it has been
+   * sent) is requested again at the same offset, and the stream resumes after the last item 
+   * returned.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test(timeout = 10000L)
+  public void resumesBrokenPage() throws Exception {
+    final byte[] body = IntStream.range(0, 100)
+      .mapToObj(idx -> String.format("<item>%d</item>", idx))
+      .collect(Collectors.joining("", "<items>", "</items>"))
+      .getBytes(StandardCharsets.UTF_8);
+    final List<String> items = new ArrayList<>();
+    try (
+      MockTruncatingServer server = new MockTruncatingServer(body);
+      CloseableHttpClient client = HttpClients.createDefault()
+    ) {
+      new Pages<>(
+        new Fixed(1000),
+        (offset, size) -> new HttpGet(server.url("/items")),
+        resp -> new StreamedXmls("/items/item", resp),
+        () -> client
+      ).forEachRemaining(xml -> items.add(xml.textOf("/item").get()));
+      assertThat(server.requests(), is(2));
+    }
+    assertThat(
+      items,
+      is(IntStream.range(0, 100).mapToObj(String::valueOf).collect(Collectors.toList()))
+    );
+  }
+
+  /**
+   * Pages of one item each, two of them prefetched, whose contents are never read.
+   * @param released counted down as each page's contents are released
+   * @return the pages
+   */
+  private Pages<String> unread(CountDownLatch released) {
+    return new Pages<>(
+      new Prefetched(2, new Fixed(1)),
+      (offset, size) -> null,
+      resp -> Arrays.asList("a").iterator(),
+      () -> new MockHttpClient(new MockOkResponse(this.entity(released)))
+    );
+  }
+
+  /**
+   * Contents that count down {@code released} when they are released.
+   * @param released the latch
+   * @return the contents
+   */
+  private HttpEntity entity(CountDownLatch released) {
+    return new InputStreamEntity(
+      new ByteArrayInputStream(new byte[] {1, 2, 3}) {
+        @Override
+        public void close() {
+          released.countDown();
+        }
+      }
+    );
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+
+/**
+ * Measures the per-response overhead of parsing typical payloads with a new parser each time 
+ * versus with the parsers reused by {@link StringAsDocument} (see {@link PooledDocumentBuilder}).
+ * 
+ * <p>Run with {@code mvn test-compile -Pbenchmarks} (or {@code mvn test -Pbenchmarks}).</p>
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MagicNumber (500 lines)
+ * @checkstyle IllegalThrows (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+// @checkstyle Regexp (1 line)
+public class ParsingBenchmark {
+  private static final String ISSUE
+    = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
+    + "<issue id=\"TST-1\">\n"
+    + "  <field name=\"attachments\">\n"
+    // @checkstyle LineLength (2 lines)
+    + "    <value url=\"/_persistent/user.properties?file=45-83&amp;v=0&amp;c=true\">user.properties</value>\n"
+    + "    <value url=\"/_persistent/foo1.properties?file=45-84&amp;v=0&amp;c=true\">foo1.properties</value>\n"
+    + "  </field>\n"
+    + "  <field name=\"Priority\"><value valueId=\"Show-stopper\">Show-stopper</value></field>\n"
+    + "  <field name=\"Type\"><value valueId=\"Feature\">Feature</value></field>\n"
+    + "  <field name=\"State\"><value valueId=\"Reopened\">Reopened</value></field>\n"
+    + "  <field name=\"Assignee\"><value fullName=\"Beto\">beto</value></field>\n"
+    + "  <field name=\"Subsystem\"><value valueId=\"UI\">UI</value></field>\n"
+    + "  <field name=\"Fix versions\"><value valueId=\"2.0.1\">2.0.1</value></field>\n"
+    + "  <field name=\"projectShortName\"><value>TST</value></field>\n"
+    + "  <field name=\"numberInProject\"><value>1</value></field>\n"
+    + "  <field name=\"summary\"><value>new issue</value></field>\n"
+    + "  <field name=\"description\"><value>description of new issue</value></field>\n"
+    + "  <field name=\"created\"><value>1320664502969</value></field>\n"
+    + "  <field name=\"updated\"><value>1320664503229</value></field>\n"
+    + "  <field name=\"updaterName\"><value>app_exception</value></field>\n"
+    + "  <field name=\"reporterName\"><value>app_exception</value></field>\n"
+    + "  <field name=\"commentsCount\"><value>0</value></field>\n"
+    + "  <field name=\"votes\"><value>0</value></field>\n"
+    + "</issue>";
+
+  private static final String USER =
+    "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
+    // @checkstyle LineLength (1 line)
+    + "<user lastCreatedProject=\"HBR\" login=\"exception\" email=\"vadim.gurov@gmail.com\" fullName=\"Application Exception\"/>";
+
+  /**
+   * Parses an issue with a new parser.
+   * @return the parsed document
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Benchmark
+  public Document issueFresh() throws Exception {
+    return DocumentBuilderFactory.newInstance()
+      .newDocumentBuilder()
+      .parse(new InputSource(new StringReader(ISSUE)));
+  }
+
+  /**
+   * Parses an issue with the pooled parser.
+   * @return the parsed document
+   * @since 1.1.0
+   */
+  @Benchmark
+  public Document issuePooled() {
+    return new StringAsDocument(ISSUE);
+  }
+
+  /**
+   * Parses a user with a new parser.
+   * @return the parsed document
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Benchmark
+  public Document userFresh() throws Exception {
+    return DocumentBuilderFactory.newInstance()
+      .newDocumentBuilder()
+      .parse(new InputSource(new StringReader(USER)));
+  }
+
+  /**
+   * Parses a user with the pooled parser.
+   * @return the parsed document
+   * @since 1.1.0
+   */
+  @Benchmark
+  public Document userPooled() {
+    return new StringAsDocument(USER);
+  }
+}
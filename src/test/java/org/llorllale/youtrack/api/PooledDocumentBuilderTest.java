@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (4 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.io.StringReader;
+import java.util.concurrent.CompletableFuture;
+import javax.xml.parsers.DocumentBuilder;
+import org.junit.Test;
+import org.xml.sax.InputSource;
+
+/**
+ * Unit tests for {@link PooledDocumentBuilder}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (200 lines)
+ */
+public final class PooledDocumentBuilderTest {
+  /**
+   * The same parser is reused by the same thread.
+   * @since 1.1.0
+   */
+  @Test
+  public void reusedByThread() {
+    assertThat(
+      new PooledDocumentBuilder().get(),
+      is(sameInstance(new PooledDocumentBuilder().get()))
+    );
+  }
+
+  /**
+   * Threads do not share parsers.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void notSharedAcrossThreads() throws Exception {
+    final DocumentBuilder other = CompletableFuture.supplyAsync(
+      () -> new PooledDocumentBuilder().get()
+    ).get();
+    assertThat(new PooledDocumentBuilder().get(), is(not(sameInstance(other))));
+  }
+
+  /**
+   * The parser can be used repeatedly.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void parsesRepeatedly() throws Exception {
+    new PooledDocumentBuilder().get().parse(new InputSource(new StringReader("<a/>")));
+    assertThat(
+      new PooledDocumentBuilder().get()
+        .parse(new InputSource(new StringReader("<b/>")))
+        .getDocumentElement()
+        .getTagName(),
+      is("b")
+    );
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (4 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import javax.xml.transform.Transformer;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link PooledTransformer}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (200 lines)
+ */
+public final class PooledTransformerTest {
+  /**
+   * The same transformer is reused by the same thread.
+   * @since 1.1.0
+   */
+  @Test
+  public void reusedByThread() {
+    assertThat(
+      new PooledTransformer().get(),
+      is(sameInstance(new PooledTransformer().get()))
+    );
+  }
+
+  /**
+   * Threads do not share transformers.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void notSharedAcrossThreads() throws Exception {
+    final Transformer other = CompletableFuture.supplyAsync(
+      () -> new PooledTransformer().get()
+    ).get();
+    assertThat(new PooledTransformer().get(), is(not(sameInstance(other))));
+  }
+}
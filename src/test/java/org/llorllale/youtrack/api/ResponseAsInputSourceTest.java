@@ -0,0 +1,142 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (3 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.junit.Test;
+import org.llorllale.youtrack.api.mock.http.response.MockOkResponse;
+
+/**
+ * Unit tests for {@link ResponseAsInputSource}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MultipleStringLiterals (500 lines)
+ * @checkstyle MethodName (500 lines)
+ */
+public final class ResponseAsInputSourceTest {
+  /**
+   * The encoding is taken from the response's Content-Type.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void encodingFromContentType() throws Exception {
+    assertThat(
+      new ResponseAsInputSource().apply(
+        new HttpResponseAsResponse(
+          new MockOkResponse(
+            new StringEntity("<issue/>", ContentType.create("application/xml", "UTF-16"))
+          )
+        )
+      ).getEncoding(),
+      is("UTF-16")
+    );
+  }
+
+  /**
+   * No encoding is set if the response does not declare one, leaving the parser to detect it.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void noEncodingWithoutCharset() throws Exception {
+    assertThat(
+      new ResponseAsInputSource().apply(
+        new HttpResponseAsResponse(
+          new MockOkResponse(new ByteArrayEntity("<issue/>".getBytes(StandardCharsets.UTF_8)))
+        )
+      ).getEncoding(),
+      is(nullValue())
+    );
+  }
+
+  /**
+   * Payloads are decoded with the charset declared by the response, not the platform's.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void decodesWithDeclaredCharset() throws Exception {
+    assertThat(
+      new XmlOf(
+        new HttpResponseAsResponse(
+          new MockOkResponse(
+            new StringEntity(
+              "<issue><summary>café über</summary></issue>",
+              ContentType.create("application/xml", StandardCharsets.ISO_8859_1)
+            )
+          )
+        )
+      ).textOf("summary"),
+      is(Optional.of("café über"))
+    );
+  }
+
+  /**
+   * Payloads without a declared charset are decoded according to their xml declaration.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void decodesWithXmlDeclaration() throws Exception {
+    assertThat(
+      new StreamedXmls(
+        "/issues/issue",
+        new HttpResponseAsResponse(
+          new MockOkResponse(
+            new ByteArrayEntity(
+              "<?xml version=\"1.0\" encoding=\"UTF-8\"?><issues><issue>été</issue></issues>"
+                .getBytes(StandardCharsets.UTF_8)
+            )
+          )
+        )
+      ).next().textOf("/issue"),
+      is(Optional.of("été"))
+    );
+  }
+
+  /**
+   * Whitespace before the xml declaration is skipped, as it would be rejected by the parser.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void skipsLeadingWhitespace() throws Exception {
+    assertThat(
+      new XmlOf(
+        new HttpResponseAsResponse(
+          new MockOkResponse(
+            new ByteArrayEntity(
+              "\n  <?xml version=\"1.0\"?><issue><summary>s</summary></issue>"
+                .getBytes(StandardCharsets.UTF_8)
+            )
+          )
+        )
+      ).textOf("summary"),
+      is(Optional.of("s"))
+    );
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.junit.Test;
+import org.llorllale.youtrack.api.mock.http.response.MockOkResponse;
+
+/**
+ * Unit tests for {@link ResponseContents}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ */
+public final class ResponseContentsTest {
+  /**
+   * Closing the contents releases the response.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void releasesResponse() throws Exception {
+    final AtomicBoolean released = new AtomicBoolean();
+    final InputStream contents = new ResponseContents(
+      new Response() {
+        @Override
+        public CloseableHttpResponse httpResponse() {
+          return new MockOkResponse("<issue/>");
+        }
+
+        @Override
+        public void close() throws IOException {
+          released.set(true);
+        }
+      }
+    );
+    assertThat(released.get(), is(false));
+    contents.close();
+    assertThat(released.get(), is(true));
+  }
+}
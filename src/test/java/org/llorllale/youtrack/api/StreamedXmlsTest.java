@@ -0,0 +1,101 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (3 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.junit.Test;
+import org.llorllale.youtrack.api.mock.http.response.MockOkResponse;
+
+/**
+ * Unit tests for {@link StreamedXmls}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MultipleStringLiterals (500 lines)
+ * @checkstyle MethodName (500 lines)
+ */
+public final class StreamedXmlsTest {
+  private static final String XML_ISSUES
+    = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
+    + "<issues>\n"
+    + "  <issue id=\"TST-1\">\n"
+    + "    <field name=\"summary\">\n"
+    + "      <value>first issue</value>\n"
+    + "    </field>\n"
+    + "    <issue id=\"nested\"/>\n"
+    + "  </issue>\n"
+    + "  <other>\n"
+    + "    <issue id=\"TST-X\"/>\n"
+    + "  </other>\n"
+    + "  <issue id=\"TST-2\"><field name=\"summary\"><value>second issue</value></field></issue>"
+    + "<issue id=\"TST-3\"/>\n"
+    + "</issues>";
+
+  /**
+   * Iterates over the elements found at the given path only.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void iteratesOverPath() throws Exception {
+    final Iterator<Xml> xmls = new StreamedXmls(
+      "/issues/issue",
+      new HttpResponseAsResponse(new MockOkResponse(XML_ISSUES))
+    );
+    assertThat(xmls.next().textOf("@id").get(), is("TST-1"));
+    assertThat(xmls.next().textOf("@id").get(), is("TST-2"));
+    assertThat(xmls.next().textOf("@id").get(), is("TST-3"));
+    assertFalse(xmls.hasNext());
+  }
+
+  /**
+   * Each element is decoded into its own document, so absolute expressions only see the 
+   * element's own contents.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void elementsAreIsolated() throws Exception {
+    final Iterator<Xml> xmls = new StreamedXmls(
+      "/issues/issue",
+      new HttpResponseAsResponse(new MockOkResponse(XML_ISSUES))
+    );
+    xmls.next();
+    assertThat(
+      xmls.next().textOf("//field[@name = 'summary']/value").get(),
+      is("second issue")
+    );
+  }
+
+  /**
+   * next() must throw NoSuchElementException once the document is exhausted.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test(expected = NoSuchElementException.class)
+  public void nextNoSuchElementException() throws Exception {
+    new StreamedXmls(
+      "/issues/issue",
+      new HttpResponseAsResponse(new MockOkResponse("<issues/>"))
+    ).next();
+  }
+}
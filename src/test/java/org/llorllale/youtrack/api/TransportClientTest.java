@@ -0,0 +1,117 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.util.EntityUtils;
+import org.junit.Test;
+import org.llorllale.youtrack.api.http.Headers;
+import org.llorllale.youtrack.api.http.Reply;
+import org.llorllale.youtrack.api.http.Request;
+import org.llorllale.youtrack.api.mock.MockLogin;
+import org.llorllale.youtrack.api.paging.Fixed;
+
+/**
+ * Unit tests for {@link TransportClient}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ */
+public final class TransportClientTest {
+  /**
+   * Requests are handed over to the transport with their method and URI.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void delegates() throws Exception {
+    final AtomicReference<Request> received = new AtomicReference<>();
+    new TransportClient(
+      req -> {
+        received.set(req);
+        return new Reply(200, new Headers(), new byte[0]);
+      }
+    ).execute(new HttpGet("http://localhost/rest/issue/TP-1"));
+    assertThat(received.get().method(), is("GET"));
+    assertThat(received.get().uri(), is(URI.create("http://localhost/rest/issue/TP-1")));
+  }
+
+  /**
+   * Replies come back as responses with their status, headers and body.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void replies() throws Exception {
+    assertThat(
+      EntityUtils.toString(
+        new TransportClient(
+          req -> new Reply(
+            200,
+            new Headers().with("Content-Type", "text/plain"),
+            "body".getBytes(StandardCharsets.UTF_8)
+          )
+        ).execute(new HttpGet("http://localhost/rest/issue/TP-1")).getEntity()
+      ),
+      is("body")
+    );
+  }
+
+  /**
+   * The legacy accessors give neutral defaults rather than failing.
+   * @since 1.1.0
+   */
+  @Test
+  @SuppressWarnings("deprecation")
+  public void legacyAccessors() {
+    final TransportClient client = new TransportClient(
+      req -> new Reply(200, new Headers(), new byte[0])
+    );
+    assertThat(client.getParams() != null, is(true));
+    assertThat(client.getConnectionManager() != null, is(true));
+  }
+
+  /**
+   * The API runs on whatever transport is given.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void youtrackOnTransport() throws Exception {
+    assertThat(
+      new DefaultYouTrack(
+        new MockLogin(),
+        req -> new Reply(
+          200,
+          new Headers(),
+          "<projects><project shortName=\"TP\"/></projects>".getBytes(StandardCharsets.UTF_8)
+        ),
+        new Fixed()
+      ).projects().stream().count(),
+      is(1L)
+    );
+  }
+}
@@ -21,6 +21,8 @@ import static org.junit.Assert.assertThat;
 
 import java.io.ByteArrayInputStream;
 import java.util.UUID;
+import org.cactoos.io.InputOf;
+import org.cactoos.text.TextOf;
 import org.hamcrest.core.IsEqual;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -92,13 +94,15 @@ public final class XmlAttachmentIT {
     final String name = UUID.randomUUID().toString();
     final String contents = UUID.randomUUID().toString();
     assertThat(
-      new InputStreamAsString().apply(
-        issue.attachments().create(
-          name, "text/plain", new ByteArrayInputStream(contents.getBytes())
-        ).filter(att -> name.equals(att.name()))
-          .findAny().get()
-          .contents()
-        ),
+      new TextOf(
+        new InputOf(
+          issue.attachments().create(
+            name, "text/plain", new ByteArrayInputStream(contents.getBytes())
+          ).filter(att -> name.equals(att.name()))
+            .findAny().get()
+            .contents()
+        )
+      ).asString(),
       new IsEqual<>(contents)
     );
   }
@@ -19,6 +19,8 @@ package org.llorllale.youtrack.api;
 // @checkstyle AvoidStaticImport (1 line)
 import static org.junit.Assert.assertThat;
 
+import org.cactoos.io.InputOf;
+import org.cactoos.text.TextOf;
 import org.hamcrest.core.IsEqual;
 import org.junit.Test;
 import org.llorllale.youtrack.api.mock.MockIssue;
@@ -82,17 +84,19 @@ public final class XmlAttachmentTest {
   public void returnsContents() throws Exception {
     final String contents = "test content";
     assertThat(
-      new InputStreamAsString().apply(
-        new XmlAttachment(
-          new XmlOf(
-            // @checkstyle LineLength (1 line)
-            "<fileUrl authorLogin=\"jrogan\" url=\"/_persistent/uploadFile.html?file=45-46&amp;v=0&amp;c=false\" name=\"uploadFile.html\"/>"
-          ),
-          new MockIssue(new MockProject()),
-          new MockLogin(),
-          () -> new MockHttpClient(new MockOkResponse(contents))
-        ).contents()
-      ),
+      new TextOf(
+        new InputOf(
+          new XmlAttachment(
+            new XmlOf(
+              // @checkstyle LineLength (1 line)
+              "<fileUrl authorLogin=\"jrogan\" url=\"/_persistent/uploadFile.html?file=45-46&amp;v=0&amp;c=false\" name=\"uploadFile.html\"/>"
+            ),
+            new MockIssue(new MockProject()),
+            new MockLogin(),
+            () -> new MockHttpClient(new MockOkResponse(contents))
+          ).contents()
+        )
+      ).asString(),
       new IsEqual<>(contents)
     );
   }
@@ -126,7 +126,7 @@ public final class XmlIssueTest {
 
   /**
    * Correctly counts the issue's fields. The fields to be included are the ones with the
-   * 'valueId' child element.
+   * 'valueId' child element, even if they have no 'value'.
    */
   @Test
   public void testFields() {
@@ -155,12 +155,15 @@ public final class XmlIssueTest {
             + "      <value>Open</value>\n"
             + "      <valueId>Open</valueId>\n"
             + "    </field>"
+            + "    <field name=\"Assignee\">\n"
+            + "      <valueId>jdoe</valueId>\n"
+            + "    </field>"
             + "</issue>"
         )),
         null
       ).fields().size(),
       // @checkstyle MagicNumber (1 line)
-      is(3)
+      is(4)
     );
   }
 
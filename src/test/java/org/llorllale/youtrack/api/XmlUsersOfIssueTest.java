@@ -161,7 +161,7 @@ public final class XmlUsersOfIssueTest {
   public void testIssue() {
     final Issue issue = new MockIssue(new MockProject());
     assertThat(
-      new XmlUsersOfIssue(issue, null).issue(),
+      new XmlUsersOfIssue(issue, (FieldIndex) null).issue(),
       is(issue)
     );
   }
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+// @checkstyle AvoidStaticImport (3 lines)
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link AdaptiveLimit}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ */
+public final class AdaptiveLimitTest {
+  private static final Request GET = new Request(
+    "GET", URI.create("http://localhost/issue/TST-1")
+  );
+
+  /**
+   * The limit starts halfway between min and max.
+   * @since 1.1.0
+   */
+  @Test
+  public void initial() {
+    assertThat(
+      new AdaptiveLimit(request -> this.reply(200), 2, 20, Duration.ofSeconds(1)).limit(),
+      is(11)
+    );
+  }
+
+  /**
+   * The limit grows while saturated, up to max.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void increases() throws Exception {
+    final AdaptiveLimit limit = new AdaptiveLimit(
+      request -> this.reply(200), 1, 2, Duration.ofMinutes(1)
+    );
+    limit.execute(GET).close();
+    limit.execute(GET).close();
+    assertThat(limit.limit(), is(2));
+  }
+
+  /**
+   * Server errors cut the limit, down to min.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void decreasesOnErrors() throws Exception {
+    final AdaptiveLimit limit = new AdaptiveLimit(
+      request -> this.reply(500), 4, 20, Duration.ofMinutes(1)
+    );
+    for (int i = 0; i < 50; i += 1) {
+      limit.execute(GET).close();
+    }
+    assertThat(limit.limit(), is(4));
+  }
+
+  /**
+   * Failed requests cut the limit.
+   * @throws Exception expected
+   * @since 1.1.0
+   */
+  @Test(expected = IOException.class)
+  public void decreasesOnFailures() throws Exception {
+    final AdaptiveLimit limit = new AdaptiveLimit(
+      request -> {
+        throw new IOException("reset");
+      },
+      1, 20, Duration.ofMinutes(1)
+    );
+    try {
+      limit.execute(GET);
+    } finally {
+      assertThat(limit.limit(), is(9));
+      assertThat(limit.inFlight(), is(0));
+    }
+  }
+
+  /**
+   * Slow responses cut the limit.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void decreasesOnSlowResponses() throws Exception {
+    final AdaptiveLimit limit = new AdaptiveLimit(
+      request -> this.reply(200), 1, 20, Duration.ZERO
+    );
+    limit.execute(GET).close();
+    assertThat(limit.limit(), is(9));
+  }
+
+  /**
+   * Requests in flight never exceed the limit.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void caps() throws Exception {
+    final AtomicInteger flying = new AtomicInteger();
+    final AtomicInteger peak = new AtomicInteger();
+    final AdaptiveLimit limit = new AdaptiveLimit(
+      request -> {
+        peak.accumulateAndGet(flying.incrementAndGet(), Math::max);
+        LockSupport.parkNanos(10_000_000L);
+        flying.decrementAndGet();
+        return this.reply(200);
+      },
+      2, 2, Duration.ofMinutes(1)
+    );
+    final List<CompletableFuture<Void>> requests = new ArrayList<>();
+    for (int i = 0; i < 10; i += 1) {
+      requests.add(CompletableFuture.runAsync(() -> this.get(limit)));
+    }
+    CompletableFuture.allOf(requests.toArray(new CompletableFuture<?>[0])).get();
+    assertThat(peak.get(), lessThanOrEqualTo(2));
+  }
+
+  /**
+   * A request stays in flight until its response is closed, since its connection is leased 
+   * until then.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void inFlightUntilClosed() throws Exception {
+    final AdaptiveLimit limit = new AdaptiveLimit(
+      request -> this.reply(200), 1, 1, Duration.ofMinutes(1)
+    );
+    final Reply response = limit.execute(GET);
+    assertThat(limit.inFlight(), is(1));
+    response.close();
+    assertThat(limit.inFlight(), is(0));
+    response.close();
+    assertThat(limit.inFlight(), is(0));
+  }
+
+  /**
+   * A lowest limit of zero is rejected, since no request could ever be sent at that limit.
+   * @since 1.1.0
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsZeroMin() {
+    new AdaptiveLimit(request -> this.reply(200), 0, 2, Duration.ofMinutes(1));
+  }
+
+  /**
+   * A lowest limit above the highest one is rejected.
+   * @since 1.1.0
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsMinAboveMax() {
+    new AdaptiveLimit(request -> this.reply(200), 3, 2, Duration.ofMinutes(1));
+  }
+
+  /**
+   * Sends a GET through the transport.
+   * @param transport the transport
+   */
+  private void get(Transport transport) {
+    try {
+      transport.execute(GET).close();
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * A reply with the given status and no body.
+   * @param status the status
+   * @return the reply
+   */
+  private Reply reply(int status) {
+    return new Reply(status, new Headers(), new byte[0]);
+  }
+}
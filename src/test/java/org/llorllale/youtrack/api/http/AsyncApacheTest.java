@@ -0,0 +1,236 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+// @checkstyle AvoidStaticImport (3 lines)
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.util.EntityUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link AsyncApache}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ */
+public final class AsyncApacheTest {
+  private HttpServer server;
+  private CountDownLatch release;
+  private AsyncApache transport;
+
+  /**
+   * Starts a server that echoes each request's method, path and body, once released.
+   * @throws IOException unexpected
+   */
+  @Before
+  public void start() throws IOException {
+    this.release = new CountDownLatch(0);
+    this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    this.server.createContext(
+      "/",
+      exchange -> {
+        try {
+          this.release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        final byte[] body = String.format(
+          "%s %s %s",
+          exchange.getRequestMethod(),
+          exchange.getRequestURI().getPath(),
+          read(exchange.getRequestBody())
+        ).trim().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("X-Echo", "yes");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+          out.write(body);
+        }
+        exchange.close();
+      }
+    );
+    this.server.start();
+    this.transport = new AsyncApache();
+  }
+
+  /**
+   * Stops the server and the transport.
+   * @throws IOException unexpected
+   */
+  @After
+  public void stop() throws IOException {
+    this.transport.close();
+    this.server.stop(0);
+  }
+
+  /**
+   * Replies carry the response's status, headers and body.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void replies() throws Exception {
+    try (Reply reply = this.transport.execute(this.request("GET", "/issue")).join()) {
+      assertThat(reply.status(), is(200));
+      assertThat(reply.headers().first("X-Echo"), is(Optional.of("yes")));
+      assertThat(this.text(reply), is("GET /issue"));
+    }
+  }
+
+  /**
+   * Request bodies are sent.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void sendsBody() throws Exception {
+    final Request request = new Request(
+      "POST",
+      this.uri("/issue/TP-1/execute"),
+      new Headers(),
+      Optional.of(new Text("comment=hello"))
+    );
+    try (Reply reply = this.transport.execute(request).join()) {
+      assertThat(this.text(reply), is("POST /issue/TP-1/execute comment=hello"));
+    }
+  }
+
+  /**
+   * The calling thread doesn't wait for the server: the request is still in flight when the 
+   * call returns.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test(timeout = 10_000L)
+  public void doesNotBlock() throws Exception {
+    this.release = new CountDownLatch(1);
+    final CompletableFuture<Reply> reply = this.transport.execute(this.request("GET", "/user"));
+    assertThat(reply.isDone(), is(false));
+    this.release.countDown();
+    try (Reply done = reply.join()) {
+      assertThat(done.status(), is(200));
+    }
+  }
+
+  /**
+   * Requests to an unavailable server fail with an {@link IOException}.
+   * @since 1.1.0
+   */
+  @Test
+  public void unavailable() {
+    final Request request = this.request("GET", "/issue");
+    this.server.stop(0);
+    assertThat(
+      this.transport.execute(request).handle((reply, error) -> error).join(),
+      instanceOf(IOException.class)
+    );
+  }
+
+  /**
+   * A request to the server.
+   * @param method the method
+   * @param path the path
+   * @return the request
+   */
+  private Request request(String method, String path) {
+    return new Request(method, this.uri(path));
+  }
+
+  /**
+   * The URI of the given path on the server.
+   * @param path the path
+   * @return the URI
+   */
+  private URI uri(String path) {
+    return URI.create(
+      String.format("http://localhost:%d%s", this.server.getAddress().getPort(), path)
+    );
+  }
+
+  /**
+   * The reply's body, as text.
+   * @param reply the reply
+   * @return the body
+   * @throws IOException unexpected
+   */
+  private String text(Reply reply) throws IOException {
+    return EntityUtils.toString(new InputStreamEntity(reply.body()), StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Reads the stream, as text.
+   * @param input the stream
+   * @return the text
+   * @throws IOException unexpected
+   */
+  private static String read(InputStream input) throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final byte[] buffer = new byte[1024];
+    for (int read = input.read(buffer); read >= 0; read = input.read(buffer)) {
+      out.write(buffer, 0, read);
+    }
+    return new String(out.toByteArray(), StandardCharsets.UTF_8);
+  }
+
+  /**
+   * A text body.
+   */
+  private static final class Text implements Body {
+    private final byte[] text;
+
+    /**
+     * Ctor.
+     * @param text the text
+     */
+    Text(String text) {
+      this.text = text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public Optional<String> type() {
+      return Optional.of("application/x-www-form-urlencoded");
+    }
+
+    @Override
+    public long length() {
+      return this.text.length;
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+      out.write(this.text);
+    }
+  }
+}
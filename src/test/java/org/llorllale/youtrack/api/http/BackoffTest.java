@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.time.Duration;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Backoff}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class BackoffTest {
+  /**
+   * Delays double with each retry.
+   * @since 1.1.0
+   */
+  @Test
+  public void exponential() {
+    final Backoff backoff = new Backoff(Duration.ofMillis(100), Duration.ofHours(1), () -> 1.0);
+    assertThat(backoff.delay(0), is(Duration.ofMillis(100)));
+    assertThat(backoff.delay(3), is(Duration.ofMillis(800)));
+  }
+
+  /**
+   * Delays never exceed the cap.
+   * @since 1.1.0
+   */
+  @Test
+  public void capped() {
+    assertThat(
+      new Backoff(Duration.ofMillis(100), Duration.ofSeconds(1), () -> 1.0).delay(100),
+      is(Duration.ofSeconds(1))
+    );
+  }
+
+  /**
+   * Large base delays don't overflow into negative delays.
+   * @since 1.1.0
+   */
+  @Test
+  public void noOverflow() {
+    assertThat(
+      new Backoff(Duration.ofSeconds(10), Duration.ofMinutes(1), () -> 1.0).delay(40),
+      is(Duration.ofMinutes(1))
+    );
+  }
+
+  /**
+   * Delays are randomized between zero and the exponential delay.
+   * @since 1.1.0
+   */
+  @Test
+  public void jittered() {
+    assertThat(
+      new Backoff(Duration.ofMillis(100), Duration.ofHours(1), () -> 0.25).delay(2),
+      is(Duration.ofMillis(100))
+    );
+  }
+}
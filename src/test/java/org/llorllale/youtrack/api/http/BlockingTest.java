@@ -0,0 +1,84 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Blocking}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class BlockingTest {
+  private static final Request GET = new Request(
+    "GET", URI.create("http://localhost/issue/TST-1")
+  );
+
+  /**
+   * The calling thread gets the reply.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void waits() throws Exception {
+    assertThat(
+      new Blocking(
+        request -> CompletableFuture.completedFuture(new Reply(204, new Headers(), new byte[0]))
+      ).execute(GET).status(),
+      is(204)
+    );
+  }
+
+  /**
+   * Failed replies throw their cause.
+   * @throws Exception expected
+   * @since 1.1.0
+   */
+  @Test(expected = IOException.class)
+  public void failures() throws Exception {
+    final CompletableFuture<Reply> failed = new CompletableFuture<>();
+    failed.completeExceptionally(new IOException("reset"));
+    new Blocking(request -> failed).execute(GET);
+  }
+
+  /**
+   * Interrupted waits give up on the reply, and keep the thread's interrupted status.
+   * @throws Exception expected
+   * @since 1.1.0
+   */
+  @Test(expected = InterruptedIOException.class)
+  public void interrupted() throws Exception {
+    final CompletableFuture<Reply> pending = new CompletableFuture<>();
+    Thread.currentThread().interrupt();
+    try {
+      new Blocking(request -> pending).execute(GET);
+    } finally {
+      assertThat(Thread.interrupted(), is(true));
+      assertThat(pending.isCancelled(), is(true));
+    }
+  }
+}
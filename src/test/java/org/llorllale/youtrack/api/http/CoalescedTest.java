@@ -0,0 +1,212 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+// @checkstyle AvoidStaticImport (3 lines)
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.http.HttpHeaders;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.util.EntityUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Coalesced}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ */
+public final class CoalescedTest {
+  private HttpServer server;
+  private ExecutorService threads;
+  private AtomicInteger hits;
+
+  /**
+   * Starts a server that answers with the request's path, after a delay.
+   * @throws IOException unexpected
+   */
+  @Before
+  public void start() throws IOException {
+    this.hits = new AtomicInteger();
+    this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    this.threads = Executors.newCachedThreadPool();
+    this.server.setExecutor(this.threads);
+    this.server.createContext(
+      "/",
+      exchange -> {
+        this.hits.incrementAndGet();
+        LockSupport.parkNanos(300_000_000L);
+        final byte[] body = exchange.getRequestURI().getPath().getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+          out.write(body);
+        }
+        exchange.close();
+      }
+    );
+    this.server.start();
+  }
+
+  /**
+   * Stops the server.
+   */
+  @After
+  public void stop() {
+    this.server.stop(0);
+    this.threads.shutdownNow();
+  }
+
+  /**
+   * Concurrent identical requests share one call to the server.
+   * @since 1.1.0
+   */
+  @Test
+  public void shared() {
+    final Transport transport = new Coalesced(new Apache(new Pool(new Client())));
+    assertThat(
+      this.concurrently(5, i -> this.fetch(transport, this.get("/issue/TST-1", "token"))),
+      everyItem(is("/issue/TST-1"))
+    );
+    assertThat(this.hits.get(), is(1));
+  }
+
+  /**
+   * Requests on behalf of different users are not shared.
+   * @since 1.1.0
+   */
+  @Test
+  public void perSession() {
+    final Transport transport = new Coalesced(new Apache(new Pool(new Client())));
+    this.concurrently(2, i -> this.fetch(transport, this.get("/issue/TST-1", "token" + i)));
+    assertThat(this.hits.get(), is(2));
+  }
+
+  /**
+   * Requests sent after the response was received are sent anew.
+   * @since 1.1.0
+   */
+  @Test
+  public void sequential() {
+    final Transport transport = new Coalesced(new Apache(new Pool(new Client())));
+    this.fetch(transport, this.get("/issue/TST-1", "token"));
+    this.fetch(transport, this.get("/issue/TST-1", "token"));
+    assertThat(this.hits.get(), is(2));
+  }
+
+  /**
+   * Concurrent identical requests share the failure.
+   * @since 1.1.0
+   */
+  @Test
+  public void sharedFailure() {
+    final AtomicInteger calls = new AtomicInteger();
+    final Transport transport = new Coalesced(
+      request -> {
+        calls.incrementAndGet();
+        LockSupport.parkNanos(300_000_000L);
+        throw new IOException("reset");
+      }
+    );
+    assertThat(
+      this.concurrently(
+        5,
+        i -> {
+          try {
+            transport.execute(this.get("/issue/TST-1", "token")).close();
+            return "succeeded";
+          } catch (IOException e) {
+            return "failed";
+          }
+        }
+      ),
+      everyItem(is("failed"))
+    );
+    assertThat(calls.get(), is(1));
+  }
+
+  /**
+   * Runs the task concurrently.
+   * @param count how many times to run it
+   * @param task the task, given the run's index
+   * @return the results
+   */
+  private List<String> concurrently(int count, IntFunction<String> task) {
+    final ExecutorService workers = Executors.newFixedThreadPool(count);
+    try {
+      return IntStream.range(0, count)
+        .mapToObj(i -> CompletableFuture.supplyAsync(() -> task.apply(i), workers))
+        .collect(Collectors.toList())
+        .stream()
+        .map(CompletableFuture::join)
+        .collect(Collectors.toList());
+    } finally {
+      workers.shutdown();
+    }
+  }
+
+  /**
+   * A GET request for the path, on behalf of the given user.
+   * @param path the path
+   * @param token the user's token
+   * @return the request
+   */
+  private Request get(String path, String token) {
+    return new Request(
+      "GET",
+      URI.create(
+        String.format("http://localhost:%d%s", this.server.getAddress().getPort(), path)
+      ),
+      new Headers().with(HttpHeaders.AUTHORIZATION, token)
+    );
+  }
+
+  /**
+   * Executes the request.
+   * @param transport the transport
+   * @param request the request
+   * @return the response's body
+   */
+  private String fetch(Transport transport, Request request) {
+    try (Reply response = transport.execute(request)) {
+      return EntityUtils.toString(new InputStreamEntity(response.body()));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
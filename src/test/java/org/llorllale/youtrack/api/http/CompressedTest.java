@@ -0,0 +1,170 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+// @checkstyle AvoidStaticImport (4 lines)
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.util.EntityUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Compressed}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ */
+public final class CompressedTest {
+  private static final String PAYLOAD = String.join(
+    "", Collections.nCopies(100, "<issue id=\"TP-1\"><field name=\"State\"/></issue>")
+  );
+  private HttpServer server;
+
+  /**
+   * Starts a server that responds with a gzipped payload if the request accepts it.
+   * @throws IOException unexpected
+   */
+  @Before
+  public void start() throws IOException {
+    this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    this.server.createContext(
+      "/",
+      exchange -> {
+        byte[] body = PAYLOAD.getBytes(StandardCharsets.UTF_8);
+        final String accepted = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if (accepted != null && accepted.contains("gzip")) {
+          body = gzipped(body);
+          exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+        }
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+          out.write(body);
+        }
+      }
+    );
+    this.server.start();
+  }
+
+  /**
+   * Stops the server.
+   */
+  @After
+  public void stop() {
+    this.server.stop(0);
+  }
+
+  /**
+   * Compression is negotiated even if disabled in the decorated builder, and the payload is
+   * transparently decompressed.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void decompresses() throws Exception {
+    final Compressed compressed = new Compressed(
+      () -> new Client().get().disableContentCompression()
+    );
+    assertThat(this.fetch(compressed), is(PAYLOAD));
+  }
+
+  /**
+   * Bytes are counted before and after decompression.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void counts() throws Exception {
+    final Compressed compressed = new Compressed(new Client());
+    this.fetch(compressed);
+    assertThat(compressed.responses(), is(1L));
+    assertThat(compressed.decoded(), is((long) PAYLOAD.length()));
+    assertThat(compressed.wire(), lessThan(compressed.decoded()));
+  }
+
+  /**
+   * Each response's bytes are reported to the listener once it has been read.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void perResponse() throws Exception {
+    final List<Transfer> transfers = new ArrayList<>();
+    final Compressed compressed = new Compressed(new Client(), transfers::add);
+    this.fetch(compressed);
+    this.fetch(compressed);
+    assertThat(transfers, hasSize(2));
+    assertThat(transfers.get(0).uri(), is("/"));
+    assertThat(transfers.get(1).decoded(), is((long) PAYLOAD.length()));
+    assertThat(transfers.get(1).wire(), lessThan(transfers.get(1).decoded()));
+    assertThat(
+      transfers.get(0).wire() + transfers.get(1).wire(), is(compressed.wire())
+    );
+  }
+
+  /**
+   * Fetches the server's payload.
+   * @param compressed the client's builder
+   * @return the payload
+   * @throws IOException unexpected
+   */
+  private String fetch(Compressed compressed) throws IOException {
+    try (
+      CloseableHttpClient client = compressed.get().build();
+      CloseableHttpResponse response = client.execute(
+        new HttpGet(
+          String.format("http://localhost:%d/", this.server.getAddress().getPort())
+        )
+      )
+    ) {
+      return EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8);
+    }
+  }
+
+  /**
+   * Gzips the given bytes.
+   * @param bytes the bytes
+   * @return the gzipped bytes
+   * @throws IOException unexpected
+   */
+  private static byte[] gzipped(byte[] bytes) throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(bytes);
+    }
+    return out.toByteArray();
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.util.EntityUtils;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Counted}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class CountedTest {
+  /**
+   * Bytes read from the content are counted.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void countsContent() throws Exception {
+    final LongAdder bytes = new LongAdder();
+    EntityUtils.toString(new Counted(new StringEntity("<issue/>"), bytes::add));
+    assertThat(bytes.sum(), is(8L));
+  }
+
+  /**
+   * Bytes written out are counted.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void countsWritten() throws Exception {
+    final LongAdder bytes = new LongAdder();
+    new Counted(new StringEntity("<issues/>"), bytes::add).writeTo(new ByteArrayOutputStream());
+    assertThat(bytes.sum(), is(9L));
+  }
+
+  /**
+   * The end of the content is reported once, whether it's read to the end, closed, or both.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void reportsEndOnce() throws Exception {
+    final LongAdder ends = new LongAdder();
+    final Counted counted = new Counted(
+      new StringEntity("<project/>"), bytes -> { }, ends::increment
+    );
+    try (InputStream input = counted.getContent()) {
+      while (input.read() != -1) {
+        assertThat(ends.sum(), is(0L));
+      }
+    }
+    assertThat(ends.sum(), is(1L));
+    counted.getContent().close();
+    assertThat(ends.sum(), is(2L));
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Optional;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Headers}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ */
+public final class HeadersTest {
+  /**
+   * Names are matched regardless of case.
+   * @since 1.1.0
+   */
+  @Test
+  public void firstIgnoresCase() {
+    assertThat(
+      new Headers().with("ETag", "\"v1\"").first("etag"),
+      is(Optional.of("\"v1\""))
+    );
+  }
+
+  /**
+   * A missing header is empty.
+   * @since 1.1.0
+   */
+  @Test
+  public void missing() {
+    assertThat(new Headers().first("ETag").isPresent(), is(false));
+  }
+
+  /**
+   * Setting a header replaces its former values and leaves the original alone.
+   * @since 1.1.0
+   */
+  @Test
+  public void withReplaces() {
+    final Headers headers = new Headers().with("Accept", "text/xml");
+    assertThat(
+      headers.with("accept", "application/json").first("Accept"),
+      is(Optional.of("application/json"))
+    );
+    assertThat(headers.first("Accept"), is(Optional.of("text/xml")));
+  }
+
+  /**
+   * Setting a header keeps the others.
+   * @since 1.1.0
+   */
+  @Test
+  public void withKeepsOthers() {
+    assertThat(
+      new Headers().with("Accept", "text/xml").with("Cookie", "a=b").asList().size(),
+      is(2)
+    );
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.time.Duration;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.protocol.BasicHttpContext;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link KeepAlive}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ */
+public final class KeepAliveTest {
+  /**
+   * Responses without a hint are kept alive for the maximum.
+   * @since 1.1.0
+   */
+  @Test
+  public void noHint() {
+    assertThat(
+      new KeepAlive(Duration.ofSeconds(30)).getKeepAliveDuration(
+        this.response(), new BasicHttpContext()
+      ),
+      is(30_000L)
+    );
+  }
+
+  /**
+   * The server's hint is honored when it's shorter than the maximum.
+   * @since 1.1.0
+   */
+  @Test
+  public void shorterHint() {
+    final HttpResponse response = this.response();
+    response.addHeader("Keep-Alive", "timeout=5");
+    assertThat(
+      new KeepAlive(Duration.ofSeconds(30)).getKeepAliveDuration(
+        response, new BasicHttpContext()
+      ),
+      is(5_000L)
+    );
+  }
+
+  /**
+   * The server's hint is capped at the maximum.
+   * @since 1.1.0
+   */
+  @Test
+  public void longerHint() {
+    final HttpResponse response = this.response();
+    response.addHeader("Keep-Alive", "timeout=600");
+    assertThat(
+      new KeepAlive(Duration.ofSeconds(30)).getKeepAliveDuration(
+        response, new BasicHttpContext()
+      ),
+      is(30_000L)
+    );
+  }
+
+  /**
+   * A 200 OK response.
+   * @return the response
+   */
+  private HttpResponse response() {
+    return new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_OK, "OK");
+  }
+}
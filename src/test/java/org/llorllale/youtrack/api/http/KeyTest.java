@@ -0,0 +1,95 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+// @checkstyle AvoidStaticImport (4 lines)
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+import java.net.URI;
+import org.apache.http.HttpHeaders;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Key}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ */
+public final class KeyTest {
+  private static final URI URL = URI.create("http://localhost/issue/TST-1");
+
+  /**
+   * Identical requests have the same key.
+   * @since 1.1.0
+   */
+  @Test
+  public void identical() {
+    assertThat(
+      new Key(this.authorized("Bearer a")).asString(),
+      is(new Key(this.authorized("Bearer a")).asString())
+    );
+  }
+
+  /**
+   * Requests with different credentials have different keys.
+   * @since 1.1.0
+   */
+  @Test
+  public void credentials() {
+    assertThat(
+      new Key(this.authorized("Bearer a")).asString(),
+      not(new Key(this.authorized("Bearer b")).asString())
+    );
+  }
+
+  /**
+   * Credentials are not kept in the key as they are.
+   * @since 1.1.0
+   */
+  @Test
+  public void digestedCredentials() {
+    final String key = new Key(
+      this.authorized("Bearer secret").with("Cookie", "session=topsecret")
+    ).asString();
+    assertThat(key, not(containsString("secret")));
+  }
+
+  /**
+   * Requests with different methods have different keys.
+   * @since 1.1.0
+   */
+  @Test
+  public void method() {
+    assertThat(
+      new Key(new Request("GET", URL)).asString(),
+      not(new Key(new Request("POST", URL)).asString())
+    );
+  }
+
+  /**
+   * A GET request with an Authorization header.
+   * @param credentials the header's value
+   * @return the request
+   */
+  private Request authorized(String credentials) {
+    return new Request("GET", URL).with(HttpHeaders.AUTHORIZATION, credentials);
+  }
+}
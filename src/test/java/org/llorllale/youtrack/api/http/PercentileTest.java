@@ -0,0 +1,54 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.time.Duration;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Percentile}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class PercentileTest {
+  /**
+   * Picks the value by nearest rank.
+   * @since 1.1.0
+   */
+  @Test
+  public void nearestRank() {
+    final long[] values = {10L, 20L, 30L, 40L, 50L, 60L, 70L, 80L, 90L, 100L};
+    assertThat(new Percentile(values, 90.0).value(), is(Duration.ofNanos(90L)));
+    assertThat(new Percentile(values, 91.0).value(), is(Duration.ofNanos(100L)));
+    assertThat(new Percentile(values, 100.0).value(), is(Duration.ofNanos(100L)));
+  }
+
+  /**
+   * No values, no duration.
+   * @since 1.1.0
+   */
+  @Test
+  public void empty() {
+    assertThat(new Percentile(new long[0], 50.0).value(), is(Duration.ZERO));
+  }
+}
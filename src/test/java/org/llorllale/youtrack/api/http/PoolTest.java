@@ -0,0 +1,194 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+// @checkstyle AvoidStaticImport (3 lines)
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.util.EntityUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Pool}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ */
+public final class PoolTest {
+  private HttpServer server;
+  private ExecutorService threads;
+  private CountDownLatch meeting;
+
+  /**
+   * Starts a server that answers with the client's port at {@code /port}, and waits for a 
+   * second concurrent request at {@code /meet}.
+   * @throws IOException unexpected
+   */
+  @Before
+  public void start() throws IOException {
+    this.meeting = new CountDownLatch(2);
+    this.threads = Executors.newFixedThreadPool(2);
+    this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    this.server.setExecutor(this.threads);
+    this.server.createContext(
+      "/port",
+      exchange -> this.respond(exchange, exchange.getRemoteAddress().getPort())
+    );
+    this.server.createContext(
+      "/meet",
+      exchange -> {
+        this.meeting.countDown();
+        try {
+          this.respond(exchange, this.meeting.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IOException(e);
+        }
+      }
+    );
+    this.server.start();
+  }
+
+  /**
+   * Stops the server.
+   */
+  @After
+  public void stop() {
+    this.server.stop(0);
+    this.threads.shutdownNow();
+  }
+
+  /**
+   * Connections are kept alive and reused.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void reusesConnections() throws Exception {
+    try (CloseableHttpClient client = new Pool(new Client()).get().build()) {
+      assertThat(this.fetch(client, "/port"), is(this.fetch(client, "/port")));
+    }
+  }
+
+  /**
+   * Connections are not reused after their time to live.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void retiresConnections() throws Exception {
+    try (
+      CloseableHttpClient client = new Pool(new Client())
+        .ttl(Duration.ofMillis(1))
+        .get().build()
+    ) {
+      final String first = this.fetch(client, "/port");
+      Thread.sleep(50L);
+      assertThat(this.fetch(client, "/port"), not(first));
+    }
+  }
+
+  /**
+   * Per-route overrides take precedence over the default per-route limit.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void routeOverride() throws Exception {
+    try (
+      CloseableHttpClient client = new Pool(new Client())
+        .perRoute(1)
+        .route(this.url("/"), 2)
+        .get().build()
+    ) {
+      final CompletableFuture<String> other = CompletableFuture.supplyAsync(
+        () -> this.fetch(client, "/meet")
+      );
+      assertThat(this.fetch(client, "/meet"), is("true"));
+      assertThat(other.get(), is("true"));
+    }
+  }
+
+  /**
+   * Responds with {@code value}.
+   * @param exchange the exchange
+   * @param value the response's body
+   * @throws IOException unexpected
+   */
+  private void respond(HttpExchange exchange, Object value)
+      throws IOException {
+    final byte[] body = String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    exchange.sendResponseHeaders(200, body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+    exchange.close();
+  }
+
+  /**
+   * Fetches the resource at the given path.
+   * @param client the client
+   * @param path the path
+   * @return the resource's body
+   */
+  private String fetch(CloseableHttpClient client, String path) {
+    try (CloseableHttpResponse response = client.execute(new HttpGet(this.url(path).toString()))) {
+      return EntityUtils.toString(response.getEntity());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * The server's URL for the given path.
+   * @param path the path
+   * @return the url
+   * @throws UncheckedIOException if the url is malformed
+   */
+  private URL url(String path) {
+    try {
+      return new URL(
+        String.format("http://localhost:%d%s", this.server.getAddress().getPort(), path)
+      );
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link RetryAfter}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ */
+public final class RetryAfterTest {
+  private static final Clock CLOCK = Clock.fixed(
+    Instant.parse("2017-10-21T07:28:00Z"), ZoneOffset.UTC
+  );
+
+  /**
+   * Delays given in seconds.
+   * @since 1.1.0
+   */
+  @Test
+  public void seconds() {
+    assertThat(
+      new RetryAfter(this.response("120"), CLOCK).value(),
+      is(Optional.of(Duration.ofMinutes(2)))
+    );
+  }
+
+  /**
+   * Delays given as HTTP dates.
+   * @since 1.1.0
+   */
+  @Test
+  public void date() {
+    assertThat(
+      new RetryAfter(this.response("Sat, 21 Oct 2017 07:28:30 GMT"), CLOCK).value(),
+      is(Optional.of(Duration.ofSeconds(30)))
+    );
+  }
+
+  /**
+   * Dates in the past mean no delay.
+   * @since 1.1.0
+   */
+  @Test
+  public void past() {
+    assertThat(
+      new RetryAfter(this.response("Sat, 21 Oct 2017 07:00:00 GMT"), CLOCK).value(),
+      is(Optional.of(Duration.ZERO))
+    );
+  }
+
+  /**
+   * Invalid values are ignored.
+   * @since 1.1.0
+   */
+  @Test
+  public void invalid() {
+    assertThat(
+      new RetryAfter(this.response("soon"), CLOCK).value(),
+      is(Optional.empty())
+    );
+  }
+
+  /**
+   * No header, no delay.
+   * @since 1.1.0
+   */
+  @Test
+  public void absent() {
+    assertThat(
+      new RetryAfter(new Headers(), CLOCK).value(),
+      is(Optional.empty())
+    );
+  }
+
+  /**
+   * Headers with the given Retry-After.
+   * @param value the header's value
+   * @return the headers
+   */
+  private Headers response(String value) {
+    return new Headers().with("Retry-After", value);
+  }
+}
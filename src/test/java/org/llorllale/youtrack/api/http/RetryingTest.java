@@ -0,0 +1,177 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Retrying}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ */
+public final class RetryingTest {
+  private static final URI URL = URI.create("http://localhost/rest/issue/TST-1");
+
+  /**
+   * GETs are retried until they succeed.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void retriesTransientFailures() throws Exception {
+    final Script script = new Script(
+      this.reply(500), new IOException("reset"), this.reply(200)
+    );
+    assertThat(
+      this.fast(script).execute(new Request("GET", URL)).status(),
+      is(200)
+    );
+    assertThat(script.calls(), is(3));
+  }
+
+  /**
+   * Requests that are not idempotent are executed once.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void onlyIdempotent() throws Exception {
+    final Script script = new Script(this.reply(500), this.reply(200));
+    assertThat(
+      this.fast(script).execute(new Request("POST", URL)).status(),
+      is(500)
+    );
+    assertThat(script.calls(), is(1));
+  }
+
+  /**
+   * The last response is returned once the budget is spent.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void budget() throws Exception {
+    final Script script = new Script(this.reply(500), this.reply(200));
+    assertThat(
+      new Retrying(
+        script, new Backoff(Duration.ofMinutes(1), Duration.ofMinutes(1), () -> 1.0), 
+        Duration.ofSeconds(1)
+      ).execute(new Request("GET", URL)).status(),
+      is(500)
+    );
+    assertThat(script.calls(), is(1));
+  }
+
+  /**
+   * The last error is thrown once the budget is spent.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test(expected = IOException.class)
+  public void lastError() throws Exception {
+    new Retrying(
+      new Script(new IOException("refused"), this.reply(200)),
+      new Backoff(Duration.ofMinutes(1), Duration.ofMinutes(1), () -> 1.0), 
+      Duration.ofSeconds(1)
+    ).execute(new Request("GET", URL));
+  }
+
+  /**
+   * Errors that another attempt would not fix are not retried.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test(expected = UnknownHostException.class)
+  public void permanentErrors() throws Exception {
+    final Script script = new Script(new UnknownHostException("nowhere"), this.reply(200));
+    try {
+      this.fast(script).execute(new Request("GET", URL));
+    } finally {
+      assertThat(script.calls(), is(1));
+    }
+  }
+
+  /**
+   * An empty reply.
+   * @param status the reply's status
+   * @return the reply
+   */
+  private Reply reply(int status) {
+    return new Reply(status, new Headers(), new byte[0]);
+  }
+
+  /**
+   * Retries with millisecond delays.
+   * @param origin the transport
+   * @return the retrying transport
+   */
+  private Retrying fast(Transport origin) {
+    return new Retrying(
+      origin, new Backoff(Duration.ofMillis(1), Duration.ofMillis(1)), Duration.ofMinutes(1)
+    );
+  }
+
+  /**
+   * A transport that answers with the given responses or errors, in order.
+   * 
+   * @since 1.1.0
+   */
+  private static final class Script implements Transport {
+    private final Deque<Object> outcomes;
+    private int count;
+
+    /**
+     * Ctor.
+     * @param outcomes responses or IOExceptions
+     */
+    private Script(Object... outcomes) {
+      this.outcomes = new ArrayDeque<>(Arrays.asList(outcomes));
+    }
+
+    @Override
+    public Reply execute(Request request) throws IOException {
+      this.count += 1;
+      final Object outcome = this.outcomes.pop();
+      if (outcome instanceof IOException) {
+        throw (IOException) outcome;
+      }
+      return (Reply) outcome;
+    }
+
+    /**
+     * How many requests were executed.
+     * @return the number of requests executed
+     */
+    private int calls() {
+      return this.count;
+    }
+  }
+}
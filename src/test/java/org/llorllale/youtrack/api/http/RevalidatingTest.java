@@ -0,0 +1,167 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.util.EntityUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Revalidating}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ */
+public final class RevalidatingTest {
+  private HttpServer server;
+  private AtomicInteger downloads;
+
+  /**
+   * Starts a server whose resources' bodies are their paths, tagged with the same.
+   * @throws IOException unexpected
+   */
+  @Before
+  public void start() throws IOException {
+    this.downloads = new AtomicInteger();
+    this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    this.server.createContext(
+      "/",
+      exchange -> {
+        final String path = exchange.getRequestURI().getPath();
+        final String etag = String.format("\"%s\"", path);
+        exchange.getResponseHeaders().add("ETag", etag);
+        if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+          exchange.sendResponseHeaders(304, -1);
+        } else {
+          this.downloads.incrementAndGet();
+          final byte[] body = path.getBytes(StandardCharsets.UTF_8);
+          exchange.sendResponseHeaders(200, body.length);
+          try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+          }
+        }
+        exchange.close();
+      }
+    );
+    this.server.start();
+  }
+
+  /**
+   * Stops the server.
+   */
+  @After
+  public void stop() {
+    this.server.stop(0);
+  }
+
+  /**
+   * Resources that have not been modified are served from the cache.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void notModified() throws Exception {
+    final Transport transport = new Revalidating(new Apache());
+    this.fetch(transport, "/projects");
+    assertThat(this.fetch(transport, "/projects"), is("/projects"));
+    assertThat(this.downloads.get(), is(1));
+  }
+
+  /**
+   * The least recently used resources are evicted when the cache is full.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void evictsLeastRecentlyUsed() throws Exception {
+    final Transport transport = new Revalidating(new Apache(), 10L, 10);
+    this.fetch(transport, "/first");
+    this.fetch(transport, "/second");
+    assertThat(this.fetch(transport, "/first"), is("/first"));
+    assertThat(this.downloads.get(), is(3));
+  }
+
+  /**
+   * Bodies over the limit are not cached, but are received whole.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void overLimit() throws Exception {
+    final Transport transport = new Revalidating(new Apache(), 100L, 4);
+    this.fetch(transport, "/projects");
+    assertThat(this.fetch(transport, "/projects"), is("/projects"));
+    assertThat(this.downloads.get(), is(2));
+  }
+
+  /**
+   * The caller's request is not made conditional; a copy of it is.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void leavesRequestAlone() throws Exception {
+    final Transport transport = new Revalidating(new Apache());
+    this.fetch(transport, "/projects");
+    final Request request = this.get("/projects");
+    transport.execute(request).close();
+    assertThat(request.headers().first("If-None-Match").isPresent(), is(false));
+    assertThat(this.downloads.get(), is(1));
+  }
+
+  /**
+   * Fetches the resource at the given path.
+   * @param transport the transport
+   * @param path the path
+   * @return the resource's body
+   * @throws IOException unexpected
+   */
+  private String fetch(Transport transport, String path) throws IOException {
+    try (Reply response = transport.execute(this.get(path))) {
+      return EntityUtils.toString(
+        new InputStreamEntity(response.body()), StandardCharsets.UTF_8
+      );
+    }
+  }
+
+  /**
+   * A GET request for the given path.
+   * @param path the path
+   * @return the request
+   */
+  private Request get(String path) {
+    return new Request(
+      "GET",
+      URI.create(String.format("http://localhost:%d%s", this.server.getAddress().getPort(), path))
+    );
+  }
+}
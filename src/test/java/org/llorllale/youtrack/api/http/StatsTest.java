@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.time.Duration;
+import org.apache.http.pool.PoolStats;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Stats}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class StatsTest {
+  /**
+   * Percentiles are picked by nearest rank.
+   * @since 1.1.0
+   */
+  @Test
+  public void percentiles() {
+    final Stats stats = new Stats(new PoolStats(0, 0, 0, 10), 0L, 1L, 2L, 3L, 4L);
+    assertThat(stats.waited(50.0), is(Duration.ofNanos(2L)));
+    assertThat(stats.waited(99.0), is(Duration.ofNanos(4L)));
+    assertThat(stats.waited(0.0), is(Duration.ofNanos(1L)));
+  }
+
+  /**
+   * No checkouts, no waits.
+   * @since 1.1.0
+   */
+  @Test
+  public void noWaits() {
+    assertThat(
+      new Stats(new PoolStats(0, 0, 0, 10), 0L).waited(99.0),
+      is(Duration.ZERO)
+    );
+  }
+
+  /**
+   * Connections opened that are no longer in the pool have been closed.
+   * @since 1.1.0
+   */
+  @Test
+  public void closed() {
+    assertThat(new Stats(new PoolStats(2, 0, 3, 10), 7L).closed(), is(2L));
+  }
+
+  /**
+   * Combined stats sum the counts and merge the waits.
+   * @since 1.1.0
+   */
+  @Test
+  public void plus() {
+    final Stats stats = new Stats(new PoolStats(1, 0, 2, 10), 3L, 1L, 5L)
+      .plus(new Stats(new PoolStats(2, 1, 0, 10), 4L, 3L));
+    assertThat(stats.leased(), is(3));
+    assertThat(stats.pending(), is(1));
+    assertThat(stats.available(), is(2));
+    assertThat(stats.max(), is(20));
+    assertThat(stats.opened(), is(7L));
+    assertThat(stats.waited(50.0), is(Duration.ofNanos(3L)));
+  }
+}
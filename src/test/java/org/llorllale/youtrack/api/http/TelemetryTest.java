@@ -0,0 +1,190 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+// @checkstyle AvoidStaticImport (3 lines)
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.util.EntityUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Telemetry}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class TelemetryTest {
+  private HttpServer server;
+
+  /**
+   * Starts a server that answers every request with "ok".
+   * @throws IOException unexpected
+   */
+  @Before
+  public void start() throws IOException {
+    this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    this.server.createContext(
+      "/",
+      exchange -> {
+        exchange.sendResponseHeaders(200, 2);
+        try (OutputStream out = exchange.getResponseBody()) {
+          out.write(new byte[] {'o', 'k'});
+        }
+        exchange.close();
+      }
+    );
+    this.server.start();
+  }
+
+  /**
+   * Stops the server.
+   */
+  @After
+  public void stop() {
+    this.server.stop(0);
+  }
+
+  /**
+   * Reports on the pool's connections and checkouts.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void polled() throws Exception {
+    final Pool pool = new Pool(new Client());
+    try (CloseableHttpClient client = pool.get().build()) {
+      this.fetch(client);
+      this.fetch(client);
+      final Stats stats = pool.telemetry().stats();
+      assertThat(stats.opened(), is(1L));
+      assertThat(stats.available(), is(1));
+      assertThat(stats.leased(), is(0));
+      assertThat(stats.pending(), is(0));
+      assertThat(stats.max(), is(20));
+      assertThat(stats.waited(100.0).toNanos(), greaterThan(0L));
+    }
+  }
+
+  /**
+   * Pushes stats to the listener at most once per period.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void pushed() throws Exception {
+    final List<Stats> pushed = new ArrayList<>();
+    final Pool pool = new Pool(new Client())
+      .reporting(new Telemetry(Duration.ofHours(1), pushed::add));
+    try (CloseableHttpClient client = pool.get().build()) {
+      this.fetch(client);
+      this.fetch(client);
+      assertThat(pushed.size(), is(1));
+    }
+  }
+
+  /**
+   * Without a period, stats are pushed on every release.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void pushedEveryRelease() throws Exception {
+    final List<Stats> pushed = new ArrayList<>();
+    final Pool pool = new Pool(new Client())
+      .reporting(new Telemetry(Duration.ZERO, pushed::add));
+    try (CloseableHttpClient client = pool.get().build()) {
+      this.fetch(client);
+      this.fetch(client);
+      assertThat(pushed.size(), is(2));
+    }
+  }
+
+  /**
+   * Reports the combined state of every pool sharing the telemetry.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void severalPools() throws Exception {
+    final Telemetry telemetry = new Telemetry();
+    try (
+      CloseableHttpClient first = new Pool(new Client()).reporting(telemetry).get().build();
+      CloseableHttpClient second = new Pool(new Client()).reporting(telemetry).get().build()
+    ) {
+      this.fetch(first);
+      this.fetch(second);
+      final Stats stats = telemetry.stats();
+      assertThat(stats.opened(), is(2L));
+      assertThat(stats.available(), is(2));
+      assertThat(stats.max(), is(40));
+    }
+  }
+
+  /**
+   * Closed clients are no longer reported.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void closed() throws Exception {
+    final Pool pool = new Pool(new Client());
+    try (CloseableHttpClient client = pool.get().build()) {
+      this.fetch(client);
+    }
+    assertThat(pool.telemetry().stats().opened(), is(0L));
+  }
+
+  /**
+   * No client, no connections.
+   * @since 1.1.0
+   */
+  @Test
+  public void unattached() {
+    assertThat(new Telemetry().stats().opened(), is(0L));
+  }
+
+  /**
+   * Fetches the server's root.
+   * @param client the client
+   * @throws IOException unexpected
+   */
+  private void fetch(CloseableHttpClient client) throws IOException {
+    try (
+      CloseableHttpResponse response = client.execute(
+        new HttpGet(String.format("http://localhost:%d/", this.server.getAddress().getPort()))
+      )
+    ) {
+      EntityUtils.consume(response.getEntity());
+    }
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.net.URI;
+import java.net.URL;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Throttled}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ */
+public final class ThrottledTest {
+  /**
+   * Requests over an endpoint's rate fail fast with no patience.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test(expected = ThrottledException.class)
+  public void failsFast() throws Exception {
+    final Transport transport = this.throttled("issue");
+    transport.execute(this.get("http://localhost/youtrack/issue/TST-1"));
+    transport.execute(this.get("http://localhost/youtrack/issue/TST-2"));
+  }
+
+  /**
+   * Endpoints are limited separately.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void perEndpoint() throws Exception {
+    final Transport transport = this.throttled("issue");
+    transport.execute(this.get("http://localhost/youtrack/issue/TST-1"));
+    assertThat(
+      transport.execute(this.get("http://localhost/youtrack/user/jdoe"))
+        .status(),
+      is(200)
+    );
+    assertThat(
+      transport.execute(this.get("http://localhost/youtrack/user/jdoe"))
+        .status(),
+      is(200)
+    );
+  }
+
+  /**
+   * Endpoints without a bucket of their own share the default one.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test(expected = ThrottledException.class)
+  public void others() throws Exception {
+    final Transport transport = this.throttled("*");
+    transport.execute(this.get("http://localhost/youtrack/user/jdoe"));
+    transport.execute(this.get("http://localhost/youtrack/project/all"));
+  }
+
+  /**
+   * Limits only the given endpoint class, to one request per minute, with no patience.
+   * @param endpoint the endpoint class
+   * @return the transport
+   * @throws Exception unexpected
+   */
+  private Transport throttled(String endpoint) throws Exception {
+    final Map<String, TokenBucket> buckets = new HashMap<>();
+    buckets.put(endpoint, new TokenBucket(1.0 / 60, 1));
+    return new Throttled(
+      request -> new Reply(200, new Headers(), new byte[0]),
+      new URL("http://localhost/youtrack/"),
+      buckets,
+      Duration.ZERO
+    );
+  }
+
+  /**
+   * A GET request for the given URL.
+   * @param url the URL
+   * @return the request
+   */
+  private Request get(String url) {
+    return new Request("GET", URI.create(url));
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+// @checkstyle AvoidStaticImport (4 lines)
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+import java.time.Duration;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link TokenBucket}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class TokenBucketTest {
+  /**
+   * A full bucket allows a burst without waiting.
+   * @since 1.1.0
+   */
+  @Test
+  public void burst() {
+    final TokenBucket bucket = new TokenBucket(1.0, 3);
+    assertThat(bucket.tryAcquire(), is(true));
+    assertThat(bucket.tryAcquire(), is(true));
+    assertThat(bucket.tryAcquire(), is(true));
+    assertThat(bucket.tryAcquire(), is(false));
+    assertThat(bucket.acquired(), is(3L));
+    assertThat(bucket.refused(), is(1L));
+  }
+
+  /**
+   * Acquisitions over the rate wait for the next token.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void waits() throws Exception {
+    final TokenBucket bucket = new TokenBucket(20.0, 1);
+    bucket.tryAcquire();
+    final long start = System.nanoTime();
+    assertThat(bucket.acquire(Duration.ofSeconds(1)), is(true));
+    assertThat(System.nanoTime() - start, greaterThan(Duration.ofMillis(25).toNanos()));
+    assertThat(bucket.waited(50.0), greaterThan(Duration.ofMillis(25)));
+    assertThat(bucket.waited(50.0), lessThan(Duration.ofMillis(51)));
+  }
+
+  /**
+   * Acquisitions are refused if no token would be available in time.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void impatient() throws Exception {
+    final TokenBucket bucket = new TokenBucket(0.1, 1);
+    bucket.tryAcquire();
+    assertThat(bucket.acquire(Duration.ofMillis(10)), is(false));
+    assertThat(bucket.acquired(), is(1L));
+  }
+
+  /**
+   * No waits, no wait times.
+   * @since 1.1.0
+   */
+  @Test
+  public void noWaits() {
+    final TokenBucket bucket = new TokenBucket(1.0, 1);
+    bucket.tryAcquire();
+    assertThat(bucket.waited(99.0), is(Duration.ZERO));
+  }
+}
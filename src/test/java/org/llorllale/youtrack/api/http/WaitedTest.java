@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Waited}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class WaitedTest {
+  /**
+   * Waits add up.
+   * @since 1.1.0
+   */
+  @Test
+  public void addsUp() {
+    final long before = new Waited().nanos();
+    new Waited().add(10L);
+    new Waited().add(5L);
+    assertThat(new Waited().nanos() - before, is(15L));
+  }
+
+  /**
+   * Each thread has its own total.
+   * @throws Exception unexpected
+   * @since 1.1.0
+   */
+  @Test
+  public void perThread() throws Exception {
+    final long before = new Waited().nanos();
+    CompletableFuture.runAsync(() -> new Waited().add(10L)).get();
+    assertThat(new Waited().nanos(), is(before));
+  }
+}
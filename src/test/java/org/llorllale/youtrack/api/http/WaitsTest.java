@@ -0,0 +1,58 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.http;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Waits}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class WaitsTest {
+  /**
+   * Waits are sorted.
+   * @since 1.1.0
+   */
+  @Test
+  public void sorted() {
+    final Waits waits = new Waits(4);
+    waits.add(3L);
+    waits.add(1L);
+    waits.add(2L);
+    assertThat(waits.sorted(), is(new long[] {1L, 2L, 3L}));
+  }
+
+  /**
+   * Only the most recent waits are kept.
+   * @since 1.1.0
+   */
+  @Test
+  public void mostRecent() {
+    final Waits waits = new Waits(2);
+    waits.add(5L);
+    waits.add(1L);
+    waits.add(3L);
+    assertThat(waits.sorted(), is(new long[] {1L, 3L}));
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.mock.http;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import org.apache.http.HttpStatus;
+import org.llorllale.youtrack.api.http.AsyncTransport;
+import org.llorllale.youtrack.api.http.Headers;
+import org.llorllale.youtrack.api.http.Reply;
+import org.llorllale.youtrack.api.http.Request;
+
+/**
+ * Mock implementation of {@link AsyncTransport} suitable for unit tests.
+ * 
+ * <p>Each request receives the next of the given replies, right away; requests beyond the 
+ * replies fail with an {@link IOException}. The requests are recorded.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+public final class MockAsyncTransport implements AsyncTransport {
+  private final Deque<Reply> replies;
+  private final List<Request> requests;
+
+  /**
+   * Primary ctor.
+   * 
+   * @param replies the replies, in order
+   * @since 1.1.0
+   */
+  public MockAsyncTransport(Reply... replies) {
+    this.replies = new ArrayDeque<>(Arrays.asList(replies));
+    this.requests = new ArrayList<>();
+  }
+
+  /**
+   * Replies with status 200 OK and the given payloads.
+   * 
+   * @param payloads the replies' payloads, in order
+   * @since 1.1.0
+   */
+  public MockAsyncTransport(String... payloads) {
+    this(
+      Arrays.stream(payloads)
+        .map(p -> new Reply(HttpStatus.SC_OK, new Headers(), p.getBytes(StandardCharsets.UTF_8)))
+        .collect(Collectors.toList())
+        .toArray(new Reply[0])
+    );
+  }
+
+  @Override
+  public synchronized CompletableFuture<Reply> execute(Request request) {
+    this.requests.add(request);
+    final CompletableFuture<Reply> reply = new CompletableFuture<>();
+    if (this.replies.isEmpty()) {
+      reply.completeExceptionally(new IOException("No more replies"));
+    } else {
+      reply.complete(this.replies.pop());
+    }
+    return reply;
+  }
+
+  /**
+   * The requests received so far.
+   * 
+   * @return the requests, in order
+   * @since 1.1.0
+   */
+  public synchronized List<Request> requests() {
+    return Collections.unmodifiableList(new ArrayList<>(this.requests));
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.mock.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A local HTTP server that answers every request with the same body, except that it closes the 
+ * connection halfway through the body of its first response, as a server whose connection is 
+ * reset midway would.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ */
+public final class MockTruncatingServer implements AutoCloseable {
+  private static final int END_OF_HEADERS = 0x0d0a0d0a;
+  private final byte[] body;
+  private final ServerSocket socket;
+  private final AtomicInteger requests;
+
+  /**
+   * Ctor. Starts the server on a free port.
+   * 
+   * @param body the body of each response
+   * @throws IOException if the server can't be started
+   * @since 1.1.0
+   */
+  public MockTruncatingServer(byte[] body) throws IOException {
+    this.body = body.clone();
+    this.socket = new ServerSocket(0);
+    this.requests = new AtomicInteger();
+    final Thread thread = new Thread(this::serve, "mock-truncating-server");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /**
+   * The server's URL for the given path.
+   * 
+   * @param path the path
+   * @return the URL
+   * @since 1.1.0
+   */
+  public String url(String path) {
+    return String.format("http://localhost:%d%s", this.socket.getLocalPort(), path);
+  }
+
+  /**
+   * The number of requests received so far.
+   * 
+   * @return the number of requests received so far
+   * @since 1.1.0
+   */
+  public int requests() {
+    return this.requests.get();
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.socket.close();
+  }
+
+  /**
+   * Answers requests, one connection at a time, until closed.
+   */
+  private void serve() {
+    while (!this.socket.isClosed()) {
+      try (Socket client = this.socket.accept()) {
+        this.answer(client, this.requests.getAndIncrement() > 0);
+      } catch (IOException e) {
+        // @checkstyle ignore: the client's connection is closed either way
+      }
+    }
+  }
+
+  /**
+   * Reads a request and answers it.
+   * 
+   * @param client the client's socket
+   * @param whole whether to send the whole body, or else only half of it
+   * @throws IOException if the socket fails
+   */
+  private void answer(Socket client, boolean whole) throws IOException {
+    skipHeaders(client.getInputStream());
+    int length = this.body.length / 2;
+    if (whole) {
+      length = this.body.length;
+    }
+    final OutputStream output = client.getOutputStream();
+    output.write(
+      String.format("HTTP/1.1 200 OK\r\nContent-Length: %d\r\n\r\n", this.body.length)
+        .getBytes(StandardCharsets.US_ASCII)
+    );
+    output.write(this.body, 0, length);
+  }
+
+  /**
+   * Reads a request's line and headers, up to the empty line that ends them.
+   * 
+   * @param input the request
+   * @throws IOException if the socket fails
+   */
+  private static void skipHeaders(InputStream input) throws IOException {
+    int last = 0;
+    for (int read = 0; read != -1 && last != END_OF_HEADERS;) {
+      read = input.read();
+      last = last << Byte.SIZE | read;
+    }
+  }
+}
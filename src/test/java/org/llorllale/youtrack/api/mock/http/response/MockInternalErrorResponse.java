@@ -83,7 +83,7 @@ public final class MockInternalErrorResponse implements CloseableHttpResponse {
 
   @Override
   public HttpEntity getEntity() {
-    throw new UnsupportedOperationException("Not supported yet.");
+    return null;
   }
 
   @Override
@@ -118,7 +118,7 @@ public final class MockInternalErrorResponse implements CloseableHttpResponse {
 
   @Override
   public Header getFirstHeader(String name) {
-    throw new UnsupportedOperationException("Not supported yet.");
+    return null;
   }
 
   @Override
@@ -128,7 +128,7 @@ public final class MockInternalErrorResponse implements CloseableHttpResponse {
 
   @Override
   public Header[] getAllHeaders() {
-    throw new UnsupportedOperationException("Not supported yet.");
+    return new Header[] {};
   }
 
   @Override
@@ -188,6 +188,6 @@ public final class MockInternalErrorResponse implements CloseableHttpResponse {
 
   @Override
   public void close() throws IOException {
-    throw new UnsupportedOperationException("Not supported yet.");
+    // nothing to release
   }
 }
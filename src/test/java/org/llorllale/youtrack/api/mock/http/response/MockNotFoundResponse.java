@@ -195,6 +195,6 @@ public final class MockNotFoundResponse implements CloseableHttpResponse {
 
   @Override
   public void close() throws IOException {
-    throw new UnsupportedOperationException("Not supported yet.");
+    // nothing to release
   }
 }
@@ -41,7 +41,7 @@ import org.apache.http.params.HttpParams;
 @SuppressWarnings("checkstyle:MethodCount")
 public final class MockOkResponse implements CloseableHttpResponse {
   private final StatusLine statusLine;
-  private final HttpEntity payload;
+  private HttpEntity payload;
   private final List<Header> headers;
 
   /**
@@ -128,7 +128,7 @@ public final class MockOkResponse implements CloseableHttpResponse {
 
   @Override
   public void setEntity(HttpEntity entity) {
-    throw new UnsupportedOperationException("Not supported yet.");
+    this.payload = entity;
   }
 
   @Override
@@ -228,6 +228,6 @@ public final class MockOkResponse implements CloseableHttpResponse {
 
   @Override
   public void close() throws IOException {
-    throw new UnsupportedOperationException("Not supported yet.");
+    // nothing to release
   }
 }
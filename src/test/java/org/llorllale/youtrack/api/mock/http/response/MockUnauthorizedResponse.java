@@ -84,7 +84,7 @@ public final class MockUnauthorizedResponse implements CloseableHttpResponse {
 
   @Override
   public HttpEntity getEntity() {
-    throw new UnsupportedOperationException("Not supported yet.");
+    return null;
   }
 
   @Override
@@ -189,6 +189,6 @@ public final class MockUnauthorizedResponse implements CloseableHttpResponse {
 
   @Override
   public void close() throws IOException {
-    throw new UnsupportedOperationException("Not supported yet.");
+    // nothing to release
   }
 }
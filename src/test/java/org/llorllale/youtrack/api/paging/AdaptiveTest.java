@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.paging;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.time.Duration;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Adaptive}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class AdaptiveTest {
+  /**
+   * Starts with the initial size.
+   * @since 1.1.0
+   */
+  @Test
+  public void initial() {
+    assertThat(
+      new Adaptive(25, 100, Duration.ofSeconds(1), 1000L).size(),
+      is(25)
+    );
+  }
+
+  /**
+   * Fast responses grow the page size, at most doubling it.
+   * @since 1.1.0
+   */
+  @Test
+  public void growsWhenFast() {
+    final Adaptive paging = new Adaptive(10, 100, Duration.ofSeconds(1), 1_000_000L);
+    paging.fetched(10, 1000L, Duration.ofMillis(10));
+    assertThat(paging.size(), is(20));
+  }
+
+  /**
+   * The page size never exceeds the maximum.
+   * @since 1.1.0
+   */
+  @Test
+  public void neverAboveMax() {
+    final Adaptive paging = new Adaptive(80, 100, Duration.ofSeconds(1), 1_000_000L);
+    paging.fetched(80, 1000L, Duration.ofMillis(10));
+    assertThat(paging.size(), is(100));
+  }
+
+  /**
+   * Slow responses shrink the page size, at most halving it.
+   * @since 1.1.0
+   */
+  @Test
+  public void shrinksWhenSlow() {
+    final Adaptive paging = new Adaptive(100, 1000, Duration.ofSeconds(1), 1_000_000L);
+    paging.fetched(100, 1000L, Duration.ofSeconds(30));
+    assertThat(paging.size(), is(50));
+  }
+
+  /**
+   * Settles on the size expected to be served within the target latency.
+   * @since 1.1.0
+   */
+  @Test
+  public void targetsLatency() {
+    final Adaptive paging = new Adaptive(100, 1000, Duration.ofSeconds(1), 1_000_000L);
+    paging.fetched(100, 1000L, Duration.ofMillis(800));
+    assertThat(paging.size(), is(125));
+  }
+
+  /**
+   * Large payloads limit the page size.
+   * @since 1.1.0
+   */
+  @Test
+  public void limitedByPayload() {
+    final Adaptive paging = new Adaptive(100, 1000, Duration.ofSeconds(1), 150_000L);
+    paging.fetched(100, 100_000L, Duration.ofMillis(10));
+    assertThat(paging.size(), is(150));
+  }
+
+  /**
+   * Empty pages and unknown payload sizes don't disturb the page size.
+   * @since 1.1.0
+   */
+  @Test
+  public void ignoresEmptyPages() {
+    final Adaptive paging = new Adaptive(100, 1000, Duration.ofSeconds(1), 1000L);
+    paging.fetched(0, -1L, Duration.ofSeconds(30));
+    assertThat(paging.size(), is(100));
+  }
+}
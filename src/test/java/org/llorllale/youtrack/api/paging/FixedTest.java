@@ -0,0 +1,53 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.paging;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.time.Duration;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Fixed}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class FixedTest {
+  /**
+   * Defaults to pages of 10 items.
+   * @since 1.1.0
+   */
+  @Test
+  public void defaultSize() {
+    assertThat(new Fixed().size(), is(10));
+  }
+
+  /**
+   * The page size does not change with feedback.
+   * @since 1.1.0
+   */
+  @Test
+  public void ignoresFeedback() {
+    final Fixed paging = new Fixed(50);
+    paging.fetched(50, 1000L, Duration.ofMinutes(1));
+    assertThat(paging.size(), is(50));
+  }
+}
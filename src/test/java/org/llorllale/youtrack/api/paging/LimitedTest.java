@@ -0,0 +1,54 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.paging;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Limited}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class LimitedTest {
+  /**
+   * Pages are shrunk to the limit, after which no more pages are requested.
+   * @since 1.1.0
+   */
+  @Test
+  public void shrinksPages() {
+    final Limited paging = new Limited(25, new Fixed(10));
+    assertThat(paging.size(), is(10));
+    assertThat(paging.size(), is(10));
+    assertThat(paging.size(), is(5));
+    assertThat(paging.size(), is(0));
+  }
+
+  /**
+   * A limit of zero requests nothing.
+   * @since 1.1.0
+   */
+  @Test
+  public void zero() {
+    assertThat(new Limited(0, new Fixed()).size(), is(0));
+  }
+}
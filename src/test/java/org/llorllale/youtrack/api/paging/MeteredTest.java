@@ -0,0 +1,67 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.paging;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.time.Duration;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Metered}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class MeteredTest {
+  /**
+   * Counts one page per size requested.
+   * @since 1.1.0
+   */
+  @Test
+  public void pages() {
+    final Metered paging = new Metered(new Fixed(5));
+    paging.size();
+    paging.size();
+    assertThat(paging.pages(), is(2L));
+  }
+
+  /**
+   * Sums the known payload sizes.
+   * @since 1.1.0
+   */
+  @Test
+  public void bytes() {
+    final Metered paging = new Metered(new Fixed(5));
+    paging.fetched(5, 100L, Duration.ZERO);
+    paging.fetched(5, -1L, Duration.ZERO);
+    paging.fetched(5, 50L, Duration.ZERO);
+    assertThat(paging.bytes(), is(150L));
+  }
+
+  /**
+   * Sizes are decided by the decorated paging.
+   * @since 1.1.0
+   */
+  @Test
+  public void delegates() {
+    assertThat(new Metered(new Fixed(5)).size(), is(5));
+  }
+}
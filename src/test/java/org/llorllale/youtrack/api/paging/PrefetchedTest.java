@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.paging;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.time.Duration;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Prefetched}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class PrefetchedTest {
+  /**
+   * Defaults to one page ahead.
+   * @since 1.1.0
+   */
+  @Test
+  public void defaultDepth() {
+    assertThat(new Prefetched().prefetch(), is(1));
+  }
+
+  /**
+   * Page sizes and feedback are delegated to the decorated paging.
+   * @since 1.1.0
+   */
+  @Test
+  public void delegates() {
+    final Adaptive origin = new Adaptive(10, 100, Duration.ofSeconds(1), 1_000_000L);
+    final Prefetched paging = new Prefetched(3, origin);
+    paging.fetched(10, 1000L, Duration.ofMillis(10));
+    assertThat(paging.size(), is(origin.size()));
+    assertThat(paging.size(), is(20));
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.query;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link All}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ */
+public final class AllTest {
+  /**
+   * Joins all queries, skipping empty ones.
+   * @since 1.1.0
+   */
+  @Test
+  public void asString() {
+    assertThat(
+      new All(new Is("State", "Open"), new Text(""), new Text("#Unassigned")).asString(),
+      is("State: Open #Unassigned")
+    );
+  }
+
+  /**
+   * Queries with {@code or} in them don't leak into the others.
+   * @since 1.1.0
+   */
+  @Test
+  public void or() {
+    assertThat(
+      new All(new Is("project", "TST"), new Text("#Unresolved or #Bug")).asString(),
+      is("project: TST (#Unresolved or #Bug)")
+    );
+  }
+
+  /**
+   * A single query is left as is.
+   * @since 1.1.0
+   */
+  @Test
+  public void single() {
+    assertThat(new All(new Text(""), new Text("#Unassigned")).asString(), is("#Unassigned"));
+  }
+
+  /**
+   * Sort clauses are kept outside the parentheses, at the end of the query.
+   * @since 1.1.0
+   */
+  @Test
+  public void sortOutsideParentheses() {
+    assertThat(
+      new All(
+        new Text("#Bug or #Feature sort by: updated desc"),
+        new Is("project", "TST")
+      ).asString(),
+      is("(#Bug or #Feature) project: TST sort by: updated desc")
+    );
+  }
+
+  /**
+   * Words merely containing "or" don't cause parentheses.
+   * @since 1.1.0
+   */
+  @Test
+  public void wordsWithOr() {
+    assertThat(
+      new All(new Is("project", "TST"), new Text("#Minor #Support")).asString(),
+      is("project: TST #Minor #Support")
+    );
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.query;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Braced}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MultipleStringLiterals (500 lines)
+ */
+public final class BracedTest {
+  /**
+   * Encloses text with whitespace in braces.
+   * @since 1.1.0
+   */
+  @Test
+  public void asString() {
+    assertThat(
+      new Braced("In Progress").asString(),
+      is("{In Progress}")
+    );
+  }
+
+  /**
+   * Leaves text without whitespace as is.
+   * @since 1.1.0
+   */
+  @Test
+  public void noSpace() {
+    assertThat(new Braced("Open").asString(), is("Open"));
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017 George Aristy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.llorllale.youtrack.api.query;
+
+// @checkstyle AvoidStaticImport (2 lines)
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.time.LocalDate;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Updated}.
+ * @author George Aristy (george.aristy@gmail.com)
+ * @since 1.1.0
+ * @checkstyle MethodName (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class UpdatedTest {
+  /**
+   * Renders the range of dates.
+   * @since 1.1.0
+   */
+  @Test
+  public void asString() {
+    assertThat(
+      new Updated(LocalDate.of(2017, 1, 1), LocalDate.of(2017, 2, 1)).asString(),
+      is("updated: 2017-01-01 .. 2017-02-01")
+    );
+  }
+
+  /**
+   * Open-ended ranges end today.
+   * @since 1.1.0
+   */
+  @Test
+  public void untilToday() {
+    assertThat(
+      new Updated(LocalDate.of(2017, 1, 1)).asString(),
+      is("updated: 2017-01-01 .. Today")
+    );
+  }
+}